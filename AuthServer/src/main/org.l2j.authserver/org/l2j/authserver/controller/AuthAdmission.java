@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.authserver.controller;
+
+import org.l2j.commons.threading.PriorityThreadFactory;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.l2j.authserver.settings.AuthServerSettings.authQueueSize;
+import static org.l2j.authserver.settings.AuthServerSettings.authWorkers;
+
+/**
+ * Admits the login requests into a bounded pool of auth threads.
+ *
+ * The requests are served in arrival order, the RSA decryption, account lookup and password hashing of each one
+ * run in the auth threads, so a login storm never holds the threads that handle the other packets.
+ * When the queue is full the request is refused and the client should be asked to try again.
+ *
+ * @author JoeAlisson
+ */
+public final class AuthAdmission {
+
+    private final ThreadPoolExecutor workers;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    AuthAdmission(int workerCount, int queueSize) {
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueSize),
+                new PriorityThreadFactory("AuthWorker", Thread.NORM_PRIORITY), new ThreadPoolExecutor.AbortPolicy());
+        workers.prestartAllCoreThreads();
+    }
+
+    /**
+     * @param request the login request to be processed
+     * @return the position of the request on the queue or -1 if it was refused
+     */
+    public int submit(Runnable request) {
+        final int position = waiting.incrementAndGet();
+        try {
+            workers.execute(() -> {
+                waiting.decrementAndGet();
+                request.run();
+            });
+            return position;
+        } catch (RejectedExecutionException e) {
+            waiting.decrementAndGet();
+            return -1;
+        }
+    }
+
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    public static AuthAdmission getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final AuthAdmission INSTANCE = new AuthAdmission(authWorkers(), authQueueSize());
+    }
+}
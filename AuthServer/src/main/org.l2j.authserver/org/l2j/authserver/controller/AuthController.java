@@ -40,7 +40,6 @@ import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.spec.RSAKeyGenParameterSpec;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
@@ -68,7 +67,7 @@ public class AuthController {
     private static final String ACCOUNT_LOGIN_FAILED = "Account Login Failed {} : {}";
 
     private final Map<String, AuthClient> authedClients = new ConcurrentHashMap<>();
-    private final Map<String, FailedLoginAttempt> bruteForceProtection = new HashMap<>();
+    private final Map<String, FailedLoginAttempt> bruteForceProtection = new ConcurrentHashMap<>();
     private final BanManager banManager;
 
     private KeyGenerator blowfishKeysGenerator;
@@ -273,16 +272,11 @@ public class AuthController {
     }
 
     private void addLoginFailed(Account account, String password, AuthClient client) {
-        FailedLoginAttempt failedAttempt = bruteForceProtection.get(account.getLogin());
-        if(nonNull(failedAttempt)) {
-            failedAttempt.increaseCounter(password);
-        } else {
-            failedAttempt = new FailedLoginAttempt(password);
-            bruteForceProtection.put(account.getLogin(), failedAttempt);
-        }
+        final var failedAttempt = bruteForceProtection.compute(account.getLogin(), (login, attempt) -> isNull(attempt) ? new FailedLoginAttempt(password) : attempt.increaseCounter(password));
+        final var count = failedAttempt.getCount();
 
-        if(failedAttempt.getCount() >= authTriesBeforeBan())  {
-            LOGGER.info("Banning {} for {} seconds due to {} invalid user/pass attempts", client.getHostAddress(), loginBlockAfterBan(), failedAttempt.getCount());
+        if(count >= authTriesBeforeBan())  {
+            LOGGER.info("Banning {} for {} seconds due to {} invalid user/pass attempts", client.getHostAddress(), loginBlockAfterBan(), count);
             banManager.addBannedAdress(client.getHostAddress(), currentTimeMillis() + loginBlockAfterBan() * 1000L);
         }
     }
@@ -311,10 +305,15 @@ public class AuthController {
         private static final AuthController INSTANCE = new AuthController();
     }
 
+    /**
+     * Only changed inside the compute of the brute force map, which serializes the attempts of the same account.
+     */
     private static class FailedLoginAttempt {
 
-        private int _count = 1;
-        private long _lastAttempTime;
+        private static final long ATTEMPT_WINDOW = 300 * 1000;
+
+        private volatile int _count = 1;
+        private volatile long _lastAttempTime;
         private String _lastPassword;
 
         FailedLoginAttempt(String lastPassword) {
@@ -322,10 +321,10 @@ public class AuthController {
             _lastPassword = lastPassword;
         }
 
-        void increaseCounter(String password) {
+        FailedLoginAttempt increaseCounter(String password) {
             if (!_lastPassword.equals(password)) {
                 // check if theres a long time since last wrong try
-                if ((currentTimeMillis() - _lastAttempTime) < (300 * 1000)) {
+                if ((currentTimeMillis() - _lastAttempTime) < ATTEMPT_WINDOW) {
                     _count++;
                 } else {
                     _count = 1;
@@ -334,11 +333,16 @@ public class AuthController {
                 _lastPassword = password;
             }
             _lastAttempTime = currentTimeMillis();
+            return this;
         }
 
         int getCount() {
             return _count;
         }
+
+        boolean isExpired(long now) {
+            return now - _lastAttempTime >= ATTEMPT_WINDOW;
+        }
     }
 
     private class PurgeThread implements Runnable{
@@ -356,6 +360,9 @@ public class AuthController {
                     }
                 }
 
+                final var now = currentTimeMillis();
+                bruteForceProtection.values().removeIf(attempt -> attempt.isExpired(now));
+
                 if(authedClients.isEmpty()) {
                     scheduledPurge.cancel(false);
                 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.authserver.controller;
+
+import org.l2j.authserver.network.crypt.AuthCredentials;
+import org.l2j.authserver.network.crypt.ScrambledKeyPair;
+import org.l2j.commons.configuration.CommonSettings;
+import org.l2j.commons.configuration.Configurator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.security.spec.RSAKeyGenParameterSpec;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.l2j.authserver.settings.AuthServerSettings.authQueueSize;
+import static org.l2j.authserver.settings.AuthServerSettings.authWorkers;
+import static org.l2j.commons.util.Util.hash;
+import static org.l2j.commons.util.Util.isNullOrEmpty;
+
+/**
+ * Simulates a login storm against the auth admission, without network or database.
+ *
+ * Each simulated login is a real RSA encrypted login block that is decrypted and has its password hashed on the auth threads,
+ * the same work done for a client before the account lookup. Run it from the auth server directory to use its settings:
+ *
+ * <pre>java -p libs -m org.l2j.authserver/org.l2j.authserver.controller.AuthLoadGenerator [logins] [concurrent clients]</pre>
+ *
+ * @author JoeAlisson
+ */
+public final class AuthLoadGenerator {
+
+    private static final String LOG4J_CONFIGURATION = "log4j.configurationFile";
+
+    private static Logger logger;
+
+    private AuthLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int logins = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        final int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        configureLogger();
+        Configurator.getInstance().load();
+        final var keyPair = generateKeyPair();
+        final var blocks = encryptLogins(keyPair, logins);
+
+        final var admission = new AuthAdmission(authWorkers(), authQueueSize());
+        final var latencies = new long[logins];
+        final var refused = new AtomicInteger();
+        final var failed = new AtomicInteger();
+        final var maxPosition = new AtomicInteger();
+        final var done = new CountDownLatch(logins);
+        final ExecutorService senders = Executors.newFixedThreadPool(clients);
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < logins; i++) {
+            final int login = i;
+            senders.execute(() -> {
+                final long sent = System.nanoTime();
+                final int position = admission.submit(() -> {
+                    try {
+                        var credentials = AuthCredentials.decrypt(keyPair.getPair().getPrivate(), blocks[login], null);
+                        hash(credentials.password());
+                    } catch (GeneralSecurityException e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies[login] = System.nanoTime() - sent;
+                    done.countDown();
+                });
+
+                if(position < 0) {
+                    refused.incrementAndGet();
+                    latencies[login] = -1;
+                    done.countDown();
+                } else {
+                    maxPosition.accumulateAndGet(position, Math::max);
+                }
+            });
+        }
+
+        done.await();
+        final long elapsed = System.nanoTime() - start;
+        senders.shutdown();
+        senders.awaitTermination(1, TimeUnit.MINUTES);
+        admission.shutdown();
+
+        report(logins, clients, elapsed, latencies, refused.get(), failed.get(), maxPosition.get());
+    }
+
+    private static void configureLogger() {
+        if (isNullOrEmpty(System.getProperty(LOG4J_CONFIGURATION))) {
+            System.setProperty(LOG4J_CONFIGURATION, "log4j.xml");
+        }
+        logger = LoggerFactory.getLogger(AuthLoadGenerator.class);
+    }
+
+    private static ScrambledKeyPair generateKeyPair() throws GeneralSecurityException {
+        var keygen = KeyPairGenerator.getInstance("RSA");
+        keygen.initialize(new RSAKeyGenParameterSpec(1024, RSAKeyGenParameterSpec.F4));
+        return new ScrambledKeyPair(keygen.generateKeyPair());
+    }
+
+    /**
+     * Builds the login blocks in the old auth format, the user at 0x5E and the password at 0x6C.
+     */
+    private static byte[][] encryptLogins(ScrambledKeyPair keyPair, int logins) throws GeneralSecurityException {
+        final var cipher = Cipher.getInstance("RSA/ECB/nopadding");
+        cipher.init(Cipher.ENCRYPT_MODE, keyPair.getPair().getPublic());
+
+        final var blocks = new byte[logins][];
+        for (int i = 0; i < logins; i++) {
+            final var data = new byte[0x80];
+            final var user = ("user" + i).getBytes(StandardCharsets.US_ASCII);
+            final var password = ("password" + i).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(user, 0, data, 0x5E, Math.min(user.length, 0xE));
+            System.arraycopy(password, 0, data, 0x6C, Math.min(password.length, 0x10));
+            blocks[i] = cipher.doFinal(data);
+        }
+        return blocks;
+    }
+
+    private static void report(int logins, int clients, long elapsed, long[] latencies, int refused, int failed, int maxPosition) {
+        final var served = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        final var seconds = elapsed / 1_000_000_000d;
+
+        logger.info("Logins: {} from {} concurrent clients on {} auth threads (queue {}), hash {}", logins, clients, authWorkers(), authQueueSize(), CommonSettings.hashAlgorithm());
+        logger.info("Elapsed: {} s, throughput: {} logins/s", String.format("%.2f", seconds), Math.round(served.length / seconds));
+        logger.info("Served: {}, refused: {}, failed: {}, max queue position: {}", served.length, refused, failed, maxPosition);
+        if(served.length > 0) {
+            logger.info("Latency ms - p50: {}, p90: {}, p99: {}, max: {}", percentile(served, 50), percentile(served, 90), percentile(served, 99), String.format("%.2f", served[served.length - 1] / 1_000_000d));
+        }
+    }
+
+    private static String percentile(long[] sorted, int percentile) {
+        final int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percentile / 100d) - 1);
+        return String.format("%.2f", sorted[Math.max(0, index)] / 1_000_000d);
+    }
+}
@@ -40,6 +40,7 @@ import java.io.IOException;
 import java.security.PrivateKey;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Objects.nonNull;
 import static org.l2j.authserver.network.client.AuthClientState.AUTHED_LOGIN;
@@ -53,6 +54,7 @@ public final class AuthClient extends Client<Connection<AuthClient>> {
 
     private final long _connectionStartTime;
     private final Map<Integer,Integer> charactersOnServer = new HashMap<>();
+    private final AtomicBoolean authenticating = new AtomicBoolean();
 
     private AuthCrypt crypter;
     private ScrambledKeyPair _scrambledPair;
@@ -133,6 +135,17 @@ public final class AuthClient extends Client<Connection<AuthClient>> {
         }
 	}
 
+    /**
+     * @return true if the client had no login request waiting to be authenticated
+     */
+    public boolean startAuthentication() {
+        return authenticating.compareAndSet(false, true);
+    }
+
+    public void finishAuthentication() {
+        authenticating.set(false);
+    }
+
     public void addCharactersOnServer(int serverId, int players) {
         charactersOnServer.put(serverId, players);
     }
@@ -18,13 +18,16 @@
  */
 package org.l2j.authserver.network.client.packet.client2auth;
 
+import org.l2j.authserver.controller.AuthAdmission;
 import org.l2j.authserver.controller.AuthController;
 import org.l2j.authserver.network.client.packet.AuthClientPacket;
+import org.l2j.authserver.network.crypt.AuthCredentials;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
 
+import static org.l2j.authserver.network.client.packet.auth2client.LoginFail.LoginFailReason.REASON_SERVER_OVERLOADED;
 import static org.l2j.authserver.network.client.packet.auth2client.LoginFail.LoginFailReason.REASON_SYSTEM_ERROR;
 
 /**
@@ -65,32 +68,25 @@ public class RequestAuthLogin extends AuthClientPacket {
 
     @Override
     public void run() {
-        byte[] decUserData;
-        byte[] decAuthData = null;
-        try {
-            Cipher rsaCipher = Cipher.getInstance("RSA/ECB/nopadding");
-            rsaCipher.init(Cipher.DECRYPT_MODE, client.getRSAPrivateKey());
-            decUserData = rsaCipher.doFinal(userData, 0x00, 0x80);
-
-            if(useNewAuth) {
-                decAuthData = rsaCipher.doFinal(authData, 0x00, 0x80);
-            }
-        } catch (Exception e) {
-            logger.warn(e.getMessage(), e);
-            client.close(REASON_SYSTEM_ERROR);
+        if(!client.startAuthentication()) {
             return;
         }
 
-        String user;
-        String password;
-        if(useNewAuth) {
-            user = new String(decUserData, 0x4E, 0x32).trim().toLowerCase() + new String(decAuthData, 0x4E, 0xE).trim().toLowerCase();
-            password = new String(decAuthData, 0x5C, 0x10).trim();
-        } else {
-            user = new String(decUserData, 0x5E, 0xE).trim().toLowerCase();
-            password = new String(decUserData, 0x6C, 0x10).trim();
+        if(AuthAdmission.getInstance().submit(this::authenticate) < 0) {
+            client.finishAuthentication();
+            client.close(REASON_SERVER_OVERLOADED);
         }
+    }
 
-        AuthController.getInstance().authenticate(client, user, password);
+    private void authenticate() {
+        try {
+            var credentials = AuthCredentials.decrypt(client.getRSAPrivateKey(), userData, useNewAuth ? authData : null);
+            AuthController.getInstance().authenticate(client, credentials.user(), credentials.password());
+        } catch (GeneralSecurityException e) {
+            logger.warn(e.getMessage(), e);
+            client.close(REASON_SYSTEM_ERROR);
+        } finally {
+            client.finishAuthentication();
+        }
     }
 }
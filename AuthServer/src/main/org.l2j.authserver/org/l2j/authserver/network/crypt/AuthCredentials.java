@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.authserver.network.crypt;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * The user and password sent by the client on the RSA encrypted login blocks.
+ *
+ * @author JoeAlisson
+ */
+public record AuthCredentials(String user, String password) {
+
+    private static final ThreadLocal<Cipher> RSA_CIPHER = new ThreadLocal<>();
+
+    /**
+     * @param key the private key of the client's key pair
+     * @param userData the encrypted user block
+     * @param authData the encrypted auth block of the new auth format or null
+     * @return the decrypted credentials
+     * @throws GeneralSecurityException if the blocks can't be decrypted
+     */
+    public static AuthCredentials decrypt(PrivateKey key, byte[] userData, byte[] authData) throws GeneralSecurityException {
+        final var rsaCipher = rsaCipher();
+        rsaCipher.init(Cipher.DECRYPT_MODE, key);
+        final var decUserData = rsaCipher.doFinal(userData, 0x00, 0x80);
+
+        if(nonNull(authData)) {
+            final var decAuthData = rsaCipher.doFinal(authData, 0x00, 0x80);
+            return new AuthCredentials(new String(decUserData, 0x4E, 0x32).trim().toLowerCase() + new String(decAuthData, 0x4E, 0xE).trim().toLowerCase(),
+                    new String(decAuthData, 0x5C, 0x10).trim());
+        }
+        return new AuthCredentials(new String(decUserData, 0x5E, 0xE).trim().toLowerCase(), new String(decUserData, 0x6C, 0x10).trim());
+    }
+
+    /**
+     * The auth threads are a fixed set, so each one keeps its own cipher instead of looking up a new one per login.
+     */
+    private static Cipher rsaCipher() throws GeneralSecurityException {
+        var cipher = RSA_CIPHER.get();
+        if(isNull(cipher)) {
+            cipher = Cipher.getInstance("RSA/ECB/nopadding");
+            RSA_CIPHER.set(cipher);
+        }
+        return cipher;
+    }
+}
@@ -32,6 +32,8 @@ public class AuthServerSettings {
     private static boolean acceptNewGameServer;
     private static String usernameTemplate;
     private static int gmMinimumLevel;
+    private static int authWorkers;
+    private static int authQueueSize;
 
     private AuthServerSettings() {
         // helper class
@@ -48,6 +50,11 @@ public class AuthServerSettings {
         acceptNewGameServer = settingsFile.getBoolean("AcceptNewGameServer", false);
         usernameTemplate = settingsFile.getString("UsernameTemplate", "[A-Za-z0-9_]{5,32}");
         gmMinimumLevel = settingsFile.getInt("GMMinLevel", 100);
+        authWorkers = settingsFile.getInt("AuthWorkers", 0);
+        if(authWorkers <= 0) {
+            authWorkers = Runtime.getRuntime().availableProcessors();
+        }
+        authQueueSize = Math.max(1, settingsFile.getInt("AuthQueueSize", 4096));
     }
 
     public static String gameServerListenHost() {
@@ -90,4 +97,12 @@ public class AuthServerSettings {
         return gmMinimumLevel;
     }
 
+    public static int authWorkers() {
+        return authWorkers;
+    }
+
+    public static int authQueueSize() {
+        return authQueueSize;
+    }
+
 }
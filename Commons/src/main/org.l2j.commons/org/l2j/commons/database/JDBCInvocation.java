@@ -21,7 +21,6 @@ package org.l2j.commons.database;
 import io.github.joealisson.primitive.HashIntMap;
 import io.github.joealisson.primitive.IntKeyValue;
 import io.github.joealisson.primitive.IntMap;
-import org.l2j.commons.cache.CacheFactory;
 import org.l2j.commons.database.annotation.Column;
 import org.l2j.commons.database.annotation.NonUpdatable;
 import org.l2j.commons.database.annotation.Query;
@@ -30,13 +29,13 @@ import org.l2j.commons.database.helpers.EntityBasedStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.cache.Cache;
 import java.lang.reflect.*;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -57,8 +56,8 @@ class JDBCInvocation implements InvocationHandler {
     private static final String DUPLICATE_UPDATE_PATTERN = "$1=VALUES($1)";
     private static final String ESCAPE_KEYWORD = "`";
 
-    private static final Cache<Method, QueryDescriptor> descriptors = CacheFactory.getInstance().getCache("sql-descriptors");
-    private static final Cache<Class<?>, QueryDescriptor> saveDescriptors = CacheFactory.getInstance().getCache("sql-save-descriptors");
+    private static final Map<Method, QueryDescriptor> descriptors = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, QueryDescriptor> saveDescriptors = new ConcurrentHashMap<>();
 
     JDBCInvocation() {
     }
@@ -164,10 +163,10 @@ class JDBCInvocation implements InvocationHandler {
     }
 
     private QueryDescriptor buildSaveQuery(Class<?> clazz, Method method, Table table) {
-        if(saveDescriptors.containsKey(clazz)) {
-            return saveDescriptors.get(clazz);
-        }
+        return saveDescriptors.computeIfAbsent(clazz, c -> buildSaveDescriptor(c, method, table));
+    }
 
+    private QueryDescriptor buildSaveDescriptor(Class<?> clazz, Method method, Table table) {
         var fields = fieldsOf(clazz);
         Map<String, IntKeyValue<Class<?>>> parameterMap = new HashMap<>(fields.size());
 
@@ -178,10 +177,7 @@ class JDBCInvocation implements InvocationHandler {
 
         var values = "?".repeat(parameterMap.size()).chars().mapToObj(Character::toString).collect(Collectors.joining(",", "(", ")"));
         var update = columns.replaceAll(COLUMN_PATTERN, DUPLICATE_UPDATE_PATTERN);
-        var query = new QueryDescriptor(method, String.format(INSERT_TEMPLATE, table.value(), "(" + columns + ")", values, update), new EntityBasedStrategy(parameterMap));
-
-        saveDescriptors.put(clazz, query);
-        return query;
+        return new QueryDescriptor(method, String.format(INSERT_TEMPLATE, table.value(), "(" + columns + ")", values, update), new EntityBasedStrategy(parameterMap));
     }
 
     private String fieldToColumnName(Field field) {
@@ -189,13 +185,7 @@ class JDBCInvocation implements InvocationHandler {
     }
 
     private QueryDescriptor buildQuery(final Method method)  {
-        if(descriptors.containsKey(method)) {
-            return descriptors.get(method);
-        }
-        var descriptor = buildDescriptor(method);
-        descriptors.put(method, descriptor);
-
-        return descriptor;
+        return descriptors.computeIfAbsent(method, this::buildDescriptor);
     }
 
     private QueryDescriptor buildDescriptor(Method method) {
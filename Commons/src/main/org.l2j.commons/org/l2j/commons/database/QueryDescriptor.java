@@ -50,6 +50,8 @@ public class QueryDescriptor implements AutoCloseable {
     private final Method method;
     private final MapParameterStrategy strategy;
     private final boolean isUpdate;
+    private final boolean scrollResult;
+    private final int batchIndex;
     private boolean hasResultSetConsumer;
     private boolean hasTypeConsumer;
 
@@ -67,6 +69,10 @@ public class QueryDescriptor implements AutoCloseable {
         this.strategy = strategy;
         this.isUpdate = !SELECT_PATTERN.matcher(query).matches();
 
+        final var queryAnnotation = method.getAnnotation(Query.class);
+        this.scrollResult = nonNull(queryAnnotation) && queryAnnotation.scrollResult();
+        this.batchIndex = nonNull(queryAnnotation) ? queryAnnotation.batchIndex() : -1;
+
         var size = method.getParameterCount();
         if(size > 0 && method.getParameterTypes()[size -1] == Consumer.class) {
             if(ResultSet.class.isAssignableFrom((Class<?>)((ParameterizedType) method.getGenericParameterTypes()[size -1]).getActualTypeArguments()[0])) {
@@ -82,19 +88,12 @@ public class QueryDescriptor implements AutoCloseable {
     }
 
     public boolean isBatch(Object[] args) {
-        var batchIndex = getBatchIndex();
-
         if(batchIndex < 0 || batchIndex >= args.length) {
             return false;
         }
         return isBatchSupported(args[batchIndex]);
     }
 
-    private int getBatchIndex() {
-        final var queryAnnotation = method.getAnnotation(Query.class);
-        return nonNull(queryAnnotation) ? queryAnnotation.batchIndex() : -1;
-    }
-
     private boolean isBatchSupported(Object batchedArg) {
         return nonNull(supporterHandler(batchedArg.getClass()));
     }
@@ -144,9 +143,8 @@ public class QueryDescriptor implements AutoCloseable {
     }
 
     private PreparedStatement createPreparedStatement(Connection con) throws SQLException {
-        var annotation = method.getAnnotation(Query.class);
         PreparedStatement st;
-        if(nonNull(annotation) && annotation.scrollResult()) {
+        if(scrollResult) {
             st = con.prepareStatement(query, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
         } else if(isUpdate) {
             st = con.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
@@ -158,7 +156,6 @@ public class QueryDescriptor implements AutoCloseable {
 
     @SuppressWarnings("unchecked")
     private void executeBatch(PreparedStatement statement, Object[] args) throws SQLException {
-        final var batchIndex = getBatchIndex();
         final var batchArg = args[batchIndex];
         final var supporter = supporterHandler(batchArg.getClass());
         final var handler = supporter.getHandler();
@@ -18,20 +18,15 @@
  */
 package org.l2j.commons.database.handler;
 
-import org.l2j.commons.database.HandlersSupport;
 import org.l2j.commons.database.QueryDescriptor;
 import org.l2j.commons.database.TypeHandler;
-import org.l2j.commons.database.annotation.Column;
-import org.l2j.commons.util.Util;
+import org.l2j.commons.database.helpers.EntityMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -58,32 +53,22 @@ public class EntityHandler implements TypeHandler<Object> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Object handleType(ResultSet resultSet, Class<?> type) throws SQLException {
-        try {
-            var instance = type.getDeclaredConstructor().newInstance();
-            var fields = Util.fieldsOf(type);
+        var mapper = EntityMapper.of(type);
+        var instance = mapper.newInstance();
 
-            var metaData = resultSet.getMetaData();
-            for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                var columnName = metaData.getColumnLabel(i);
+        var metaData = resultSet.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            var columnName = metaData.getColumnLabel(i);
 
-                Field field = findField(fields, columnName);
-                if(isNull(field)) {
-                    LOGGER.debug("There is no field with name {} on Type {}",  columnName, type.getName());
-                    continue;
-                }
-                if(field.trySetAccessible()) {
-                    var handler = HandlersSupport.handlerFromField(field);
-                    field.set(instance, handler.handleColumn(resultSet, i, field.getType()));
-                } else {
-                    throw new SQLException("No accessible field " + field.getName() + " On type " + type );
-                }
+            var field = mapper.column(columnName);
+            if(isNull(field)) {
+                LOGGER.debug("There is no field with name {} on Type {}",  columnName, type.getName());
+                continue;
             }
-            return instance;
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new SQLException(e);
+            field.setFromColumn(instance, resultSet, i);
         }
+        return instance;
     }
 
     @Override
@@ -91,19 +76,6 @@ public class EntityHandler implements TypeHandler<Object> {
         return null;
     }
 
-    private Field findField(List<Field> fields, String columnName) {
-        for (Field field : fields) {
-            if(field.isAnnotationPresent(Column.class)) {
-                if(field.getAnnotation(Column.class).value().equalsIgnoreCase(columnName)) {
-                    return field;
-                }
-            } else if(field.getName().equalsIgnoreCase(columnName)) {
-                return field;
-            }
-        }
-        return  null;
-    }
-
     @Override
     public void setParameter(PreparedStatement statement, int parameterIndex, Object arg) {
         throw new UnsupportedOperationException();
@@ -21,6 +21,7 @@ package org.l2j.commons.database.helpers;
 import io.github.joealisson.primitive.IntKeyValue;
 import org.l2j.commons.database.HandlersSupport;
 import org.l2j.commons.database.TypeHandler;
+import org.l2j.commons.database.helpers.EntityMapper.FieldAccessor;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -28,17 +29,31 @@ import java.util.Map;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static org.l2j.commons.util.Util.findField;
 
 /**
  * @author JoeAlisson
  */
 public class EntityBasedStrategy implements MapParameterStrategy {
 
-    private final Map<String, IntKeyValue<Class<?>>> parametersInfo;
+    private final String[] fieldNames;
+    private final int[] parameterIndexes;
+    private final TypeHandler<Object>[] handlers;
+    private volatile Binding binding;
 
+    @SuppressWarnings("unchecked")
     public EntityBasedStrategy(Map<String, IntKeyValue<Class<?>>> parametersInfo) {
-        this.parametersInfo = parametersInfo;
+        var size = parametersInfo.size();
+        fieldNames = new String[size];
+        parameterIndexes = new int[size];
+        handlers = new TypeHandler[size];
+
+        var i = 0;
+        for (var parameterInfo : parametersInfo.entrySet()) {
+            fieldNames[i] = parameterInfo.getKey();
+            parameterIndexes[i] = parameterInfo.getValue().getKey();
+            handlers[i] = (TypeHandler<Object>) HandlersSupport.handlerFromClass(parameterInfo.getValue().getValue());
+            i++;
+        }
     }
 
     @Override
@@ -49,30 +64,33 @@ public class EntityBasedStrategy implements MapParameterStrategy {
         setParameters(statement, args[0]);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void setParameters(PreparedStatement statement, Object entity) throws SQLException {
-        try {
-            var clazz = entity.getClass();
-            for (var parameterInfo : parametersInfo.entrySet()) {
-                var field = findField(clazz, parameterInfo.getKey());
-                if(nonNull(field) && field.trySetAccessible()) {
-                    var argumentIndex = parameterInfo.getValue().getKey();
-                    var value = field.get(entity);
-                    var type = parameterInfo.getValue().getValue();
-                    var handler = (TypeHandler<Object>) HandlersSupport.handlerFromClass(type);
-                    if(nonNull(value)) {
-                        handler.setParameter(statement, argumentIndex, value);
-                    } else {
-                        handler.setParameter(statement, argumentIndex, handler.defaultValue());
-                    }
-                } else {
-                    throw new SQLException("No accessible field " + field.getName() + " On type " + clazz );
-                }
+        var accessors = bind(entity.getClass());
+        for (int i = 0; i < accessors.length; i++) {
+            var accessor = accessors[i];
+            if(isNull(accessor)) {
+                throw new SQLException("No accessible field " + fieldNames[i] + " On type " + entity.getClass());
             }
-        } catch (IllegalAccessException e) {
-            throw new SQLException(e);
+            var value = accessor.get(entity);
+            var handler = handlers[i];
+            handler.setParameter(statement, parameterIndexes[i], nonNull(value) ? value : handler.defaultValue());
         }
+    }
+
+    private FieldAccessor[] bind(Class<?> type) {
+        var current = binding;
+        if(isNull(current) || current.type != type) {
+            var mapper = EntityMapper.of(type);
+            var accessors = new FieldAccessor[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                accessors[i] = mapper.field(fieldNames[i]);
+            }
+            binding = current = new Binding(type, accessors);
+        }
+        return current.accessors;
+    }
 
+    private static record Binding(Class<?> type, FieldAccessor[] accessors) {
     }
 }
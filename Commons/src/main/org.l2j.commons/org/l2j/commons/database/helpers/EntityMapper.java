@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.commons.database.helpers;
+
+import org.l2j.commons.database.HandlersSupport;
+import org.l2j.commons.database.TypeHandler;
+import org.l2j.commons.database.annotation.Column;
+import org.l2j.commons.util.Util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Entity type compiled once into method handles to its constructor and fields.
+ *
+ * @author JoeAlisson
+ */
+public final class EntityMapper {
+
+    private static final Map<Class<?>, EntityMapper> MAPPERS = new ConcurrentHashMap<>();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    private final Map<String, FieldAccessor> columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, FieldAccessor> fields = new HashMap<>();
+
+    private EntityMapper(Class<?> type) {
+        this.type = type;
+        this.constructor = compileConstructor(type);
+
+        for (Field field : Util.fieldsOf(type)) {
+            if(Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            var accessor = new FieldAccessor(field);
+            columns.putIfAbsent(field.isAnnotationPresent(Column.class) ? field.getAnnotation(Column.class).value() : field.getName(), accessor);
+            fields.putIfAbsent(field.getName(), accessor);
+        }
+    }
+
+    private static MethodHandle compileConstructor(Class<?> type) {
+        try {
+            var constructor = type.getDeclaredConstructor();
+            constructor.trySetAccessible();
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    public static EntityMapper of(Class<?> type) {
+        return MAPPERS.computeIfAbsent(type, EntityMapper::new);
+    }
+
+    public Object newInstance() throws SQLException {
+        if(isNull(constructor)) {
+            throw new SQLException("No accessible default constructor on type " + type);
+        }
+        try {
+            return constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new SQLException(e);
+        }
+    }
+
+    /**
+     * @param columnName the column label, case insensitive
+     * @return the accessor to the field mapped to the column or null if there is no such field.
+     */
+    public FieldAccessor column(String columnName) {
+        return columns.get(columnName);
+    }
+
+    /**
+     * @param fieldName the field name
+     * @return the accessor to the field or null if there is no such field.
+     */
+    public FieldAccessor field(String fieldName) {
+        return fields.get(fieldName);
+    }
+
+    public static final class FieldAccessor {
+        private final String name;
+        private final Class<?> type;
+        private final TypeHandler<Object> handler;
+        private MethodHandle getter;
+        private MethodHandle setter;
+
+        @SuppressWarnings("unchecked")
+        private FieldAccessor(Field field) {
+            name = field.getName();
+            type = field.getType();
+            handler = (TypeHandler<Object>) HandlersSupport.handlerFromField(field);
+
+            if(field.trySetAccessible()) {
+                var lookup = MethodHandles.lookup();
+                try {
+                    getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                    setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                } catch (IllegalAccessException e) {
+                    setter = null;
+                }
+            }
+        }
+
+        public Object get(Object entity) throws SQLException {
+            if(isNull(getter)) {
+                throw new SQLException("No accessible field " + name + " On type " + entity.getClass());
+            }
+            try {
+                return (Object) getter.invokeExact(entity);
+            } catch (Throwable e) {
+                throw new SQLException(e);
+            }
+        }
+
+        public void setFromColumn(Object entity, ResultSet resultSet, int column) throws SQLException {
+            if(isNull(setter)) {
+                throw new SQLException("No accessible field " + name + " On type " + entity.getClass());
+            }
+            var value = handler.handleColumn(resultSet, column, type);
+            try {
+                setter.invokeExact(entity, value);
+            } catch (Throwable e) {
+                throw new SQLException(e);
+            }
+        }
+    }
+}
@@ -33,28 +33,38 @@ import static java.util.Objects.isNull;
  */
 public class IndexedValuesStrategy implements MapParameterStrategy {
 
-    private final IntMap<IntKeyValue<Class<?>>> parametersInfo;
+    private final int[] parameterIndexes;
+    private final int[] argumentIndexes;
+    private final TypeHandler<Object>[] handlers;
 
+    @SuppressWarnings("unchecked")
     public IndexedValuesStrategy(IntMap<IntKeyValue<Class<?>>> parameters) {
-        this.parametersInfo =  parameters;
+        var size = parameters.size();
+        parameterIndexes = new int[size];
+        argumentIndexes = new int[size];
+        handlers = new TypeHandler[size];
+
+        var i = 0;
+        for (var parameterInfo : parameters.entrySet()) {
+            parameterIndexes[i] = parameterInfo.getKey();
+            if (isNull(parameterInfo.getValue())) {
+                argumentIndexes[i] = -1;
+            } else {
+                argumentIndexes[i] = parameterInfo.getValue().getKey();
+                handlers[i] = (TypeHandler<Object>) HandlersSupport.handlerFromClass(parameterInfo.getValue().getValue());
+            }
+            i++;
+        }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void setParameters(PreparedStatement statement, Object[] args) throws SQLException {
-        for (var parameterInfo : parametersInfo.entrySet()) {
-            var parameterIndex = parameterInfo.getKey();
-            if (isNull(parameterInfo.getValue())) {
-                statement.setString(parameterIndex, "NULL");
+        for (int i = 0; i < parameterIndexes.length; i++) {
+            var argumentIndex = argumentIndexes[i];
+            if(argumentIndex < 0 || argumentIndex >= args.length) {
+                statement.setString(parameterIndexes[i], "NULL");
             } else {
-                var type = parameterInfo.getValue().getValue();
-                var argumentIndex = parameterInfo.getValue().getKey();
-                var handler = (TypeHandler<Object>) HandlersSupport.handlerFromClass(type);
-                if(argumentIndex < args.length) {
-                    handler.setParameter(statement, parameterIndex, args[argumentIndex]);
-                } else {
-                    statement.setString(parameterIndex, "NULL");
-                }
+                handlers[i].setParameter(statement, parameterIndexes[i], args[argumentIndex]);
             }
         }
     }
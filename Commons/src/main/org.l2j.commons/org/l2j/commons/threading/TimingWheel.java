@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.commons.threading;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Hashed timing wheel to schedule a large amount of deadlines with a coarse precision.
+ *
+ * Each deadline is linked into the bucket of the tick it expires, so a tick only visits the deadlines hashed to its bucket
+ * and schedule or cancel a deadline is O(1). The tick thread only unlinks the expired deadlines, their tasks are executed by the {@link ThreadPool}.
+ *
+ * @author JoeAlisson
+ */
+public final class TimingWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheel.class);
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final String name;
+    private final long tickMillis;
+    private final Timeout[] buckets;
+    private final int mask;
+    private final long startTime;
+    private final LongAdder expiredCount = new LongAdder();
+    private long currentTick;
+    private int size;
+    private ScheduledFuture<?> tickTask;
+
+    /**
+     * @param name the wheel name
+     * @param tickMillis the duration of each tick in milliseconds
+     * @param wheelSize the amount of buckets, rounded up to a power of two
+     */
+    public TimingWheel(String name, long tickMillis, int wheelSize) {
+        this.name = name;
+        this.tickMillis = Math.max(1, tickMillis);
+        final int bucketsCount = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        buckets = new Timeout[bucketsCount];
+        mask = bucketsCount - 1;
+        startTime = System.currentTimeMillis();
+    }
+
+    public synchronized void start() {
+        if(isNull(tickTask) || tickTask.isDone()) {
+            tickTask = ThreadPool.scheduleAtFixedRate(this::tick, tickMillis, tickMillis);
+        }
+    }
+
+    public synchronized void stop() {
+        if(nonNull(tickTask)) {
+            tickTask.cancel(false);
+            tickTask = null;
+        }
+    }
+
+    /**
+     * Schedules the task to run once after the delay.
+     *
+     * @param task the task to be executed
+     * @param delay the delay in milliseconds
+     * @return the timeout that can be used to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay) {
+        return schedule(timeout -> task.run(), delay);
+    }
+
+    /**
+     * Schedules the task to run once after the delay.
+     * The task receives its own timeout, so it can check whether it still owns the entry it was scheduled for.
+     *
+     * @param task the task to be executed
+     * @param delay the delay in milliseconds
+     * @return the timeout that can be used to cancel the task
+     */
+    public Timeout schedule(Consumer<Timeout> task, long delay) {
+        final var timeout = new Timeout(this, task, System.currentTimeMillis() + Math.max(0, delay));
+        synchronized (this) {
+            timeout.tick = Math.max(currentTick + 1, (timeout.deadline - startTime + tickMillis - 1) / tickMillis);
+            link(timeout);
+            size++;
+        }
+        return timeout;
+    }
+
+    private void link(Timeout timeout) {
+        final int index = (int) (timeout.tick & mask);
+        final var head = buckets[index];
+        timeout.next = head;
+        if(nonNull(head)) {
+            head.prev = timeout;
+        }
+        buckets[index] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if(nonNull(timeout.prev)) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[(int) (timeout.tick & mask)] = timeout.next;
+        }
+        if(nonNull(timeout.next)) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        size--;
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if(timeout.state != PENDING) {
+            return false;
+        }
+        timeout.state = CANCELLED;
+        unlink(timeout);
+        return true;
+    }
+
+    private void tick() {
+        final long targetTick = (System.currentTimeMillis() - startTime) / tickMillis;
+        List<Timeout> expired = null;
+
+        synchronized (this) {
+            while (currentTick < targetTick) {
+                currentTick++;
+                var timeout = buckets[(int) (currentTick & mask)];
+                while (nonNull(timeout)) {
+                    final var next = timeout.next;
+                    if(timeout.tick <= currentTick) {
+                        unlink(timeout);
+                        timeout.state = EXPIRED;
+                        if(isNull(expired)) {
+                            expired = new ArrayList<>();
+                        }
+                        expired.add(timeout);
+                    }
+                    timeout = next;
+                }
+            }
+        }
+
+        if(nonNull(expired)) {
+            expiredCount.add(expired.size());
+            for (var timeout : expired) {
+                ThreadPool.execute(() -> run(timeout));
+            }
+        }
+    }
+
+    private void run(Timeout timeout) {
+        try {
+            timeout.task.accept(timeout);
+        } catch (Exception e) {
+            LOGGER.error("Error running task on timing wheel {}", name, e);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public CharSequence getStats() {
+        return new StringBuilder("Timing Wheel ").append(name).append("\n")
+            .append("=================================================\n")
+            .append("\tTick (ms): ........... ").append(tickMillis).append("\n")
+            .append("\tBuckets: ............. ").append(buckets.length).append("\n")
+            .append("\tPending: ............. ").append(size()).append("\n")
+            .append("\tExpired: ............. ").append(expiredCount.sum()).append("\n");
+    }
+
+    public static TimingWheel getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final TimingWheel INSTANCE = new TimingWheel("Shared", 100, 1024);
+
+        static {
+            INSTANCE.start();
+        }
+    }
+
+    /**
+     * Handle to a task scheduled on the {@link TimingWheel}.
+     */
+    public static final class Timeout {
+        private final TimingWheel wheel;
+        private final Consumer<Timeout> task;
+        private final long deadline;
+        private long tick;
+        private int state;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheel wheel, Consumer<Timeout> task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if the task was pending and will not be executed
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        /**
+         * @return the remaining time to the deadline in milliseconds
+         */
+        public long remaining() {
+            return deadline - System.currentTimeMillis();
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+    }
+}
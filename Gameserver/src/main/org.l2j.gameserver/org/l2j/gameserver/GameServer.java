@@ -57,6 +57,7 @@ import org.l2j.gameserver.engine.vip.VipEngine;
 import org.l2j.gameserver.idfactory.IdFactory;
 import org.l2j.gameserver.instancemanager.*;
 import org.l2j.gameserver.model.votereward.VoteSystem;
+import org.l2j.gameserver.network.ClientPacketExecutor;
 import org.l2j.gameserver.network.ClientPacketHandler;
 import org.l2j.gameserver.network.GameClient;
 import org.l2j.gameserver.network.authcomm.AuthServerCommunication;
@@ -236,7 +237,7 @@ public class GameServer {
         printSection("Setting All characters to offline status!");
         getDAO(PlayerDAO.class).setAllCharactersOffline();
 
-        connectionHandler = ConnectionBuilder.create(new InetSocketAddress(ServerSettings.port()), GameClient::new, new ClientPacketHandler(), ThreadPool::execute).build();
+        connectionHandler = ConnectionBuilder.create(new InetSocketAddress(ServerSettings.port()), GameClient::new, new ClientPacketHandler(), ClientPacketExecutor.getInstance()).build();
         connectionHandler.start();
     }
 
@@ -24,16 +24,20 @@ import org.l2j.commons.util.Util;
 import org.l2j.gameserver.datatables.ReportTable;
 import org.l2j.gameserver.datatables.SchemeBufferTable;
 import org.l2j.gameserver.engine.clan.ClanEngine;
+import org.l2j.gameserver.engine.item.ItemJournal;
+import org.l2j.gameserver.engine.mission.MissionData;
 import org.l2j.gameserver.engine.olympiad.Olympiad;
 import org.l2j.gameserver.instancemanager.*;
 import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.model.events.EventDispatcher;
 import org.l2j.gameserver.model.events.impl.server.OnServerShutDown;
+import org.l2j.gameserver.network.ClientPacketExecutor;
 import org.l2j.gameserver.network.Disconnection;
 import org.l2j.gameserver.network.SystemMessageId;
 import org.l2j.gameserver.network.authcomm.AuthServerCommunication;
 import org.l2j.gameserver.network.authcomm.gs2as.OnlineStatus;
 import org.l2j.gameserver.settings.GeneralSettings;
+import org.l2j.gameserver.taskmanager.SaveTaskManager;
 import org.l2j.gameserver.util.Broadcast;
 import org.l2j.gameserver.world.World;
 import org.l2j.gameserver.world.WorldTimeController;
@@ -126,6 +130,9 @@ public class Shutdown extends Thread {
             GameServer.getInstance().getConnectionHandler().shutdown();
             LOGGER.info("Game Server: Networking has been shut down.");
 
+            ClientPacketExecutor.getInstance().shutdown();
+            LOGGER.info("Client Packet Executor: Packet lanes have been shut down.");
+
             WorldTimeController.getInstance().stopTimer();
             LOGGER.info("Game Time Controller: Timer stopped.");
 
@@ -243,9 +250,18 @@ public class Shutdown extends Thread {
      * This sends a last byebye, disconnects all players and saves data.
      */
     private void saveData() {
+        SaveTaskManager.getInstance().shutdown();
+        LOGGER.info("Save Task Manager: Running saves finished.");
+
         disconnectAllCharacters();
         LOGGER.info("All players disconnected and saved.");
 
+        ItemJournal.getInstance().shutdown();
+        LOGGER.info("Item Journal: Pending item changes flushed.");
+
+        MissionData.getInstance().shutdown();
+        LOGGER.info("Mission Data: Pending missions progress flushed.");
+
         // Save all raidboss and GrandBoss status ^_^
         BossManager.getInstance().cleanUp();
         LOGGER.info("RaidBossSpawnManager: All raidboss info saved.");
@@ -18,6 +18,7 @@
  */
 package org.l2j.gameserver.data.database.dao;
 
+import io.github.joealisson.primitive.IntSet;
 import org.l2j.commons.database.DAO;
 import org.l2j.commons.database.annotation.Query;
 import org.l2j.gameserver.data.database.data.*;
@@ -87,9 +88,17 @@ public interface ItemDAO extends DAO<Object> {
     @Query("DELETE FROM item_variations WHERE itemId = :objectId:")
     void deleteVariations(int objectId);
 
+    @Query(value = "DELETE FROM item_variations WHERE itemId = :objectIds:", batchIndex = 0)
+    void deleteVariations(IntSet objectIds);
+
     @Query("DELETE FROM items WHERE object_id = :objectId:")
     void deleteItem(int objectId);
 
+    @Query(value = "DELETE FROM items WHERE object_id = :objectIds:", batchIndex = 0)
+    void deleteItems(IntSet objectIds);
+
+    void save(List<ItemData> items);
+
     @Query("DELETE FROM `commission_items` WHERE `commission_id` = :commissionId:")
     boolean deleteCommission(long commissionId);
 
@@ -22,6 +22,8 @@ import org.l2j.commons.database.DAO;
 import org.l2j.commons.database.annotation.Query;
 import org.l2j.gameserver.data.database.data.MissionPlayerData;
 
+import java.util.Collection;
+
 /**
  * @author JoeAlisson
  */
@@ -32,4 +34,6 @@ public interface MissionDAO extends DAO<MissionPlayerData> {
 
     @Query("SELECT * FROM character_missions WHERE char_id = :playerId: AND mission_id = :missionId:")
     MissionPlayerData findById(int playerId, int missionId);
+
+    void save(Collection<MissionPlayerData> missions);
 }
@@ -23,7 +23,9 @@ import org.l2j.commons.database.DAO;
 import org.l2j.commons.database.annotation.Query;
 import org.l2j.gameserver.data.database.data.RankData;
 import org.l2j.gameserver.data.database.data.RankHistoryData;
+import org.l2j.gameserver.data.database.data.RankSnapshotData;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,41 +36,21 @@ public interface RankDAO extends DAO<RankData> {
     @Query("TRUNCATE rankers_snapshot")
     void clearSnapshot();
 
-    @Query("INSERT INTO rankers_snapshot SELECT id, exp, `rank`, rank_race FROM rankers")
-    void updateSnapshot();
+    void save(Collection<RankSnapshotData> snapshot);
 
-    @Query("SELECT * FROM rankers LIMIT 150")
-    List<RankData> findTopRankers();
+    @Query("""
+        SELECT c.charId AS id, c.char_name AS name, c.exp, c.level, c.base_class AS class, c.race, c.clanid AS clan_id, c.onlinetime AS online_time,
+               IFNULL((SELECT clan_name FROM clan_data clan WHERE clan.clan_id = c.clanid), '') AS clan_name,
+               IFNULL(rs.`rank`, 0) AS rank_snapshot,
+               IFNULL(rs.rank_race, 0) AS rank_race_snapshot
+        FROM characters c LEFT JOIN rankers_snapshot rs ON c.charId = rs.id
+        WHERE c.level >= :minLevel: AND c.accesslevel = :accessLevel:
+        """)
+    List<RankData> findRankerCandidates(int minLevel, int accessLevel);
 
     @Query("SELECT * FROM rankers_snapshot")
     IntMap<RankData> findAllSnapshot();
 
-    @Query("SELECT * FROM rankers  WHERE id = :playerId:")
-    RankData findPlayerRank(int playerId);
-
-    @Query("SELECT * FROM rankers_race WHERE race = :race: LIMIT 100")
-    List<RankData> findTopByRace(int race);
-
-    @Query("SELECT * FROM rankers WHERE clan_id = :clanId:")
-    List<RankData> findByClan(int clanId);
-
-    @Query("SELECT * FROM rankers WHERE id IN (:playerId:, (SELECT friend_id FROM character_relationship WHERE char_id = :playerId: AND relation = 'FRIEND'))")
-    List<RankData> findFriendRankers(int playerId);
-
-    @Query("""
-            SELECT rankers.*
-            FROM rankers, ( SELECT @base_rank := CONVERT( (SELECT rankers.`rank` FROM rankers WHERE id = :playerId:), SIGNED ) ) dummy
-            WHERE @base_rank IS NOT NULL AND rankers.`rank` BETWEEN  @base_rank - 10 AND @base_rank + 10
-            """)
-    List<RankData> findRankersNextToPlayer(int playerId);
-
-    @Query("""
-            SELECT rankers_race.*
-            FROM rankers_race, ( SELECT @base_rank := CONVERT( (SELECT rankers_race.`rank` FROM rankers_race WHERE id = :playerId:), SIGNED ) ) dummy
-            WHERE @base_rank IS NOT NULL AND  rankers_race.race = :race:  AND rankers_race.`rank` BETWEEN  @base_rank - 10 AND @base_rank + 10
-            """)
-    List<RankData> findRaceRankersNextToPlayer(int playerId, int race);
-
     @Query("INSERT INTO rankers_history SELECT  id, exp, `rank`, :date: FROM rankers_snapshot")
     void updateRankersHistory(long date);
 
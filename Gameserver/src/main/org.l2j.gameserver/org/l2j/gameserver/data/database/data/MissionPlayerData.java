@@ -54,6 +54,10 @@ public class MissionPlayerData {
         return playerObjectId;
     }
 
+    public int getMissionId() {
+        return missionId;
+    }
+
     public MissionStatus getStatus() {
         return status;
     }
@@ -37,9 +37,15 @@ import org.l2j.commons.database.annotation.Column;
     private short classId;
     private byte race;
 
+    @Column("clan_id")
+    private int clanId;
+
     @Column("clan_name")
     private String clanName;
 
+    @Column("online_time")
+    private long onlineTime;
+
     private int rank;
 
     @Column("rank_race")
@@ -51,6 +57,22 @@ import org.l2j.commons.database.annotation.Column;
     @Column("rank_race_snapshot")
     private int rankRaceSnapshot;
 
+    public static RankData of(int playerId, String playerName, long exp, byte level, short classId, byte race, String clanName, int rank, int rankRace, int rankSnapshot, int rankRaceSnapshot) {
+        final var data = new RankData();
+        data.playerId = playerId;
+        data.playerName = playerName;
+        data.exp = exp;
+        data.level = level;
+        data.classId = classId;
+        data.race = race;
+        data.clanName = clanName;
+        data.rank = rank;
+        data.rankRace = rankRace;
+        data.rankSnapshot = rankSnapshot;
+        data.rankRaceSnapshot = rankRaceSnapshot;
+        return data;
+    }
+
     public int getPlayerId() {
         return playerId;
     }
@@ -79,10 +101,22 @@ import org.l2j.commons.database.annotation.Column;
         return race;
     }
 
+    public long getExp() {
+        return exp;
+    }
+
+    public int getClanId() {
+        return clanId;
+    }
+
     public String getClanName() {
         return clanName;
     }
 
+    public long getOnlineTime() {
+        return onlineTime;
+    }
+
     public int getRankSnapshot() {
         return rankSnapshot;
     }
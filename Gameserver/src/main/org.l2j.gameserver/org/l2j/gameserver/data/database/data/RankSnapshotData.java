@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.data.database.data;
+
+import org.l2j.commons.database.annotation.Column;
+import org.l2j.commons.database.annotation.Table;
+
+/**
+ * @author JoeAlisson
+ */
+@Table("rankers_snapshot")
+public class RankSnapshotData {
+
+    @Column("id")
+    private int playerId;
+    private long exp;
+    private int rank;
+
+    @Column("rank_race")
+    private int rankRace;
+
+    public static RankSnapshotData of(int playerId, long exp, int rank, int rankRace) {
+        final var data = new RankSnapshotData();
+        data.playerId = playerId;
+        data.exp = exp;
+        data.rank = rank;
+        data.rankRace = rankRace;
+        return data;
+    }
+}
@@ -18,7 +18,6 @@
  */
 package org.l2j.gameserver.engine.autoplay;
 
-import org.l2j.gameserver.engine.geo.GeoEngine;
 import org.l2j.gameserver.model.WorldObject;
 import org.l2j.gameserver.model.actor.Creature;
 import org.l2j.gameserver.model.actor.Summon;
@@ -27,20 +26,30 @@ import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.util.MathUtil;
 import org.l2j.gameserver.world.World;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 
 import static java.util.Objects.isNull;
 import static org.l2j.gameserver.util.GameUtils.isGM;
 
 /**
+ * Finds auto play targets checking the cheap conditions first, the geodata checks are only done on the nearest candidates until one passes.
+ *
  * @author JoeAlisson
  */
 abstract class AbstractAutoPlayTargetFinder implements AutoPlayTargetFinder {
 
     @Override
     public boolean canBeTarget(Player player, WorldObject target, int range) {
+        return isCandidate(player, target, range) && player.getAutoPlaySettings().geoChecks().canReach(player, target);
+    }
+
+    /**
+     * @return if the target can be selected, without the geodata checks.
+     */
+    protected boolean isCandidate(Player player, WorldObject target, int range) {
         return !isGM(target) && !player.isTargetingDisabled() && target.isTargetable() && target.isAutoAttackable(player) && checkRespectfulMode(player, target) &&
-                MathUtil.isInsideRadius3D(player, target, range) && GeoEngine.getInstance().canSeeTarget(player, target) && GeoEngine.getInstance().canMoveToTarget(player, target);
+                MathUtil.isInsideRadius3D(player, target, range);
     }
 
     private boolean checkRespectfulMode(Player player, WorldObject target) {
@@ -58,8 +67,21 @@ abstract class AbstractAutoPlayTargetFinder implements AutoPlayTargetFinder {
     }
 
     protected Creature findNextTarget(Player player, Class<? extends Creature> targetClass, int range) {
-        return World.getInstance().findFirstVisibleObject(player, targetClass, range, false,
-                creature -> canBeTarget(player, creature, range),
-                Comparator.comparingDouble(m -> MathUtil.calculateDistanceSq3D(player, m)));
+        final var candidates = new ArrayList<Creature>();
+        World.getInstance().forEachVisibleObjectInRange(player, targetClass, range, candidates::add, creature -> isCandidate(player, creature, range));
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        candidates.sort(Comparator.comparingDouble(creature -> MathUtil.calculateDistanceSq3D(player, creature)));
+
+        final var geoChecks = player.getAutoPlaySettings().geoChecks();
+        geoChecks.evictExpired();
+        for (Creature candidate : candidates) {
+            if (geoChecks.canReach(player, candidate)) {
+                return candidate;
+            }
+        }
+        return null;
     }
 }
@@ -50,6 +50,7 @@ import static org.l2j.commons.util.Util.isNullOrEmpty;
 public final class AutoPlayEngine {
 
     private static final int AUTO_PLAY_INTERVAL = 500;
+    private static final int AUTO_PLAY_SLICES = 5;
     private static final int AUTO_SUPPLY_INTERVAL = 600;
     private static final int DEFAULT_ACTION = 2;
 
@@ -136,7 +137,7 @@ public final class AutoPlayEngine {
         players.add(player);
         synchronized (autoPlayTaskLocker) {
             if(isNull(autoPlayTask)) {
-                autoPlayTask = ThreadPool.scheduleAtFixedDelay(doAutoPlayTask, AUTO_PLAY_INTERVAL, AUTO_PLAY_INTERVAL);
+                autoPlayTask = ThreadPool.scheduleAtFixedDelay(doAutoPlayTask, AUTO_PLAY_INTERVAL / AUTO_PLAY_SLICES, AUTO_PLAY_INTERVAL / AUTO_PLAY_SLICES);
             }
         }
         player.getAutoPlaySettings().setActive(true);
@@ -153,6 +154,7 @@ public final class AutoPlayEngine {
             }
         }
         player.getAutoPlaySettings().setActive(false);
+        player.getAutoPlaySettings().geoChecks().clear();
         player.sendPacket(new ExAutoPlaySettingResponse());
         player.resetNextAutoShortcut();
     }
@@ -197,12 +199,20 @@ public final class AutoPlayEngine {
         private static final AutoPlayEngine INSTANCE = new AutoPlayEngine();
     }
 
+    /**
+     * Each run handles only a slice of the players, so every player still acts each AUTO_PLAY_INTERVAL without all of them acting at once.
+     */
     private final class DoAutoPlay implements Runnable {
 
+        private int slice;
+
         @Override
         public void run() {
+            final int currentSlice = slice;
+            slice = (slice + 1) % AUTO_PLAY_SLICES;
+
             for (Player player : players) {
-                if(!player.getAutoPlaySettings().isAutoPlaying() && canDoAutoAction(player)) {
+                if(player.getObjectId() % AUTO_PLAY_SLICES == currentSlice && !player.getAutoPlaySettings().isAutoPlaying() && canDoAutoAction(player)) {
                     ThreadPool.executeForked(() -> doNextAction(player));
                 }
             }
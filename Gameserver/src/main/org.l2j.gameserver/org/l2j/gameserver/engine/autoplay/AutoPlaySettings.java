@@ -34,6 +34,7 @@ public class AutoPlaySettings {
     private boolean respectFulHunt;
     private final AtomicBoolean autoPlaying = new AtomicBoolean(false);
     private int usableHpPetPotionPercent;
+    private final GeoCheckCache geoChecks = new GeoCheckCache();
 
     public AutoPlaySettings(short size, boolean active, boolean pickUp, short nextTargetMode, boolean isNearTarget, int usableHpPotionPercent, int usableHpPetPotionPercent, boolean respectFulHunt) {
         this.size = size;
@@ -117,4 +118,8 @@ public class AutoPlaySettings {
     public int getUsableHpPetPotionPercent() {
         return usableHpPetPotionPercent;
     }
+
+    GeoCheckCache geoChecks() {
+        return geoChecks;
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.engine.autoplay;
+
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.IntMap;
+import org.l2j.gameserver.engine.geo.GeoEngine;
+import org.l2j.gameserver.model.WorldObject;
+import org.l2j.gameserver.model.actor.instance.Player;
+
+/**
+ * Keeps the recent geodata checks of a player against its auto play targets.
+ *
+ * A result is reused while it is not expired and neither the player nor the target moved away from where it was checked.
+ *
+ * @author JoeAlisson
+ */
+final class GeoCheckCache {
+
+    private static final long TTL = 1000;
+    private static final int MAX_MOVE_SQ = 50 * 50;
+
+    private final IntMap<GeoCheck> checks = new CHashIntMap<>();
+
+    boolean canReach(Player player, WorldObject target) {
+        final long now = System.currentTimeMillis();
+        final var check = checks.get(target.getObjectId());
+        if (check != null && check.isValid(now, player, target)) {
+            return check.reachable();
+        }
+
+        final var geoEngine = GeoEngine.getInstance();
+        final boolean reachable = geoEngine.canSeeTarget(player, target) && geoEngine.canMoveToTarget(player, target);
+        checks.put(target.getObjectId(), new GeoCheck(reachable, now + TTL, player.getX(), player.getY(), target.getX(), target.getY()));
+        return reachable;
+    }
+
+    void evictExpired() {
+        if (!checks.isEmpty()) {
+            final long now = System.currentTimeMillis();
+            checks.values().removeIf(check -> check.expireAt() < now);
+        }
+    }
+
+    void clear() {
+        checks.clear();
+    }
+
+    private record GeoCheck(boolean reachable, long expireAt, int playerX, int playerY, int targetX, int targetY) {
+
+        boolean isValid(long now, WorldObject player, WorldObject target) {
+            return expireAt >= now && isNear(playerX, playerY, player) && isNear(targetX, targetY, target);
+        }
+
+        private static boolean isNear(int x, int y, WorldObject object) {
+            final long dx = object.getX() - x;
+            final long dy = object.getY() - y;
+            return dx * dx + dy * dy <= MAX_MOVE_SQ;
+        }
+    }
+}
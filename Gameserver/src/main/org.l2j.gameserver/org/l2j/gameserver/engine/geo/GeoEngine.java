@@ -41,6 +41,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import static org.l2j.gameserver.util.GameUtils.*;
 
 /**
@@ -53,23 +56,57 @@ public class GeoEngine {
 
     private static final double SIGHT_LINE_PERCENT = 0.75;
     private static final int MAX_OBSTACLE_HEIGHT = 32;
+    private static final int BLOCK_OVERHEAD = 32;
 
-    private final ABlock[][] blocks = new ABlock[GeoStructure.GEO_BLOCKS_X][GeoStructure.GEO_BLOCKS_Y];
     private final BlockNull nullBlock = new BlockNull();
+    private ABlock[][] blocks;
+    private MappedRegion[][] regions;
+    private long loadTime;
+    private long heapSize;
 
     protected GeoEngine() {
 
     }
 
     protected void load() {
-        BlockMultilayer.initialize();
-        loadGeodataFiles();
-        BlockMultilayer.release();
+        final long start = System.currentTimeMillis();
+        final int loaded;
+        if (GeoEngineSettings.isMappedGeodata()) {
+            loaded = findGeodataFiles();
+            loadTime = System.currentTimeMillis() - start;
+            LOGGER.info("Found {} geodata files in {} ms, the regions will be mapped on demand.", loaded, loadTime);
+        } else {
+            BlockMultilayer.initialize();
+            loaded = loadGeodataFiles();
+            BlockMultilayer.release();
+            loadTime = System.currentTimeMillis() - start;
+            LOGGER.info("Loaded {} geodata files in {} ms using about {} MB of heap.", loaded, loadTime, heapSize >> 20);
+        }
+        checkLoadedFiles(loaded);
     }
 
-    private void loadGeodataFiles() {
+    private int findGeodataFiles() {
+        int found = 0;
+        final var geodataPath = ServerSettings.dataPackDirectory().resolve("geodata");
+        regions = new MappedRegion[World.TILE_X_MAX - World.TILE_X_MIN + 1][World.TILE_Y_MAX - World.TILE_Y_MIN + 1];
+
+        for (int rx = World.TILE_X_MIN; rx <= World.TILE_X_MAX; rx++) {
+            for (int ry = World.TILE_Y_MIN; ry <= World.TILE_Y_MAX; ry++) {
+                final var filePath = geodataPath.resolve(String.format(GeoFormat.L2D.getFilename(), rx, ry));
+                if(Files.exists(filePath) && !Files.isDirectory(filePath)) {
+                    regions[rx - World.TILE_X_MIN][ry - World.TILE_Y_MIN] = new MappedRegion(filePath);
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    private int loadGeodataFiles() {
         int loaded = 0;
         var geodataPath = ServerSettings.dataPackDirectory().resolve("geodata");
+        blocks = new ABlock[GeoStructure.GEO_BLOCKS_X][GeoStructure.GEO_BLOCKS_Y];
+        heapSize = (long) GeoStructure.GEO_BLOCKS_X * GeoStructure.GEO_BLOCKS_Y * Integer.BYTES;
 
         for (int rx = World.TILE_X_MIN; rx <= World.TILE_X_MAX; rx++) {
             for (int ry = World.TILE_Y_MIN; ry <= World.TILE_Y_MAX; ry++) {
@@ -83,8 +120,10 @@ public class GeoEngine {
                 }
             }
         }
-        LOGGER.info("Loaded {} geodata files.", loaded);
+        return loaded;
+    }
 
+    private void checkLoadedFiles(int loaded) {
         if (loaded == 0) {
             if (GeoEngineSettings.isEnabledPathFinding()) {
                 GeoEngineSettings.setEnabledPathFinding(false);
@@ -205,6 +244,9 @@ public class GeoEngine {
                 LOGGER.warn("GeoEngine: Region file {} can be corrupted, remaining {} bytes to read.", filePath, buffer.remaining());
             }
 
+            // estimate the decoded blocks footprint
+            heapSize += buffer.position() + (long) GeoStructure.REGION_BLOCKS * BLOCK_OVERHEAD;
+
             // loading was successful
             return true;
         } catch (Exception e) {
@@ -251,11 +293,23 @@ public class GeoEngine {
 
         // if x or y is out of array return null
         if ((x > -1) && (y > -1) && (x < GeoStructure.GEO_BLOCKS_X) && (y < GeoStructure.GEO_BLOCKS_Y)) {
-            return blocks[x][y];
+            return nonNull(regions) ? getMappedBlock(x, y) : blocks[x][y];
         }
         return null;
     }
 
+    /**
+     * Returns the mapped region of the block, mapping the region file on first access.
+     *
+     * @param blockX : Block X
+     * @param blockY : Block Y
+     * @return {@link ABlock} : The mapped region or null block when the region has no geodata.
+     */
+    private ABlock getMappedBlock(int blockX, int blockY) {
+        final var region = regions[blockX / GeoStructure.REGION_BLOCKS_X][blockY / GeoStructure.REGION_BLOCKS_Y];
+        return nonNull(region) && region.map() ? region : nullBlock;
+    }
+
     /**
      * Check if geo coordinates has geo.
      *
@@ -767,6 +821,48 @@ public class GeoEngine {
         return null;
     }
 
+    public CharSequence getStats() {
+        return getGeodataStats().append("Path Finding disabled\n");
+    }
+
+    protected StringBuilder getGeodataStats() {
+        final var stats = new StringBuilder("Geodata\n")
+            .append("=================================================\n");
+
+        if (isNull(regions)) {
+            stats.append("\tStorage: ............. Heap\n")
+                .append("\tLoad Time (ms): ...... ").append(loadTime).append("\n")
+                .append("\tHeap (MB): ........... ").append(heapSize >> 20).append("\n");
+            return stats;
+        }
+
+        int available = 0;
+        int mapped = 0;
+        long mappedSize = 0;
+        long indexSize = (long) regions.length * regions[0].length * Integer.BYTES;
+        long mappingTime = 0;
+        for (MappedRegion[] column : regions) {
+            for (MappedRegion region : column) {
+                if (nonNull(region)) {
+                    available++;
+                    if (region.isMapped()) {
+                        mapped++;
+                        mappedSize += region.mappedSize();
+                        indexSize += region.indexSize();
+                        mappingTime += region.mappingTime();
+                    }
+                }
+            }
+        }
+
+        return stats.append("\tStorage: ............. Mapped\n")
+            .append("\tLoad Time (ms): ...... ").append(loadTime).append("\n")
+            .append("\tRegions Mapped: ...... ").append(mapped).append("/").append(available).append("\n")
+            .append("\tMapping Time (ms): ... ").append(mappingTime / 1_000_000).append("\n")
+            .append("\tOff Heap (MB): ....... ").append(mappedSize >> 20).append("\n")
+            .append("\tHeap (MB): ........... ").append(indexSize >> 20).append("\n");
+    }
+
     public static void init() {
         getInstance().load();
     }
@@ -18,18 +18,33 @@
  */
 package org.l2j.gameserver.engine.geo;
 
+import org.l2j.commons.cache.CacheFactory;
+import org.l2j.commons.threading.ThreadPool;
 import org.l2j.gameserver.engine.geo.geodata.GeoLocation;
+import org.l2j.gameserver.engine.geo.geodata.GeoStructure;
 import org.l2j.gameserver.engine.geo.pathfinding.Node;
 import org.l2j.gameserver.engine.geo.pathfinding.NodeBuffer;
+import org.l2j.gameserver.engine.geo.pathfinding.PathKey;
+import org.l2j.gameserver.engine.geo.settings.GeoEngineSettings;
 import org.l2j.gameserver.model.Location;
 import org.l2j.gameserver.model.instancezone.Instance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.cache.Cache;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.l2j.commons.util.Util.zeroIfNullOrElse;
 
 /**
  * @author Hasha
@@ -39,18 +54,33 @@ final class GeoEnginePathFinding extends GeoEngine {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GeoEnginePathFinding.class);
 
-    private final BufferHolder[] buffers = {
-        new BufferHolder(100, 6),
-        new BufferHolder(128, 6),
-        new BufferHolder(192, 6),
-        new BufferHolder(256, 4),
-        new BufferHolder(320, 4),
-        new BufferHolder(384, 4),
-        new BufferHolder(500, 2)
+    private static final int LAYER_HEIGHT = GeoStructure.CELL_HEIGHT * 8;
+    private static final long BUFFER_IDLE_TIME = 60000;
+
+    private final AtomicLong retainedNodes = new AtomicLong();
+    private final BufferPool[] buffers = {
+        new BufferPool(100, 6),
+        new BufferPool(128, 6),
+        new BufferPool(192, 6),
+        new BufferPool(256, 4),
+        new BufferPool(320, 4),
+        new BufferPool(384, 4),
+        new BufferPool(500, 2)
     };
 
+    private final Cache<PathKey, List<Location>> pathCache = CacheFactory.getInstance().getCache("path-cache");
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder searchIterations = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder bufferExhausted = new LongAdder();
+    private final LongAdder tooFar = new LongAdder();
+
     GeoEnginePathFinding() {
-        LOGGER.info("Loaded {} path node buffers.", buffers.length);
+        LOGGER.info("Loaded {} path node buffer pools.", buffers.length);
+        ThreadPool.scheduleAtFixedDelay(this::trimBuffers, BUFFER_IDLE_TIME, BUFFER_IDLE_TIME);
     }
 
     /**
@@ -115,9 +145,77 @@ final class GeoEnginePathFinding extends GeoEngine {
 
         short gtz = getHeightNearest(gtx, gty, tz);
 
+        final var key = new PathKey(gox / GeoStructure.BLOCK_CELLS_X, goy / GeoStructure.BLOCK_CELLS_Y, Math.floorDiv(goz, LAYER_HEIGHT),
+                gtx / GeoStructure.BLOCK_CELLS_X, gty / GeoStructure.BLOCK_CELLS_Y, Math.floorDiv(gtz, LAYER_HEIGHT), zeroIfNullOrElse(instance, Instance::getId));
+
+        var path = findCachedPath(key, gox, goy, goz, gtx, gty, gtz, instance);
+        if(nonNull(path)) {
+            return path;
+        }
+
+        path = calculatePath(gox, goy, goz, gtx, gty, gtz, instance);
+        if(nonNull(path)) {
+            pathCache.put(key, path);
+        }
+        return path;
+    }
+
+    /**
+     * A cached path was calculated between other cells inside the same blocks, so it's only used when the first node can be reached from the current origin
+     * and the current target can be reached from the node before the last one. The last node is replaced by the current target.
+     */
+    private List<Location> findCachedPath(PathKey key, int gox, int goy, short goz, int gtx, int gty, short gtz, Instance instance) {
+        final var path = pathCache.get(key);
+        if(isNull(path) || path.isEmpty()) {
+            cacheMisses.increment();
+            return null;
+        }
+
+        final var first = (GeoLocation) path.get(0);
+        if(!canReach(gox, goy, goz, first.getGeoX(), first.getGeoY(), first.getZ(), instance)) {
+            cacheMisses.increment();
+            return null;
+        }
+
+        final var last = (GeoLocation) path.get(path.size() - 1);
+        if(last.getGeoX() == gtx && last.getGeoY() == gty && Math.abs(last.getZ() - gtz) < GeoStructure.CELL_HEIGHT) {
+            cacheHits.increment();
+            return path;
+        }
+
+        final boolean reachTarget = path.size() > 1 ? canReach((GeoLocation) path.get(path.size() - 2), gtx, gty, gtz, instance) : canReach(gox, goy, goz, gtx, gty, gtz, instance);
+        if(!reachTarget) {
+            cacheMisses.increment();
+            return null;
+        }
+
+        final var result = new ArrayList<>(path);
+        result.set(result.size() - 1, new GeoLocation(gtx, gty, gtz));
+        cacheHits.increment();
+        return result;
+    }
+
+    private boolean canReach(GeoLocation from, int gtx, int gty, int gtz, Instance instance) {
+        return canReach(from.getGeoX(), from.getGeoY(), from.getZ(), gtx, gty, gtz, instance);
+    }
+
+    private boolean canReach(int gox, int goy, int goz, int gtx, int gty, int gtz, Instance instance) {
+        final var loc = checkMove(gox, goy, goz, gtx, gty, gtz, instance);
+        return loc.getGeoX() == gtx && loc.getGeoY() == gty;
+    }
+
+    private List<Location> calculatePath(int gox, int goy, short goz, int gtx, int gty, short gtz, Instance instance) {
         // Prepare buffer for pathfinding calculations
-        final NodeBuffer buffer = getBuffer(64 + (2 * Math.max(Math.abs(gox - gtx), Math.abs(goy - gty))));
-        if (buffer == null) {
+        final var requiredSize = 64 + (2 * Math.max(Math.abs(gox - gtx), Math.abs(goy - gty)));
+        final BufferPool pool = getBufferPool(requiredSize);
+        if (isNull(pool)) {
+            tooFar.increment();
+            return null;
+        }
+
+        final NodeBuffer buffer = pool.acquire();
+        if(isNull(buffer)) {
+            bufferExhausted.increment();
             return null;
         }
 
@@ -125,8 +223,11 @@ final class GeoEnginePathFinding extends GeoEngine {
         List<Location> path;
         try {
             Node result = buffer.findPath(gox, goy, goz, gtx, gty, gtz);
+            searches.increment();
+            searchIterations.add(buffer.getIterations());
 
             if (result == null) {
+                notFound.increment();
                 return null;
             }
 
@@ -135,12 +236,12 @@ final class GeoEnginePathFinding extends GeoEngine {
             LOGGER.warn(e.getMessage());
             return null;
         } finally {
-            buffer.free();
+            pool.release(buffer);
         }
 
         // check path
         if (path.size() < 3) {
-            return path;
+            return List.copyOf(path);
         }
 
         // get path list iterator
@@ -179,54 +280,123 @@ final class GeoEnginePathFinding extends GeoEngine {
             nodeB = (GeoLocation) point.next();
         }
 
-        return path;
+        return List.copyOf(path);
     }
 
     /**
-     * Provides optimize selection of the buffer. When all pre-initialized buffer are locked, creates new buffer.
+     * Selects the pool with the smallest buffers able to hold the search.
      *
      * @param size : pre-calculated minimal required size
-     * @return NodeBuffer : buffer
+     * @return BufferPool : the pool or null when the search is bigger than all buffers
      */
-    private final NodeBuffer getBuffer(int size) {
-        NodeBuffer current = null;
-        for (BufferHolder holder : buffers) {
-            // Find proper size of buffer
-            if (holder._size < size) {
-                continue;
-            }
-
-            // Find unlocked NodeBuffer
-            for (NodeBuffer buffer : holder._buffer) {
-                if (!buffer.isLocked()) {
-                    continue;
-                }
-
-                return buffer;
+    private BufferPool getBufferPool(int size) {
+        for (BufferPool pool : buffers) {
+            if (pool.size >= size) {
+                return pool;
             }
-
-            // NodeBuffer not found, allocate temporary buffer
-            current = new NodeBuffer(holder._size);
-            current.isLocked();
         }
+        return null;
+    }
 
-        return current;
+    @Override
+    public CharSequence getStats() {
+        final long hits = cacheHits.sum();
+        final long lookups = hits + cacheMisses.sum();
+        final long searchCount = searches.sum();
+
+        final var stats = getGeodataStats().append("Path Finding\n")
+            .append("=================================================\n")
+            .append("\tSearches: ............ ").append(searchCount).append("\n")
+            .append("\tAverage Iterations: .. ").append(searchCount == 0 ? 0 : searchIterations.sum() / searchCount).append("\n")
+            .append("\tCache Hits: .......... ").append(hits).append("\n")
+            .append("\tCache Hit Rate (%): .. ").append(lookups == 0 ? 0 : hits * 100 / lookups).append("\n")
+            .append("\tPath Not Found: ...... ").append(notFound.sum()).append("\n")
+            .append("\tBuffer Exhausted: .... ").append(bufferExhausted.sum()).append("\n")
+            .append("\tTarget Too Far: ...... ").append(tooFar.sum()).append("\n");
+
+        for (BufferPool pool : buffers) {
+            stats.append("\tBuffers ").append(pool.size).append(": ......... ").append(pool.allocated.get()).append("\n");
+        }
+        stats.append("\tRetained Nodes: ...... ").append(retainedNodes.get()).append("\n");
+        return stats;
     }
 
     /**
-     * NodeBuffer container with specified size and count of separate buffers.
+     * Releases the spare buffers that stayed idle since the last trim.
      */
-    private static final class BufferHolder {
-        final int _size;
-        List<NodeBuffer> _buffer;
+    private void trimBuffers() {
+        final long idleSince = System.currentTimeMillis() - BUFFER_IDLE_TIME;
+        for (BufferPool pool : buffers) {
+            pool.trim(idleSince);
+        }
+    }
 
-        public BufferHolder(int size, int count) {
-            _size = size;
-            _buffer = new ArrayList<>(count);
+    /**
+     * Elastic pool of NodeBuffer with the same size.
+     * The buffers are allocated on demand up to the configured limit and each buffer is owned by a single thread until released.
+     * The preallocated buffers are always kept, the spare ones are only kept while the nodes retained by all pools fit the configured limit and are dropped after staying idle.
+     */
+    private final class BufferPool {
+        private final int size;
+        private final int core;
+        private final int limit;
+        private final long nodes;
+        private final Deque<IdleBuffer> available = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger idle = new AtomicInteger();
+        private final AtomicInteger allocated = new AtomicInteger();
+
+        private BufferPool(int size, int count) {
+            this.size = size;
+            this.core = count;
+            this.nodes = (long) size * size;
+            this.limit = Math.max(count, GeoEngineSettings.pathFindingBuffersLimit());
 
             for (int i = 0; i < count; i++) {
-                _buffer.add(new NodeBuffer(size));
+                available.offerFirst(new IdleBuffer(new NodeBuffer(size), System.currentTimeMillis()));
             }
+            idle.set(count);
+            allocated.set(count);
+            retainedNodes.addAndGet(nodes * count);
         }
+
+        private NodeBuffer acquire() {
+            final var buffer = available.pollFirst();
+            if(nonNull(buffer)) {
+                idle.decrementAndGet();
+                retainedNodes.addAndGet(-nodes);
+                return buffer.buffer;
+            }
+
+            if(allocated.incrementAndGet() > limit) {
+                allocated.decrementAndGet();
+                return null;
+            }
+            return new NodeBuffer(size);
+        }
+
+        private void release(NodeBuffer buffer) {
+            buffer.free();
+            if(retainedNodes.addAndGet(nodes) > GeoEngineSettings.pathFindingRetainedNodes() && idle.get() >= core) {
+                retainedNodes.addAndGet(-nodes);
+                allocated.decrementAndGet();
+                return;
+            }
+            idle.incrementAndGet();
+            available.offerFirst(new IdleBuffer(buffer, System.currentTimeMillis()));
+        }
+
+        private void trim(long idleSince) {
+            IdleBuffer buffer;
+            while (idle.get() > core && nonNull(buffer = available.peekLast()) && buffer.since < idleSince) {
+                if(available.removeLastOccurrence(buffer)) {
+                    idle.decrementAndGet();
+                    retainedNodes.addAndGet(-nodes);
+                    allocated.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static record IdleBuffer(NodeBuffer buffer, long since) {
     }
-}
\ No newline at end of file
+}
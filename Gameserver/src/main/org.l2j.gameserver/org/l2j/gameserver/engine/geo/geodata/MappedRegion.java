@@ -0,0 +1,374 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.engine.geo.geodata;
+
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.IntMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Geodata region backed by the memory mapped L2D region file.
+ *
+ * The file is only mapped on the first access and the cells are decoded on demand, so a single instance serves every block of the region.
+ * The cell index of complex and multilayer blocks is the absolute position of the layer in the file, flat blocks are flagged by {@link #FLAT_INDEX}.
+ * The mapping is read only, the NSWE changed by {@link #setNswe(int, byte)} are kept on heap by cell index and override the mapped ones.
+ *
+ * @author JoeAlisson
+ */
+public final class MappedRegion extends ABlock {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedRegion.class);
+
+    private static final int MAX_LAYERS = Byte.MAX_VALUE;
+    private static final int FLAT_INDEX = 1 << 30;
+    private static final byte FLAT_NSWE = (byte) 0xFF;
+
+    private final Path file;
+    private final IntMap<Byte> changedNswe = new CHashIntMap<>();
+    private ByteBuffer buffer;
+    private volatile int[] offsets;
+    private volatile boolean failed;
+    private long mappingTime;
+
+    public MappedRegion(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Maps the region file when it is not mapped yet.
+     *
+     * @return boolean : True, when the region file is mapped and consistent.
+     */
+    public boolean map() {
+        if (nonNull(offsets)) {
+            return true;
+        }
+        if (failed) {
+            return false;
+        }
+        synchronized (this) {
+            if (offsets == null && !failed) {
+                mapFile();
+            }
+        }
+        return nonNull(offsets);
+    }
+
+    private void mapFile() {
+        final long start = System.nanoTime();
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() >= FLAT_INDEX) {
+                throw new IllegalStateException("Region file is too large to be mapped");
+            }
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            final var blockOffsets = indexBlocks(mapped);
+            buffer = mapped;
+            mappingTime = System.nanoTime() - start;
+            offsets = blockOffsets;
+        } catch (Exception e) {
+            LOGGER.error("Error while mapping {} region file.", file);
+            LOGGER.error(e.getMessage());
+            failed = true;
+        }
+    }
+
+    private int[] indexBlocks(ByteBuffer mapped) {
+        final int[] blockOffsets = new int[GeoStructure.REGION_BLOCKS];
+        int position = 0;
+        for (int block = 0; block < GeoStructure.REGION_BLOCKS; block++) {
+            blockOffsets[block] = position;
+            final byte type = mapped.get(position++);
+            position = switch (type) {
+                case GeoStructure.TYPE_FLAT_L2D -> position + 2;
+                case GeoStructure.TYPE_COMPLEX_L2D -> position + GeoStructure.BLOCK_CELLS * 3;
+                case GeoStructure.TYPE_MULTILAYER_L2D -> skipLayers(mapped, position);
+                default -> throw new IllegalArgumentException("Unknown block type: " + type);
+            };
+        }
+
+        if (position > mapped.limit()) {
+            throw new IllegalStateException("Unexpected end of region file");
+        } else if (position < mapped.limit()) {
+            LOGGER.warn("GeoEngine: Region file {} can be corrupted, remaining {} bytes to read.", file, mapped.limit() - position);
+        }
+        return blockOffsets;
+    }
+
+    private static int skipLayers(ByteBuffer mapped, int position) {
+        for (int cell = 0; cell < GeoStructure.BLOCK_CELLS; cell++) {
+            final byte layers = mapped.get(position);
+            if (layers <= 0 || layers > MAX_LAYERS) {
+                throw new IllegalStateException("Invalid layer count for MultilayerBlock");
+            }
+            position += layers * 3 + 1;
+        }
+        return position;
+    }
+
+    public boolean isMapped() {
+        return nonNull(offsets);
+    }
+
+    /**
+     * @return the amount of bytes of the region file mapped outside the heap.
+     */
+    public long mappedSize() {
+        return isMapped() ? buffer.capacity() : 0;
+    }
+
+    /**
+     * @return the amount of heap bytes used by the block index of the region.
+     */
+    public long indexSize() {
+        return isMapped() ? (long) GeoStructure.REGION_BLOCKS * Integer.BYTES : 0;
+    }
+
+    public long mappingTime() {
+        return mappingTime;
+    }
+
+    private int blockOffset(int geoX, int geoY) {
+        final int blockX = (geoX / GeoStructure.BLOCK_CELLS_X) % GeoStructure.REGION_BLOCKS_X;
+        final int blockY = (geoY / GeoStructure.BLOCK_CELLS_Y) % GeoStructure.REGION_BLOCKS_Y;
+        return offsets[blockX * GeoStructure.REGION_BLOCKS_Y + blockY];
+    }
+
+    private static int cellOf(int geoX, int geoY) {
+        return ((geoX % GeoStructure.BLOCK_CELLS_X) * GeoStructure.BLOCK_CELLS_Y) + (geoY % GeoStructure.BLOCK_CELLS_Y);
+    }
+
+    /**
+     * Moves to the layers count of the cell given by coordinates inside the multilayer block.
+     */
+    private int cellPosition(int offset, int geoX, int geoY) {
+        int position = offset + 1;
+        for (int i = cellOf(geoX, geoY); i > 0; i--) {
+            position += buffer.get(position) * 3 + 1;
+        }
+        return position;
+    }
+
+    @Override
+    public boolean hasGeoPos() {
+        return true;
+    }
+
+    @Override
+    public short getHeightNearest(int geoX, int geoY, int worldZ) {
+        return getHeight(getIndexNearest(geoX, geoY, worldZ));
+    }
+
+    @Override
+    public short getHeightNearestOriginal(int geoX, int geoY, int worldZ) {
+        return getHeightNearest(geoX, geoY, worldZ);
+    }
+
+    @Override
+    public short getHeightAbove(int geoX, int geoY, int worldZ) {
+        final int index = getIndexAbove(geoX, geoY, worldZ);
+        return index == -1 ? Short.MIN_VALUE : getHeight(index);
+    }
+
+    @Override
+    public short getHeightBelow(int geoX, int geoY, int worldZ) {
+        final int index = getIndexBelow(geoX, geoY, worldZ);
+        return index == -1 ? Short.MAX_VALUE : getHeight(index);
+    }
+
+    @Override
+    public byte getNsweNearest(int geoX, int geoY, int worldZ) {
+        return getNswe(getIndexNearest(geoX, geoY, worldZ));
+    }
+
+    @Override
+    public byte getNsweNearestOriginal(int geoX, int geoY, int worldZ) {
+        return getNsweNearest(geoX, geoY, worldZ);
+    }
+
+    @Override
+    public byte getNsweAbove(int geoX, int geoY, int worldZ) {
+        final int index = getIndexAbove(geoX, geoY, worldZ);
+        return index == -1 ? 0 : getNswe(index);
+    }
+
+    @Override
+    public byte getNsweBelow(int geoX, int geoY, int worldZ) {
+        final int index = getIndexBelow(geoX, geoY, worldZ);
+        return index == -1 ? 0 : getNswe(index);
+    }
+
+    @Override
+    public int getIndexNearest(int geoX, int geoY, int worldZ) {
+        final int offset = blockOffset(geoX, geoY);
+        return switch (buffer.get(offset)) {
+            case GeoStructure.TYPE_FLAT_L2D -> offset | FLAT_INDEX;
+            case GeoStructure.TYPE_COMPLEX_L2D -> offset + 1 + cellOf(geoX, geoY) * 3;
+            default -> nearestLayer(cellPosition(offset, geoX, geoY), worldZ);
+        };
+    }
+
+    private int nearestLayer(int position, int worldZ) {
+        int layers = buffer.get(position++);
+
+        // note: When 2 layers have same distance to worldZ, returns bottom layer
+        int limit = Integer.MAX_VALUE;
+        while (layers-- > 0) {
+            final int distance = Math.abs(buffer.getShort(position + 1) - worldZ);
+            if (distance > limit) {
+                break;
+            }
+            limit = distance;
+            position += 3;
+        }
+        return position - 3;
+    }
+
+    @Override
+    public int getIndexAbove(int geoX, int geoY, int worldZ) {
+        final int offset = blockOffset(geoX, geoY);
+        return switch (buffer.get(offset)) {
+            case GeoStructure.TYPE_FLAT_L2D -> buffer.getShort(offset + 1) > worldZ ? offset | FLAT_INDEX : -1;
+            case GeoStructure.TYPE_COMPLEX_L2D -> {
+                final int index = offset + 1 + cellOf(geoX, geoY) * 3;
+                yield buffer.getShort(index + 1) > worldZ ? index : -1;
+            }
+            default -> layerAbove(cellPosition(offset, geoX, geoY), worldZ);
+        };
+    }
+
+    private int layerAbove(int position, int worldZ) {
+        // shift to last layer data (first from bottom)
+        int layers = buffer.get(position++);
+        position += (layers - 1) * 3;
+
+        while (layers-- > 0) {
+            if (buffer.getShort(position + 1) > worldZ) {
+                return position;
+            }
+            position -= 3;
+        }
+        return -1;
+    }
+
+    @Override
+    public int getIndexAboveOriginal(int geoX, int geoY, int worldZ) {
+        return getIndexAbove(geoX, geoY, worldZ);
+    }
+
+    @Override
+    public int getIndexBelow(int geoX, int geoY, int worldZ) {
+        final int offset = blockOffset(geoX, geoY);
+        return switch (buffer.get(offset)) {
+            case GeoStructure.TYPE_FLAT_L2D -> buffer.getShort(offset + 1) < worldZ ? offset | FLAT_INDEX : -1;
+            case GeoStructure.TYPE_COMPLEX_L2D -> {
+                final int index = offset + 1 + cellOf(geoX, geoY) * 3;
+                yield buffer.getShort(index + 1) < worldZ ? index : -1;
+            }
+            default -> layerBelow(cellPosition(offset, geoX, geoY), worldZ);
+        };
+    }
+
+    private int layerBelow(int position, int worldZ) {
+        // shift to first layer data (first from top)
+        int layers = buffer.get(position++);
+
+        while (layers-- > 0) {
+            if (buffer.getShort(position + 1) < worldZ) {
+                return position;
+            }
+            position += 3;
+        }
+        return -1;
+    }
+
+    @Override
+    public int getIndexBelowOriginal(int geoX, int geoY, int worldZ) {
+        return getIndexBelow(geoX, geoY, worldZ);
+    }
+
+    @Override
+    public short getHeight(int index) {
+        if ((index & FLAT_INDEX) != 0) {
+            return buffer.getShort((index & ~FLAT_INDEX) + 1);
+        }
+        return buffer.getShort(index + 1);
+    }
+
+    @Override
+    public short getHeightOriginal(int index) {
+        return getHeight(index);
+    }
+
+    @Override
+    public byte getNswe(int index) {
+        if (!changedNswe.isEmpty()) {
+            final Byte nswe = changedNswe.get(index);
+            if (nonNull(nswe)) {
+                return nswe;
+            }
+        }
+        return getNsweOriginal(index);
+    }
+
+    @Override
+    public byte getNsweOriginal(int index) {
+        if ((index & FLAT_INDEX) != 0) {
+            return FLAT_NSWE;
+        }
+        return buffer.get(index);
+    }
+
+    @Override
+    public void setNswe(int index, byte nswe) {
+        if (nswe == getNsweOriginal(index)) {
+            changedNswe.remove(index);
+        } else {
+            changedNswe.put(index, nswe);
+        }
+    }
+
+    /**
+     * Saves the whole region in L2D format, including the changed NSWE of complex and multilayer cells.
+     */
+    @Override
+    public void saveBlock(BufferedOutputStream stream) throws IOException {
+        if (!map()) {
+            return;
+        }
+        final byte[] data = new byte[buffer.capacity()];
+        buffer.get(0, data);
+        changedNswe.forEach((index, nswe) -> {
+            if ((index & FLAT_INDEX) == 0) {
+                data[index] = nswe;
+            }
+        });
+        stream.write(data);
+    }
+}
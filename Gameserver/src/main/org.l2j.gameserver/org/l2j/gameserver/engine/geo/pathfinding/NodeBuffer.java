@@ -22,7 +22,7 @@ import org.l2j.gameserver.engine.geo.geodata.GeoStructure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Arrays;
 
 /**
  * @author DS, Hasha; Credits to Diamond
@@ -38,10 +38,14 @@ public class NodeBuffer {
     private static final int OBSTACLE_MULTIPLIER = 10;
     private static final int MAX_ITERATIONS = 3500;
 
-    private final ReentrantLock _lock = new ReentrantLock();
     private final int _size;
     private final Node[][] _buffer;
 
+    // nodes set during the search, only those need to be freed
+    private Node[] _used = new Node[64];
+    private int _usedCount = 0;
+    private int _iterations = 0;
+
     // center coordinates
     private int _cx = 0;
     private int _cy = 0;
@@ -96,39 +100,49 @@ public class NodeBuffer {
         _current.setCost(getCostH(gox, goy, goz));
 
         int count = 0;
-        do {
-            // reached target?
-            if ((_current.getLoc().getGeoX() == _gtx) && (_current.getLoc().getGeoY() == _gty) && (Math.abs(_current.getLoc().getZ() - _gtz) < 8)) {
-                return _current;
-            }
+        try {
+            do {
+                // reached target?
+                if ((_current.getLoc().getGeoX() == _gtx) && (_current.getLoc().getGeoY() == _gty) && (Math.abs(_current.getLoc().getZ() - _gtz) < 8)) {
+                    return _current;
+                }
 
-            // expand current node
-            expand();
+                // expand current node
+                expand();
 
-            // move pointer
-            _current = _current.getChild();
+                // move pointer
+                _current = _current.getChild();
+            }
+            while ((_current != null) && (++count < MAX_ITERATIONS));
+        } finally {
+            _iterations = count;
         }
-        while ((_current != null) && (++count < MAX_ITERATIONS));
 
         return null;
     }
 
-    public final boolean isLocked() {
-        return _lock.tryLock();
+    /**
+     * @return the amount of iterations of the last search
+     */
+    public final int getIterations() {
+        return _iterations;
+    }
+
+    public final int getSize() {
+        return _size;
     }
 
+    /**
+     * Frees the nodes used by the last search, so the buffer can be reused.
+     */
     public final void free() {
         _current = null;
 
-        for (Node[] nodes : _buffer) {
-            for (Node node : nodes) {
-                if (node.getLoc() != null) {
-                    node.free();
-                }
-            }
+        for (int i = 0; i < _usedCount; i++) {
+            _used[i].free();
+            _used[i] = null;
         }
-
-        _lock.unlock();
+        _usedCount = 0;
     }
 
     /**
@@ -214,12 +228,20 @@ public class NodeBuffer {
         // check and update
         if (result.getLoc() == null) {
             result.setLoc(x, y, z);
+            markUsed(result);
         }
 
         // return node
         return result;
     }
 
+    private void markUsed(Node node) {
+        if (_usedCount == _used.length) {
+            _used = Arrays.copyOf(_used, _used.length * 2);
+        }
+        _used[_usedCount++] = node;
+    }
+
     /**
      * Add node given by coordinates to the buffer.
      *
@@ -28,6 +28,9 @@ public class GeoEngineSettings {
 
     private static SyncMode syncMode;
     private static boolean enabledPathFinding;
+    private static int pathFindingBuffersLimit;
+    private static long pathFindingRetainedNodes;
+    private static boolean mappedGeodata;
 
     private GeoEngineSettings() {
         // helper class
@@ -35,13 +38,28 @@ public class GeoEngineSettings {
 
     public static void load(SettingsFile settingsFile) {
         syncMode = settingsFile.getEnum("SyncMode", SyncMode.class, SyncMode.Z_ONLY);
+        mappedGeodata = settingsFile.getBoolean("MappedGeodata", false);
         enabledPathFinding = settingsFile.getBoolean("EnablePathFinding", true);
+        pathFindingBuffersLimit = settingsFile.getInt("PathFindingBuffersLimit", 32);
+        pathFindingRetainedNodes = settingsFile.getLong("PathFindingRetainedNodes", 4_000_000);
+    }
+
+    public static boolean isMappedGeodata() {
+        return mappedGeodata;
     }
 
     public static boolean isEnabledPathFinding() {
         return enabledPathFinding;
     }
 
+    public static int pathFindingBuffersLimit() {
+        return pathFindingBuffersLimit;
+    }
+
+    public static long pathFindingRetainedNodes() {
+        return pathFindingRetainedNodes;
+    }
+
     public static void setEnabledPathFinding(boolean enable) {
         enabledPathFinding = enable;
     }
@@ -383,10 +383,11 @@ public final class Item extends WorldObject {
     }
 
     private void updateItemVariation() {
-        if(nonNull(augmentation)) {
-            getDAO(ItemDAO.class).save(augmentation.getData());
-        } else {
-            getDAO(ItemDAO.class).deleteVariations(objectId);
+        if(isNull(augmentation)) {
+            ItemJournal.getInstance().deleteVariation(objectId);
+        } else if(existsInDb) {
+            // otherwise the variation is stored with the item
+            ItemJournal.getInstance().storeVariation(objectId, augmentation.getData());
         }
     }
 
@@ -398,7 +399,7 @@ public final class Item extends WorldObject {
         final VariationInstance augment = augmentation;
         augmentation = null;
 
-        getDAO(ItemDAO.class).deleteVariations(objectId);
+        ItemJournal.getInstance().deleteVariation(objectId);
         EventDispatcher.getInstance().notifyEventAsync(new OnPlayerAugment(getActingPlayer(), this, augment, false), template);
     }
 
@@ -436,7 +437,7 @@ public final class Item extends WorldObject {
     }
 
     private void removeFromDb() {
-        getDAO(ItemDAO.class).deleteItem(objectId);
+        ItemJournal.getInstance().delete(objectId);
         existsInDb = false;
         storedInDb = false;
     }
@@ -445,12 +446,15 @@ public final class Item extends WorldObject {
         if (storedInDb) {
             return;
         }
-        getDAO(ItemDAO.class).save(data);
-        updateItemVariation();
+        ItemJournal.getInstance().store(data);
+        storedInDb = true;
+        if (nonNull(augmentation)) {
+            updateItemVariation();
+        }
     }
 
     private void insertIntoDb() {
-        getDAO(ItemDAO.class).save(data);
+        ItemJournal.getInstance().store(data);
         existsInDb = true;
         storedInDb = true;
         if (nonNull(augmentation)) {
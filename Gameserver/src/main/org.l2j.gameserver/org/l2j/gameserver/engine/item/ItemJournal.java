@@ -0,0 +1,299 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.engine.item;
+
+import io.github.joealisson.primitive.HashIntMap;
+import io.github.joealisson.primitive.HashIntSet;
+import io.github.joealisson.primitive.IntMap;
+import io.github.joealisson.primitive.IntSet;
+import org.l2j.commons.threading.ThreadPool;
+import org.l2j.gameserver.data.database.dao.ItemDAO;
+import org.l2j.gameserver.data.database.data.ItemData;
+import org.l2j.gameserver.data.database.data.ItemVariationData;
+import org.l2j.gameserver.settings.GeneralSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.l2j.commons.database.DatabaseAccess.getDAO;
+
+/**
+ * Write-behind journal of the items changes.
+ *
+ * The changes are recorded by object id, so repeated changes of an item are collapsed into its last state,
+ * and written on a fixed interval as a batch of upserts and a batch of deletes.
+ * The item variations are recorded in the same way and written after the items, since they reference the items rows.
+ * The items loaded from database must {@link #flush()} the journal before, otherwise a pending change can be missed.
+ * The same applies to items written directly by the DAO, otherwise a pending change can overwrite them.
+ *
+ * @author JoeAlisson
+ */
+public final class ItemJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemJournal.class);
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final boolean enabled;
+    private IntMap<JournalEntry<ItemData>> pending = new HashIntMap<>();
+    private IntMap<JournalEntry<ItemVariationData>> pendingVariations = new HashIntMap<>();
+    private ScheduledFuture<?> flushTask;
+    private boolean closed;
+
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final LongAdder lagMillis = new LongAdder();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    private ItemJournal() {
+        final int interval = GeneralSettings.itemJournalInterval();
+        enabled = interval > 0;
+        if(enabled) {
+            flushTask = ThreadPool.scheduleAtFixedDelay(this::flush, interval, interval);
+        }
+    }
+
+    void store(ItemData data) {
+        if(!record(data.getObjectId(), data, false)) {
+            getDAO(ItemDAO.class).save(data);
+        }
+    }
+
+    void delete(int objectId) {
+        if(!record(objectId, null, false)) {
+            getDAO(ItemDAO.class).deleteItem(objectId);
+        }
+    }
+
+    void storeVariation(int objectId, ItemVariationData variation) {
+        if(!record(objectId, variation, true)) {
+            getDAO(ItemDAO.class).save(variation);
+        }
+    }
+
+    void deleteVariation(int objectId) {
+        if(!record(objectId, null, true)) {
+            getDAO(ItemDAO.class).deleteVariations(objectId);
+        }
+    }
+
+    /**
+     * @param data the item or variation data to be stored or null when it must be deleted
+     * @return false if the change must be written immediately
+     */
+    private boolean record(int objectId, Object data, boolean variation) {
+        if(!enabled) {
+            return false;
+        }
+
+        final int size;
+        synchronized (this) {
+            if(closed) {
+                return false;
+            }
+
+            if(variation) {
+                put(pendingVariations, objectId, (ItemVariationData) data);
+            } else {
+                if(isNull(data)) {
+                    // the variation row is deleted in cascade with the item row
+                    pendingVariations.remove(objectId);
+                }
+                put(pending, objectId, (ItemData) data);
+            }
+            size = pending.size() + pendingVariations.size();
+        }
+        changes.increment();
+
+        if(size >= GeneralSettings.itemJournalMaxPending() && flushRequested.compareAndSet(false, true)) {
+            ThreadPool.execute(this::flush);
+        }
+        return true;
+    }
+
+    private static <T> void put(IntMap<JournalEntry<T>> journal, int objectId, T data) {
+        final var entry = journal.get(objectId);
+        if(isNull(entry)) {
+            journal.put(objectId, new JournalEntry<>(data, System.currentTimeMillis()));
+        } else {
+            entry.data = data;
+        }
+    }
+
+    /**
+     * Writes all pending changes and waits it to complete.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            final IntMap<JournalEntry<ItemData>> batch;
+            final IntMap<JournalEntry<ItemVariationData>> variations;
+            synchronized (this) {
+                flushRequested.set(false);
+                if(pending.isEmpty() && pendingVariations.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                variations = pendingVariations;
+                pending = new HashIntMap<>();
+                pendingVariations = new HashIntMap<>();
+            }
+            write(batch, variations);
+        }
+    }
+
+    private void write(IntMap<JournalEntry<ItemData>> batch, IntMap<JournalEntry<ItemVariationData>> variations) {
+        final long start = System.nanoTime();
+        final List<ItemData> stored = new ArrayList<>(batch.size());
+        final IntSet deleted = new HashIntSet();
+        splitChanges(batch, stored, deleted);
+
+        final List<ItemVariationData> storedVariations = new ArrayList<>(variations.size());
+        final IntSet deletedVariations = new HashIntSet();
+        splitChanges(variations, storedVariations, deletedVariations);
+
+        try {
+            final var dao = getDAO(ItemDAO.class);
+            if(!deleted.isEmpty()) {
+                dao.deleteItems(deleted);
+            }
+            if(!stored.isEmpty()) {
+                dao.save(stored);
+            }
+            if(!deletedVariations.isEmpty()) {
+                dao.deleteVariations(deletedVariations);
+            }
+            for (var variation : storedVariations) {
+                dao.save(variation);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Could not write {} item changes, retrying on next flush", batch.size() + variations.size(), e);
+            failures.increment();
+            requeue(batch, variations);
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        registerLag(batch, now);
+        registerLag(variations, now);
+        written.add(batch.size() + variations.size());
+        flushes.increment();
+        flushNanos.add(System.nanoTime() - start);
+    }
+
+    private static <T> void splitChanges(IntMap<JournalEntry<T>> batch, List<T> stored, IntSet deleted) {
+        for (var entry : batch.entrySet()) {
+            final var data = entry.getValue().data;
+            if(isNull(data)) {
+                deleted.add(entry.getKey());
+            } else {
+                stored.add(data);
+            }
+        }
+    }
+
+    private void registerLag(IntMap<? extends JournalEntry<?>> batch, long now) {
+        for (var entry : batch.values()) {
+            final long lag = now - entry.since;
+            lagMillis.add(lag);
+            maxLagMillis.accumulateAndGet(lag, Math::max);
+        }
+    }
+
+    /**
+     * Puts back the changes not yet superseded by a newer change of the same item.
+     */
+    private synchronized void requeue(IntMap<JournalEntry<ItemData>> batch, IntMap<JournalEntry<ItemVariationData>> variations) {
+        for (var entry : batch.entrySet()) {
+            if(!pending.containsKey(entry.getKey())) {
+                pending.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        for (var entry : variations.entrySet()) {
+            final var item = pending.get(entry.getKey());
+            if(!pendingVariations.containsKey(entry.getKey()) && (isNull(item) || nonNull(item.data))) {
+                pendingVariations.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Writes the pending changes, from now on the changes are written immediately.
+     */
+    public void shutdown() {
+        if(nonNull(flushTask)) {
+            flushTask.cancel(false);
+        }
+        flush();
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+
+    public CharSequence getStats() {
+        final int pendingCount;
+        synchronized (this) {
+            pendingCount = pending.size() + pendingVariations.size();
+        }
+        final long writtenCount = written.sum();
+        final long flushCount = flushes.sum();
+        return new StringBuilder("Item Journal\n")
+            .append("=================================================\n")
+            .append("\tEnabled: ............. ").append(enabled).append("\n")
+            .append("\tPending: ............. ").append(pendingCount).append("\n")
+            .append("\tChanges: ............. ").append(changes.sum()).append("\n")
+            .append("\tWritten: ............. ").append(writtenCount).append("\n")
+            .append("\tCoalescing Ratio: .... ").append(writtenCount == 0 ? "0" : String.format("%.2f", (double) changes.sum() / writtenCount)).append("\n")
+            .append("\tFlushes: ............. ").append(flushCount).append("\n")
+            .append("\tFailures: ............ ").append(failures.sum()).append("\n")
+            .append("\tAverage Flush (ms): .. ").append(flushCount == 0 ? 0 : flushNanos.sum() / flushCount / 1_000_000).append("\n")
+            .append("\tAverage Lag (ms): .... ").append(writtenCount == 0 ? 0 : lagMillis.sum() / writtenCount).append("\n")
+            .append("\tMax Lag (ms): ........ ").append(maxLagMillis.get()).append("\n");
+    }
+
+    public static ItemJournal getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final ItemJournal INSTANCE = new ItemJournal();
+    }
+
+    private static final class JournalEntry<T> {
+        private final long since;
+        private T data;
+
+        private JournalEntry(T data, long since) {
+            this.data = data;
+            this.since = since;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.l2j.gameserver.engine.mail;
 import org.l2j.gameserver.data.database.dao.ItemDAO;
 import org.l2j.gameserver.data.database.data.ItemData;
 import org.l2j.gameserver.engine.item.Item;
+import org.l2j.gameserver.engine.item.ItemJournal;
 import org.l2j.gameserver.enums.ItemLocation;
 import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.model.item.container.ItemContainer;
@@ -84,6 +85,7 @@ public class Attachment extends ItemContainer {
 
     @Override
     public void restore() {
+        ItemJournal.getInstance().flush();
         for (ItemData data : getDAO(ItemDAO.class).findItemsAttachment(ownerId, mailId)) {
             final Item item = new Item(data);
             World.getInstance().addObject(item);
@@ -91,8 +91,7 @@ public abstract class AbstractMissionHandler extends ListenersContainer  {
     }
 
     public synchronized void reset() {
-        getDAO(MissionDAO.class).deleteById(holder.getId());
-        MissionData.getInstance().clearMissionData(holder.getId());
+        MissionData.getInstance().resetMission(holder.getId());
     }
 
     public void requestReward(Player player) {
@@ -112,8 +111,7 @@ public abstract class AbstractMissionHandler extends ListenersContainer  {
     }
 
     protected void storePlayerEntry(MissionPlayerData entry) {
-        MissionData.getInstance().storeMissionData(holder.getId(), entry);
-        getDAO(MissionDAO.class).save(entry);
+        MissionData.getInstance().saveMissionData(holder.getId(), entry);
     }
 
     protected MissionPlayerData getPlayerEntry(Player player, boolean createIfNone) {
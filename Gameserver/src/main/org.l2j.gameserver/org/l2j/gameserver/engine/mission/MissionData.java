@@ -21,11 +21,14 @@ package org.l2j.gameserver.engine.mission;
 import io.github.joealisson.primitive.CHashIntMap;
 import io.github.joealisson.primitive.HashIntMap;
 import io.github.joealisson.primitive.IntMap;
+import org.l2j.commons.threading.ThreadPool;
 import org.l2j.commons.util.Util;
+import org.l2j.gameserver.data.database.dao.MissionDAO;
 import org.l2j.gameserver.data.database.data.MissionPlayerData;
 import org.l2j.gameserver.model.StatsSet;
 import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.model.holders.ItemHolder;
+import org.l2j.gameserver.settings.GeneralSettings;
 import org.l2j.gameserver.settings.ServerSettings;
 import org.l2j.gameserver.util.GameXmlReader;
 import org.slf4j.Logger;
@@ -36,12 +39,19 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
+import static org.l2j.commons.database.DatabaseAccess.getDAO;
 
 /**
+ * The missions progress of the players are kept in memory and the changed ones are written on a fixed interval as a batch.
+ *
  * @author Sdw
  * @author JoeAlisson
  */
@@ -50,7 +60,14 @@ public class MissionData extends GameXmlReader {
 
     private final IntMap<IntMap<MissionPlayerData>> missionsData = new CHashIntMap<>();
     private final IntMap<List<MissionDataHolder>> missions = new HashIntMap<>();
+    private final Object flushLock = new Object();
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
 
+    private Set<MissionPlayerData> changed = new HashSet<>();
+    private ScheduledFuture<?> flushTask;
+    private boolean closed;
     private boolean available;
 
     private MissionData() {
@@ -63,6 +80,7 @@ public class MissionData extends GameXmlReader {
 
     @Override
     public void load() {
+        MissionEngine.getInstance().clearKillMissions();
         missions.clear();
         parseDatapackFile("data/mission.xml");
         available = !missions.isEmpty();
@@ -164,6 +182,100 @@ public class MissionData extends GameXmlReader {
         }
     }
 
+    /**
+     * Keeps the mission progress in memory and schedules it to be written.
+     *
+     * @param missionId the mission id
+     * @param data the changed mission progress
+     */
+    public void saveMissionData(int missionId, MissionPlayerData data) {
+        storeMissionData(missionId, data);
+        changes.increment();
+
+        if (GeneralSettings.missionStoreInterval() > 0) {
+            synchronized (this) {
+                if (!closed) {
+                    changed.add(data);
+                    return;
+                }
+            }
+        }
+        getDAO(MissionDAO.class).save(data);
+        written.increment();
+    }
+
+    /**
+     * Writes all changed missions progress and waits it to complete.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            final Set<MissionPlayerData> batch;
+            synchronized (this) {
+                if (changed.isEmpty()) {
+                    return;
+                }
+                batch = changed;
+                changed = new HashSet<>();
+            }
+
+            try {
+                getDAO(MissionDAO.class).save(batch);
+                written.add(batch.size());
+                flushes.increment();
+            } catch (Exception e) {
+                LOGGER.error("Could not write {} missions progress, retrying on next flush", batch.size(), e);
+                synchronized (this) {
+                    changed.addAll(batch);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the progress of all players on the mission.
+     *
+     * @param missionId the mission id
+     */
+    void resetMission(int missionId) {
+        synchronized (flushLock) {
+            synchronized (this) {
+                changed.removeIf(data -> data.getMissionId() == missionId);
+            }
+            getDAO(MissionDAO.class).deleteById(missionId);
+            clearMissionData(missionId);
+        }
+    }
+
+    /**
+     * Writes the changed missions progress, from now on the progress is written immediately.
+     */
+    public void shutdown() {
+        if (nonNull(flushTask)) {
+            flushTask.cancel(false);
+        }
+        flush();
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+
+    synchronized int pendingChanges() {
+        return changed.size();
+    }
+
+    long changes() {
+        return changes.sum();
+    }
+
+    long written() {
+        return written.sum();
+    }
+
+    long flushes() {
+        return flushes.sum();
+    }
+
     public IntMap<MissionPlayerData> getStoredMissionData(Player player) {
         return missionsData.computeIfAbsent(player.getObjectId(), id -> new CHashIntMap<>());
     }
@@ -174,6 +286,11 @@ public class MissionData extends GameXmlReader {
 
     public static void init() {
         getInstance().load();
+
+        final int interval = GeneralSettings.missionStoreInterval();
+        if (interval > 0) {
+            getInstance().flushTask = ThreadPool.scheduleAtFixedDelay(getInstance()::flush, interval, interval);
+        }
     }
 
     public static MissionData getInstance() {
@@ -18,17 +18,34 @@
  */
 package org.l2j.gameserver.engine.mission;
 
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.IntMap;
+import org.l2j.gameserver.model.events.EventType;
+import org.l2j.gameserver.model.events.Listeners;
+import org.l2j.gameserver.model.events.impl.character.npc.OnAttackableKill;
+import org.l2j.gameserver.model.events.listeners.ConsumerEventListener;
+
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static java.util.Objects.nonNull;
+
 /**
  * @author Sdw
  * @author JoeAlisson
  */
 public final class MissionEngine {
     private final Map<String, Function<MissionDataHolder, AbstractMissionHandler>> handlerFactories = new HashMap<>();
+    private final IntMap<List<Consumer<OnAttackableKill>>> killMissions = new CHashIntMap<>();
+    private final List<Consumer<OnAttackableKill>> anyKillMissions = new CopyOnWriteArrayList<>();
+    private final LongAdder kills = new LongAdder();
+    private final LongAdder dispatches = new LongAdder();
 
     private MissionEngine() {
     }
@@ -41,8 +58,65 @@ public final class MissionEngine {
         return handlerFactories.get(name);
     }
 
+    /**
+     * Register the mission action to be notified when one of the monsters is killed.
+     * All missions share a single kill listener, which routes the kill only to the missions of the monster.
+     *
+     * @param monsters the monsters ids, when empty the action is notified on any monster kill
+     * @param action the mission action
+     */
+    public void registerKillMission(int[] monsters, Consumer<OnAttackableKill> action) {
+        if (monsters.length == 0) {
+            anyKillMissions.add(action);
+            return;
+        }
+
+        for (var monster : monsters) {
+            killMissions.computeIfAbsent(monster, id -> new CopyOnWriteArrayList<>()).add(action);
+        }
+    }
+
+    void clearKillMissions() {
+        killMissions.clear();
+        anyKillMissions.clear();
+    }
+
+    private void onAttackableKill(OnAttackableKill event) {
+        kills.increment();
+        final var missions = killMissions.get(event.getTarget().getId());
+        if (nonNull(missions)) {
+            for (var mission : missions) {
+                mission.accept(event);
+            }
+            dispatches.add(missions.size());
+        }
+
+        for (var mission : anyKillMissions) {
+            mission.accept(event);
+        }
+        dispatches.add(anyKillMissions.size());
+    }
+
+    public CharSequence getStats() {
+        final var data = MissionData.getInstance();
+        final long writtenCount = data.written();
+        return new StringBuilder("Missions\n")
+            .append("=================================================\n")
+            .append("\tIndexed Monsters: .... ").append(killMissions.size()).append("\n")
+            .append("\tAny Kill Missions: ... ").append(anyKillMissions.size()).append("\n")
+            .append("\tKills: ............... ").append(kills.sum()).append("\n")
+            .append("\tDispatches: .......... ").append(dispatches.sum()).append("\n")
+            .append("\tPending Changes: ..... ").append(data.pendingChanges()).append("\n")
+            .append("\tChanges: ............. ").append(data.changes()).append("\n")
+            .append("\tWritten: ............. ").append(writtenCount).append("\n")
+            .append("\tCoalescing Ratio: .... ").append(writtenCount == 0 ? "0" : String.format("%.2f", (double) data.changes() / writtenCount)).append("\n")
+            .append("\tFlushes: ............. ").append(data.flushes()).append("\n");
+    }
+
     public static void init() {
         ServiceLoader.load(MissionHandlerFactory.class).forEach(MissionEngine.getInstance()::registerHandler);
+        final var listeners = Listeners.Monsters();
+        listeners.addListener(new ConsumerEventListener(listeners, EventType.ON_ATTACKABLE_KILL, (Consumer<OnAttackableKill>) getInstance()::onAttackableKill, getInstance()));
         MissionData.init();
     }
 
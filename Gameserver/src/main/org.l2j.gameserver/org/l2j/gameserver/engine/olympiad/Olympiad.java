@@ -116,6 +116,10 @@ public class Olympiad extends AbstractEventManager<OlympiadMatch> {
 
     @Override
     public void onInitialized() {
+        for (var arena : settings.availableArenas) {
+            InstanceManager.getInstance().markReusable(arena);
+        }
+
         data = getDAO(OlympiadDAO.class).findData();
 
         if(isNull(data)) {
@@ -18,11 +18,14 @@
  */
 package org.l2j.gameserver.engine.rank;
 
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.HashIntMap;
 import io.github.joealisson.primitive.IntMap;
 import org.l2j.commons.threading.ThreadPool;
 import org.l2j.gameserver.data.database.dao.RankDAO;
 import org.l2j.gameserver.data.database.data.RankData;
 import org.l2j.gameserver.data.database.data.RankHistoryData;
+import org.l2j.gameserver.data.database.data.RankSnapshotData;
 import org.l2j.gameserver.enums.UserInfoType;
 import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.model.events.EventType;
@@ -40,9 +43,14 @@ import org.l2j.gameserver.world.zone.ZoneType;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
 import static java.util.Objects.isNull;
@@ -51,10 +59,28 @@ import static org.l2j.commons.database.DatabaseAccess.getDAO;
 import static org.l2j.commons.util.Util.doIfNonNull;
 
 /**
+ * Keeps the server and race ranking in memory, ordered by exp and online time and updated as the players gain or lose exp.
+ * The database snapshot and history are only written by the scheduled {@link #updateRankers()}, the snapshot is taken from the memory ranking.
+ *
  * @author JoeAlisson
  */
 public class RankEngine {
 
+    // the ranking criteria, applied to the rankers loaded from the database and to the online players
+    private static final int MIN_RANKER_LEVEL = 76;
+    private static final int RANKER_ACCESS_LEVEL = 0;
+    private static final int TOP_RANKERS = 150;
+    private static final int TOP_RACE_RANKERS = 100;
+    private static final int NEIGHBOUR_RANKERS = 10;
+    // players with the same exp and online time share the rank, the player id only keeps them apart in the ranking trees
+    private static final Comparator<Ranker> SCORE_ORDER = Comparator.comparingLong(Ranker::exp).thenComparingLong(Ranker::onlineTime).reversed();
+    private static final Comparator<Ranker> EXP_ORDER = SCORE_ORDER.thenComparingInt(Ranker::playerId);
+
+    private final IntMap<Ranker> rankers = new CHashIntMap<>();
+    private final OrderStatisticTree<Ranker> ranking = new OrderStatisticTree<>(EXP_ORDER);
+    private final IntMap<OrderStatisticTree<Ranker>> raceRanking = new HashIntMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
     private IntMap<RankData> rankersSnapshot;
     private ScheduledFuture<?> bowTask;
 
@@ -146,8 +172,74 @@ public class RankEngine {
         rankersSnapshot = getDAO(RankDAO.class).findAllSnapshot();
     }
 
+    private void loadRanking() {
+        final var loaded = getDAO(RankDAO.class).findRankerCandidates(MIN_RANKER_LEVEL, RANKER_ACCESS_LEVEL);
+        lock.writeLock().lock();
+        try {
+            rankers.clear();
+            ranking.clear();
+            raceRanking.clear();
+            for (var data : loaded) {
+                if (isRankerClass(data.getClassId())) {
+                    addRanker(new Ranker(data));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        World.getInstance().forEachPlayer(this::updateRanker);
+    }
+
+    private void addRanker(Ranker ranker) {
+        rankers.put(ranker.playerId(), ranker);
+        ranking.add(ranker);
+        raceRanking.computeIfAbsent(ranker.race(), r -> new OrderStatisticTree<>(EXP_ORDER)).add(ranker);
+    }
+
+    private void removeRanker(Ranker ranker) {
+        rankers.remove(ranker.playerId());
+        ranking.remove(ranker);
+        raceRanking.get(ranker.race()).remove(ranker);
+    }
+
+    /**
+     * Updates the player position on the ranking, called when the player exp changes.
+     *
+     * @param player the player
+     */
+    public void updateRanker(Player player) {
+        if (!isRankable(player) && !rankers.containsKey(player.getObjectId())) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            final var ranker = rankers.get(player.getObjectId());
+            if (nonNull(ranker)) {
+                removeRanker(ranker);
+                if (isRankable(player)) {
+                    ranker.update(player);
+                    addRanker(ranker);
+                }
+            } else if (isRankable(player)) {
+                addRanker(new Ranker(player));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isRankable(Player player) {
+        return player.getLevel() >= MIN_RANKER_LEVEL && player.getAccessLevel().getLevel() == RANKER_ACCESS_LEVEL && isRankerClass(player.getBaseClass());
+    }
+
+    private static boolean isRankerClass(int classId) {
+        return (classId >= 88 && classId <= 118) || classId == 131 || classId == 134 || classId == 195;
+    }
+
     public void updateRankers() {
         rankersSnapshot.values().forEach(this::removeRankerSkills);
+        loadRanking();
         updateDatabase();
         loadRankers();
         rankersSnapshot.values().forEach(this::addRankersSkills);
@@ -196,39 +288,147 @@ public class RankEngine {
     private void updateDatabase() {
         var dao = getDAO(RankDAO.class);
         dao.clearSnapshot();
-        dao.updateSnapshot();
+        dao.save(takeSnapshot());
 
         var now = Instant.now();
         dao.updateRankersHistory(now.getEpochSecond());
         dao.removeOldRankersHistory(now.minus(7, ChronoUnit.DAYS).getEpochSecond());
     }
 
+    private List<RankSnapshotData> takeSnapshot() {
+        lock.writeLock().lock();
+        try {
+            final var all = ranking.range(0, ranking.size());
+            final List<RankSnapshotData> snapshot = new ArrayList<>(all.size());
+            for (var ranker : all) {
+                final int rank = rankOf(ranker);
+                final int rankRace = raceRankOf(ranker);
+                ranker.updateSnapshot(rank, rankRace);
+                snapshot.add(RankSnapshotData.of(ranker.playerId(), ranker.exp(), rank, rankRace));
+            }
+            return snapshot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int rankOf(Ranker ranker) {
+        return ranking.countBefore(ranker, SCORE_ORDER) + 1;
+    }
+
+    private int raceRankOf(Ranker ranker) {
+        return raceRanking.get(ranker.race()).countBefore(ranker, SCORE_ORDER) + 1;
+    }
+
     public RankData getRank(Player player) {
-        return getDAO(RankDAO.class).findPlayerRank(player.getObjectId());
+        lock.readLock().lock();
+        try {
+            final var ranker = rankers.get(player.getObjectId());
+            return nonNull(ranker) ? toRankData(ranker) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public List<RankData> getTopRankers() {
-        return getDAO(RankDAO.class).findTopRankers();
+        lock.readLock().lock();
+        try {
+            return toRankData(ranking.range(0, TOP_RANKERS));
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public List<RankData> getTopRaceRankers(int race) {
-        return getDAO(RankDAO.class).findTopByRace(race);
+        lock.readLock().lock();
+        try {
+            final var raceRankers = raceRanking.get(race);
+            return nonNull(raceRankers) ? toRaceRankData(raceRankers.range(0, TOP_RACE_RANKERS)) : Collections.emptyList();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public List<RankData> getClanRankers(int clanId) {
-        return getDAO(RankDAO.class).findByClan(clanId);
+        lock.readLock().lock();
+        try {
+            final List<Ranker> clanRankers = new ArrayList<>();
+            for (var ranker : rankers.values()) {
+                if (ranker.clanId() == clanId) {
+                    clanRankers.add(ranker);
+                }
+            }
+            clanRankers.sort(EXP_ORDER);
+            return toRankData(clanRankers);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public List<RankData> getFriendRankers(Player player) {
-        return getDAO(RankDAO.class).findFriendRankers(player.getObjectId());
+        lock.readLock().lock();
+        try {
+            final List<Ranker> friendRankers = new ArrayList<>();
+            doIfNonNull(rankers.get(player.getObjectId()), friendRankers::add);
+            player.getFriendList().stream().forEach(friendId -> doIfNonNull(rankers.get(friendId), friendRankers::add));
+            friendRankers.sort(EXP_ORDER);
+            return toRankData(friendRankers);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public List<RankData> getRankersByPlayer(Player player) {
-        return getDAO(RankDAO.class).findRankersNextToPlayer(player.getObjectId());
+        lock.readLock().lock();
+        try {
+            final var ranker = rankers.get(player.getObjectId());
+            if (isNull(ranker)) {
+                return Collections.emptyList();
+            }
+            final int index = ranking.indexOf(ranker);
+            return toRankData(ranking.range(index - NEIGHBOUR_RANKERS, index + NEIGHBOUR_RANKERS + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public List<RankData> getRaceRankersByPlayer(Player player) {
-        return getDAO(RankDAO.class).findRaceRankersNextToPlayer(player.getObjectId(), player.getRace().ordinal());
+        lock.readLock().lock();
+        try {
+            final var ranker = rankers.get(player.getObjectId());
+            if (isNull(ranker)) {
+                return Collections.emptyList();
+            }
+            final var raceRankers = raceRanking.get(ranker.race());
+            final int index = raceRankers.indexOf(ranker);
+            return toRaceRankData(raceRankers.range(index - NEIGHBOUR_RANKERS, index + NEIGHBOUR_RANKERS + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RankData toRankData(Ranker ranker) {
+        return ranker.toRankData(rankOf(ranker), raceRankOf(ranker));
+    }
+
+    private List<RankData> toRankData(List<Ranker> rankers) {
+        final List<RankData> data = new ArrayList<>(rankers.size());
+        for (var ranker : rankers) {
+            data.add(toRankData(ranker));
+        }
+        return data;
+    }
+
+    /**
+     * The race ranking lists show the race position as the rank.
+     */
+    private List<RankData> toRaceRankData(List<Ranker> rankers) {
+        final List<RankData> data = new ArrayList<>(rankers.size());
+        for (var ranker : rankers) {
+            final int rankRace = raceRankOf(ranker);
+            data.add(ranker.toRankData(rankRace, rankRace));
+        }
+        return data;
     }
 
     public List<RankHistoryData> getPlayerHistory(Player player) {
@@ -236,7 +436,9 @@ public class RankEngine {
     }
 
     public static void init() {
-        getInstance().loadRankers();
+        var engine = getInstance();
+        engine.loadRankers();
+        engine.loadRanking();
     }
 
     public static RankEngine getInstance() {
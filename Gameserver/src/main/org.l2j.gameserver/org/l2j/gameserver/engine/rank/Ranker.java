@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.engine.rank;
+
+import org.l2j.gameserver.data.database.data.RankData;
+import org.l2j.gameserver.model.actor.instance.Player;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * The live ranking state of a player.
+ *
+ * @author JoeAlisson
+ */
+final class Ranker {
+
+    private final int playerId;
+    private final byte race;
+    private String name;
+    private long exp;
+    private long onlineTime;
+    private byte level;
+    private short classId;
+    private int clanId;
+    private String clanName;
+    private int rankSnapshot;
+    private int rankRaceSnapshot;
+
+    Ranker(RankData data) {
+        playerId = data.getPlayerId();
+        race = data.getRace();
+        name = data.getPlayerName();
+        exp = data.getExp();
+        onlineTime = data.getOnlineTime();
+        level = data.getLevel();
+        classId = data.getClassId();
+        clanId = data.getClanId();
+        clanName = data.getClanName();
+        rankSnapshot = data.getRankSnapshot();
+        rankRaceSnapshot = data.getRankRaceSnapshot();
+    }
+
+    Ranker(Player player) {
+        playerId = player.getObjectId();
+        race = (byte) player.getRace().ordinal();
+        update(player);
+    }
+
+    /**
+     * Updates the player info. The exp and online time must only be changed while the ranker is out of the ranking trees.
+     */
+    void update(Player player) {
+        name = player.getName();
+        exp = player.getExp();
+        onlineTime = player.getOnlineTime();
+        level = (byte) player.getLevel();
+        classId = (short) player.getBaseClass();
+        clanId = player.getClanId();
+        clanName = nonNull(player.getClan()) ? player.getClan().getName() : "";
+    }
+
+    void updateSnapshot(int rank, int rankRace) {
+        rankSnapshot = rank;
+        rankRaceSnapshot = rankRace;
+    }
+
+    RankData toRankData(int rank, int rankRace) {
+        return RankData.of(playerId, name, exp, level, classId, race, clanName, rank, rankRace, rankSnapshot, rankRaceSnapshot);
+    }
+
+    int playerId() {
+        return playerId;
+    }
+
+    byte race() {
+        return race;
+    }
+
+    long exp() {
+        return exp;
+    }
+
+    long onlineTime() {
+        return onlineTime;
+    }
+
+    int clanId() {
+        return clanId;
+    }
+}
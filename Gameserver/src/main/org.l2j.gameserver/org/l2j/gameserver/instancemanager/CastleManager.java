@@ -27,6 +27,7 @@ import org.l2j.gameserver.data.database.dao.ItemDAO;
 import org.l2j.gameserver.data.database.data.CastleData;
 import org.l2j.gameserver.data.database.data.ClanMember;
 import org.l2j.gameserver.engine.item.Item;
+import org.l2j.gameserver.engine.item.ItemJournal;
 import org.l2j.gameserver.enums.InventorySlot;
 import org.l2j.gameserver.model.Clan;
 import org.l2j.gameserver.model.WorldObject;
@@ -166,6 +167,7 @@ public final class CastleManager implements InstanceListManager {
                     // continue removing offline
                 }
             }
+            ItemJournal.getInstance().flush();
             getDAO(ItemDAO.class).deleteByIdAndOwner(circletId, member.getObjectId());
         }
     }
@@ -18,6 +18,8 @@
  */
 package org.l2j.gameserver.instancemanager;
 
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.IntMap;
 import org.l2j.commons.threading.ThreadPool;
 import org.l2j.gameserver.data.database.dao.ItemDAO;
 import org.l2j.gameserver.data.database.data.CommissionItemData;
@@ -27,28 +29,33 @@ import org.l2j.gameserver.engine.mail.MailEngine;
 import org.l2j.gameserver.enums.ItemLocation;
 import org.l2j.gameserver.enums.MailType;
 import org.l2j.gameserver.model.actor.instance.Player;
+import org.l2j.gameserver.model.commission.CommissionFilter;
 import org.l2j.gameserver.model.commission.CommissionItem;
+import org.l2j.gameserver.model.commission.CommissionItemType;
 import org.l2j.gameserver.model.item.CommonItem;
-import org.l2j.gameserver.engine.item.ItemTemplate;
 import org.l2j.gameserver.engine.mail.Attachment;
+import org.l2j.gameserver.model.item.type.CrystalType;
 import org.l2j.gameserver.network.SystemMessageId;
 import org.l2j.gameserver.network.serverpackets.commission.*;
 import org.l2j.gameserver.network.serverpackets.commission.ExResponseCommissionList.CommissionListReplyType;
 import org.l2j.gameserver.world.zone.ZoneType;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.concurrent.ScheduledFuture;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
+import static java.util.Objects.isNull;
 import static org.l2j.commons.database.DatabaseAccess.getDAO;
 
 /**
+ * Keeps the commission items indexed by item type and grade, sorted by price, and by seller.
+ * The sales expiration is checked from a single queue ordered by the end time.
+ *
  * @author NosBit
+ * @author JoeAlisson
  */
 public final class CommissionManager {
 
@@ -57,17 +64,74 @@ public final class CommissionManager {
     private static final long MIN_REGISTRATION_AND_SALE_FEE = 1000;
     private static final double REGISTRATION_FEE_PER_DAY = 0.001;
     private static final double SALE_FEE_PER_DAY = 0.005;
+    private static final long EXPIRATION_CHECK_INTERVAL = 1000;
+
+    private static final Comparator<CommissionItem> PRICE_ORDER = Comparator.comparingLong(CommissionItem::getPricePerUnit).thenComparingLong(CommissionItem::getCommissionId);
+    private static final Comparator<CommissionItem> END_TIME_ORDER = Comparator.comparing(CommissionItem::getEndTime).thenComparingLong(CommissionItem::getCommissionId);
 
-    private final Map<Long, CommissionItem> _commissionItems = new ConcurrentSkipListMap<>();
+    private final Map<Long, CommissionItem> _commissionItems = new ConcurrentHashMap<>();
+    private final Map<IndexKey, NavigableSet<CommissionItem>> itemsByType = new ConcurrentHashMap<>();
+    private final IntMap<Set<CommissionItem>> itemsBySeller = new CHashIntMap<>();
+    private final NavigableSet<CommissionItem> expirationQueue = new ConcurrentSkipListSet<>(END_TIME_ORDER);
+
+    private final LongAdder browses = new LongAdder();
+    private final LongAdder browseNanos = new LongAdder();
+    private final LongAccumulator maxBrowseNanos = new LongAccumulator(Math::max, 0);
 
     private CommissionManager() {
         for (var commissionItem : getDAO(ItemDAO.class).findCommissionItems()) {
-            _commissionItems.put(commissionItem.getCommissionId(), commissionItem);
-            if (commissionItem.getEndTime().isBefore(Instant.now())) {
-                expireSale(commissionItem);
-            } else {
-                commissionItem.setSaleEndTask(ThreadPool.schedule(() -> expireSale(commissionItem), Duration.between(Instant.now(), commissionItem.getEndTime()).toMillis()));
-            }
+            addCommissionItem(commissionItem);
+        }
+        expireSales();
+        ThreadPool.scheduleAtFixedDelay(this::expireSales, EXPIRATION_CHECK_INTERVAL, EXPIRATION_CHECK_INTERVAL);
+    }
+
+    private void addCommissionItem(CommissionItem commissionItem) {
+        _commissionItems.put(commissionItem.getCommissionId(), commissionItem);
+        itemsByType.computeIfAbsent(IndexKey.of(commissionItem), k -> new ConcurrentSkipListSet<>(PRICE_ORDER)).add(commissionItem);
+        itemsBySeller.computeIfAbsent(commissionItem.getItemInstance().getOwnerId(), k -> ConcurrentHashMap.newKeySet()).add(commissionItem);
+        expirationQueue.add(commissionItem);
+    }
+
+    /**
+     * Removes the commission item from the market, only one caller succeeds to remove the same item.
+     *
+     * @param commissionId the commission id
+     * @return the removed commission item or {@code null} if it was not on the market
+     */
+    private CommissionItem removeCommissionItem(long commissionId) {
+        final var commissionItem = _commissionItems.remove(commissionId);
+        if (isNull(commissionItem)) {
+            return null;
+        }
+
+        final var typeItems = itemsByType.get(IndexKey.of(commissionItem));
+        if (typeItems != null) {
+            typeItems.remove(commissionItem);
+        }
+
+        final var sellerItems = itemsBySeller.get(commissionItem.getItemInstance().getOwnerId());
+        if (sellerItems != null) {
+            sellerItems.remove(commissionItem);
+        }
+        expirationQueue.remove(commissionItem);
+        return commissionItem;
+    }
+
+    private void expireSales() {
+        final var now = Instant.now();
+        CommissionItem first;
+        while ((first = firstToExpire()) != null && first.getEndTime().isBefore(now)) {
+            expirationQueue.remove(first);
+            expireSale(first);
+        }
+    }
+
+    private CommissionItem firstToExpire() {
+        try {
+            return expirationQueue.first();
+        } catch (NoSuchElementException e) {
+            return null;
         }
     }
 
@@ -91,13 +155,13 @@ public final class CommissionManager {
      * @param player the player
      * @param filter the filter
      */
-    public void showAuctions(Player player, Predicate<ItemTemplate> filter) {
-        //@formatter:off
-        final List<CommissionItem> commissionItems = _commissionItems.values().stream()
-                .filter(c -> filter.test(c.getItemInfo().getTemplate()))
-                .limit(ITEMS_LIMIT_PER_REQUEST)
-                .collect(Collectors.toList());
-        //@formatter:on
+    public void showAuctions(Player player, CommissionFilter filter) {
+        final long start = System.nanoTime();
+        final List<CommissionItem> commissionItems = findAuctions(filter);
+        final long elapsed = System.nanoTime() - start;
+        browses.increment();
+        browseNanos.add(elapsed);
+        maxBrowseNanos.accumulate(elapsed);
 
         if (commissionItems.isEmpty()) {
             player.sendPacket(new ExResponseCommissionList(CommissionListReplyType.ITEM_DOES_NOT_EXIST));
@@ -114,18 +178,39 @@ public final class CommissionManager {
         }
     }
 
+    /**
+     * Merges the indexed items matching the filter by price, until the items limit per request.
+     */
+    private List<CommissionItem> findAuctions(CommissionFilter filter) {
+        final var sources = new PriorityQueue<PeekingIterator>(Comparator.comparing(PeekingIterator::peek, PRICE_ORDER));
+        for (var entry : itemsByType.entrySet()) {
+            final var key = entry.getKey();
+            if (filter.matches(key.type(), key.grade())) {
+                final var source = new PeekingIterator(entry.getValue().iterator(), filter);
+                if (source.hasNext()) {
+                    sources.add(source);
+                }
+            }
+        }
+
+        final List<CommissionItem> commissionItems = new ArrayList<>();
+        while (!sources.isEmpty() && commissionItems.size() < ITEMS_LIMIT_PER_REQUEST) {
+            final var source = sources.poll();
+            commissionItems.add(source.next());
+            if (source.hasNext()) {
+                sources.add(source);
+            }
+        }
+        return commissionItems;
+    }
+
     /**
      * Shows the player his auctions.
      *
      * @param player the player
      */
     public void showPlayerAuctions(Player player) {
-        //@formatter:off
-        final List<CommissionItem> commissionItems = _commissionItems.values().stream()
-                .filter(c -> c.getItemInstance().getOwnerId() == player.getObjectId())
-                .limit(MAX_ITEMS_REGISTERED_PER_PLAYER)
-                .collect(Collectors.toList());
-        //@formatter:on
+        final List<CommissionItem> commissionItems = sellerItems(player.getObjectId()).stream().limit(MAX_ITEMS_REGISTERED_PER_PLAYER).toList();
 
         if (!commissionItems.isEmpty()) {
             player.sendPacket(new ExResponseCommissionList(CommissionListReplyType.PLAYER_AUCTIONS, commissionItems));
@@ -165,11 +250,7 @@ public final class CommissionManager {
         }
 
         synchronized (this) {
-            //@formatter:off
-            final long playerRegisteredItems = _commissionItems.values().stream()
-                    .filter(c -> c.getItemInstance().getOwnerId() == player.getObjectId())
-                    .count();
-            //@formatter:on
+            final long playerRegisteredItems = sellerItems(player.getObjectId()).size();
 
             if (playerRegisteredItems >= MAX_ITEMS_REGISTERED_PER_PLAYER) {
                 player.sendPacket(SystemMessageId.THE_ITEM_HAS_FAILED_TO_BE_REGISTERED);
@@ -195,10 +276,7 @@ public final class CommissionManager {
             CommissionItemData data = CommissionItemData.of(itemInstance.getObjectId(), pricePerUnit, durationInDays );
             getDAO(ItemDAO.class).save(data);
 
-            final CommissionItem commissionItem = new CommissionItem(data, itemInstance);
-            final ScheduledFuture<?> saleEndTask = ThreadPool.schedule(() -> expireSale(commissionItem), Duration.between(Instant.now(), commissionItem.getEndTime()).toMillis());
-            commissionItem.setSaleEndTask(saleEndTask);
-            _commissionItems.put(commissionItem.getCommissionId(), commissionItem);
+            addCommissionItem(new CommissionItem(data, itemInstance));
 
             player.getLastCommissionInfos().put(itemInstance.getId(), new ExResponseCommissionInfo(itemInstance.getId(), pricePerUnit, itemCount, (byte) ((durationInDays - 1) / 2)));
             player.sendPacket(SystemMessageId.THE_ITEM_HAS_BEEN_SUCCESSFULLY_REGISTERED);
@@ -232,7 +310,7 @@ public final class CommissionManager {
             return;
         }
 
-        if ((_commissionItems.remove(commissionId) == null) || !commissionItem.getSaleEndTask().cancel(false)) {
+        if (isNull(removeCommissionItem(commissionId))) {
             player.sendPacket(SystemMessageId.CANCELLATION_OF_SALE_HAS_FAILED_BECAUSE_REQUIREMENTS_ARE_NOT_MET);
             player.sendPacket(ExResponseCommissionDelete.FAILED);
             return;
@@ -282,7 +360,7 @@ public final class CommissionManager {
             return;
         }
 
-        if ((_commissionItems.remove(commissionId) == null) || !commissionItem.getSaleEndTask().cancel(false)) {
+        if (isNull(removeCommissionItem(commissionId))) {
             player.getInventory().addAdena("Commission error refund", totalPrice, player, null);
             player.sendPacket(SystemMessageId.ITEM_PURCHASE_HAS_FAILED);
             player.sendPacket(ExResponseCommissionBuyItem.FAILED);
@@ -322,7 +400,7 @@ public final class CommissionManager {
      * @param commissionItem the comission item
      */
     private void expireSale(CommissionItem commissionItem) {
-        if ((_commissionItems.remove(commissionItem.getCommissionId()) != null) && deleteItemFromDB(commissionItem.getCommissionId())) {
+        if (removeCommissionItem(commissionItem.getCommissionId()) != null && deleteItemFromDB(commissionItem.getCommissionId())) {
             final var mail = MailData.of(commissionItem.getItemInstance().getOwnerId(), commissionItem.getItemInstance(), MailType.COMMISSION_ITEM_RETURNED);
             MailEngine.getInstance().sendMail(mail);
         }
@@ -343,7 +421,68 @@ public final class CommissionManager {
      * @return {@code true} if player with the objectId has commission items, {@code false} otherwise
      */
     public boolean hasCommissionItems(int objectId) {
-        return _commissionItems.values().stream().anyMatch(item -> item.getItemInstance().getObjectId() == objectId);
+        return !sellerItems(objectId).isEmpty();
+    }
+
+    private Set<CommissionItem> sellerItems(int objectId) {
+        return itemsBySeller.getOrDefault(objectId, Collections.emptySet());
+    }
+
+    public CharSequence getStats() {
+        final long count = browses.sum();
+        return new StringBuilder("Commission Market\n")
+            .append("=================================================\n")
+            .append("\tListings: ............ ").append(_commissionItems.size()).append("\n")
+            .append("\tType Indexes: ........ ").append(itemsByType.size()).append("\n")
+            .append("\tSellers: ............. ").append(itemsBySeller.size()).append("\n")
+            .append("\tBrowses: ............. ").append(count).append("\n")
+            .append("\tAverage Browse (us): . ").append(count == 0 ? 0 : browseNanos.sum() / count / 1000).append("\n")
+            .append("\tMax Browse (us): ..... ").append(maxBrowseNanos.get() / 1000).append("\n");
+    }
+
+    private record IndexKey(CommissionItemType type, CrystalType grade) {
+
+        static IndexKey of(CommissionItem commissionItem) {
+            final var template = commissionItem.getItemInfo().getTemplate();
+            return new IndexKey(template.getCommissionItemType(), template.getCrystalType());
+        }
+    }
+
+    private static final class PeekingIterator {
+        private final Iterator<CommissionItem> iterator;
+        private final CommissionFilter filter;
+        private CommissionItem next;
+
+        private PeekingIterator(Iterator<CommissionItem> iterator, CommissionFilter filter) {
+            this.iterator = iterator;
+            this.filter = filter;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (iterator.hasNext()) {
+                final var item = iterator.next();
+                if (filter.matches(item)) {
+                    next = item;
+                    return;
+                }
+            }
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+
+        CommissionItem peek() {
+            return next;
+        }
+
+        CommissionItem next() {
+            final var item = next;
+            advance();
+            return item;
+        }
     }
 
     public static CommissionManager getInstance() {
@@ -19,6 +19,7 @@
 package org.l2j.gameserver.instancemanager;
 
 import io.github.joealisson.primitive.*;
+import org.l2j.commons.threading.ThreadPool;
 import org.l2j.gameserver.Config;
 import org.l2j.gameserver.data.database.dao.InstanceDAO;
 import org.l2j.gameserver.data.database.dao.PlayerDAO;
@@ -37,6 +38,7 @@ import org.l2j.gameserver.model.instancezone.Instance;
 import org.l2j.gameserver.model.instancezone.InstanceTemplate;
 import org.l2j.gameserver.model.instancezone.conditions.Condition;
 import org.l2j.gameserver.model.spawns.SpawnTemplate;
+import org.l2j.gameserver.settings.GeneralSettings;
 import org.l2j.gameserver.settings.ServerSettings;
 import org.l2j.gameserver.util.GameXmlReader;
 import org.slf4j.Logger;
@@ -52,6 +54,7 @@ import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -67,10 +70,12 @@ public final class InstanceManager extends GameXmlReader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InstanceManager.class);
     private static final InstanceTemplate DEFAULT_TEMPLATE = new InstanceTemplate();
+    private static final long POOL_TRIM_INTERVAL = TimeUnit.MINUTES.toMillis(10);
 
     private final IntMap<InstanceTemplate> instanceTemplates = new HashIntMap<>();
     private final IntMap<Instance> instanceWorlds = new CHashIntMap<>();
     private final IntMap<IntLongMap> playerInstanceTimes = new CHashIntMap<>();
+    private final IntMap<InstancePool> pools = new CHashIntMap<>();
 
     private InstanceManager() {
     }
@@ -82,6 +87,7 @@ public final class InstanceManager extends GameXmlReader {
 
     @Override
     public void load() {
+        pools.values().forEach(pool -> pool.drain().forEach(Instance::dispose));
         instanceTemplates.clear();
         parseDatapackDirectory("data/instances", true);
         LOGGER.info("Loaded {} instance templates.", instanceTemplates.size());
@@ -115,6 +121,9 @@ public final class InstanceManager extends GameXmlReader {
             return;
         }
         final InstanceTemplate template = new InstanceTemplate(id, parseString(attrs, "name"), parseInt(attrs, "maxWorlds", -1));
+        if (parseBoolean(attrs, "reusable", false)) {
+            markReusable(id);
+        }
 
         for(var innerNode = instanceNode.getFirstChild(); nonNull(innerNode); innerNode = innerNode.getNextSibling()) {
             switch (innerNode.getNodeName()) {
@@ -296,6 +305,16 @@ public final class InstanceManager extends GameXmlReader {
         if(isNull(template)) {
             LOGGER.warn("Missing template for instance with id {}!", templateId);
             template = DEFAULT_TEMPLATE;
+        } else if(GeneralSettings.instancePoolMaxIdle() > 0) {
+            final var pool = pools.get(templateId);
+            if(nonNull(pool)) {
+                final var instance = pool.acquire();
+                if(nonNull(instance)) {
+                    instanceWorlds.put(instance.getId(), instance);
+                    instance.activate(player);
+                    return instance;
+                }
+            }
         }
 
         var id= IdFactory.getInstance().getNextId();
@@ -305,6 +324,62 @@ public final class InstanceManager extends GameXmlReader {
         return instance;
     }
 
+    /**
+     * Mark the instance template as reusable.<br>
+     * The worlds of a reusable template are reset in place when destroyed and handed out again by {@link #createInstance(int, Player)}.
+     *
+     * @param templateId template ID of instance
+     */
+    public void markReusable(int templateId) {
+        pools.computeIfAbsent(templateId, InstancePool::new);
+    }
+
+    /**
+     * Keep a destroyed instance world warm to be reused.<br>
+     * The idle world is unregistered, so it is not counted as a created world until handed out again by {@link #createInstance(int, Player)}.<br>
+     * <b><font color=red>This method is called by {@link Instance#destroy()}.</font></b>
+     *
+     * @param instance the destroyed instance world
+     * @return {@code true} if the instance world was reset and kept in the pool, otherwise {@code false}
+     */
+    public boolean recycle(Instance instance) {
+        final var pool = pools.get(instance.getTemplateId());
+        if(isNull(pool)) {
+            return false;
+        }
+        instanceWorlds.remove(instance.getId());
+        // the template has been reloaded since the world creation
+        if(instance.getTemplate() != instanceTemplates.get(instance.getTemplateId())) {
+            pool.release(instance, 0);
+            return false;
+        }
+        return pool.release(instance, GeneralSettings.instancePoolMaxIdle());
+    }
+
+    private void trimPools() {
+        pools.values().forEach(pool -> pool.trim().forEach(Instance::dispose));
+    }
+
+    public CharSequence getPoolStats() {
+        long hits = 0;
+        long misses = 0;
+        for (var pool : pools.values()) {
+            hits += pool.hits();
+            misses += pool.misses();
+        }
+
+        final var sb = new StringBuilder("Instance Pools\n")
+            .append("=================================================\n")
+            .append("\tPools: ............... ").append(pools.size()).append("\n")
+            .append("\tHits: ................ ").append(hits).append("\n")
+            .append("\tMisses: .............. ").append(misses).append("\n");
+
+        for (var pool : pools.values()) {
+            pool.appendStats(sb);
+        }
+        return sb;
+    }
+
     /**
      * Get instance world with given ID.
      *
@@ -342,10 +417,8 @@ public final class InstanceManager extends GameXmlReader {
      * @param instanceId ID of instance to unregister
      */
     public void unregister(int instanceId) {
-        if (instanceWorlds.containsKey(instanceId)) {
-            instanceWorlds.remove(instanceId);
-            IdFactory.getInstance().releaseId(instanceId);
-        }
+        instanceWorlds.remove(instanceId);
+        IdFactory.getInstance().releaseId(instanceId);
     }
 
     /**
@@ -501,6 +574,7 @@ public final class InstanceManager extends GameXmlReader {
 
     public static void init() {
         getInstance().load();
+        ThreadPool.scheduleAtFixedDelay(getInstance()::trimPools, POOL_TRIM_INTERVAL, POOL_TRIM_INTERVAL);
     }
 
     public static InstanceManager getInstance() {
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.instancemanager;
+
+import org.l2j.gameserver.model.instancezone.Instance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Warm worlds of a reusable instance template.
+ *
+ * The pool keeps at most as many idle worlds as the template peak demand, so the worlds in use plus the idle ones cover the peak.
+ * The peak decays on each trim, releasing the worlds that are no longer needed.
+ *
+ * @author JoeAlisson
+ */
+final class InstancePool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstancePool.class);
+
+    private final int templateId;
+    private final Deque<Instance> idle = new ArrayDeque<>();
+
+    private int inUse;
+    private int peakInUse;
+    private long hits;
+    private long misses;
+    private long recycled;
+    private long discarded;
+    private long resetNanos;
+    private long maxResetNanos;
+
+    InstancePool(int templateId) {
+        this.templateId = templateId;
+    }
+
+    /**
+     * Take a warm world from the pool.
+     *
+     * @return an idle world or {@code null} when the caller must create a new one
+     */
+    synchronized Instance acquire() {
+        final var instance = idle.pollFirst();
+        if (nonNull(instance)) {
+            hits++;
+        } else {
+            misses++;
+        }
+        peakInUse = Math.max(peakInUse, ++inUse);
+        return instance;
+    }
+
+    /**
+     * Reset a destroyed world in place and keep it warm when the demand requires it.
+     *
+     * @param instance the destroyed world
+     * @param maxIdle the maximum of idle worlds
+     * @return {@code true} if the world was kept, otherwise the caller must dispose it
+     */
+    synchronized boolean release(Instance instance, int maxIdle) {
+        inUse = Math.max(0, inUse - 1);
+        if (idle.size() >= Math.min(maxIdle, peakInUse - inUse)) {
+            discarded++;
+            return false;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            instance.reset();
+        } catch (Exception e) {
+            LOGGER.warn("Could not reset instance {}", instance, e);
+            discarded++;
+            return false;
+        }
+        final long elapsed = System.nanoTime() - start;
+        resetNanos += elapsed;
+        maxResetNanos = Math.max(maxResetNanos, elapsed);
+        recycled++;
+        idle.offerFirst(instance);
+        return true;
+    }
+
+    /**
+     * Decay the peak demand towards the current one.
+     *
+     * @return the idle worlds exceeding the demand, which must be disposed
+     */
+    synchronized List<Instance> trim() {
+        peakInUse = Math.max(inUse, (peakInUse + inUse) / 2);
+        final List<Instance> excess = new ArrayList<>();
+        while (idle.size() > peakInUse - inUse) {
+            excess.add(idle.pollLast());
+            discarded++;
+        }
+        return excess;
+    }
+
+    /**
+     * @return all idle worlds, which must be disposed
+     */
+    synchronized List<Instance> drain() {
+        final List<Instance> worlds = new ArrayList<>(idle);
+        discarded += idle.size();
+        idle.clear();
+        return worlds;
+    }
+
+    synchronized void appendStats(StringBuilder sb) {
+        sb.append("\tTemplate ").append(templateId).append(": idle ").append(idle.size())
+            .append(", in use ").append(inUse)
+            .append(", peak ").append(peakInUse)
+            .append(", hits ").append(hits)
+            .append(", misses ").append(misses)
+            .append(", recycled ").append(recycled)
+            .append(", discarded ").append(discarded)
+            .append(", avg reset (us) ").append(recycled == 0 ? 0 : resetNanos / recycled / 1000)
+            .append(", max reset (us) ").append(maxResetNanos / 1000).append("\n");
+    }
+
+    synchronized long hits() {
+        return hits;
+    }
+
+    synchronized long misses() {
+        return misses;
+    }
+}
@@ -28,6 +28,7 @@ public final class AggroInfo {
     private final Creature _attacker;
     private int _hate = 0;
     private int _damage = 0;
+    int heapIndex = -1;
 
     public AggroInfo(Creature pAttacker) {
         _attacker = pAttacker;
@@ -41,7 +42,7 @@ public final class AggroInfo {
         return _hate;
     }
 
-    public int checkHate(Creature owner) {
+    int checkHate(Creature owner) {
         if (_attacker.isAlikeDead() || !_attacker.isSpawned() || !owner.isInSurroundingRegion(_attacker)) {
             _hate = 0;
         }
@@ -49,11 +50,11 @@ public final class AggroInfo {
         return _hate;
     }
 
-    public void addHate(int value) {
+    void addHate(int value) {
         _hate = (int) Math.min(_hate + (long) value, 999999999);
     }
 
-    public void stopHate() {
+    void stopHate() {
         _hate = 0;
     }
 
@@ -61,7 +62,7 @@ public final class AggroInfo {
         return _damage;
     }
 
-    public void addDamage(int value) {
+    void addDamage(int value) {
         _damage = (int) Math.min(_damage + (long) value, 999999999);
     }
 
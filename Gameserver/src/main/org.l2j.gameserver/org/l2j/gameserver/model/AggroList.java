@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.model;
+
+import io.github.joealisson.primitive.HashMapToLong;
+import io.github.joealisson.primitive.MapToLong;
+import org.l2j.gameserver.model.actor.Creature;
+import org.l2j.gameserver.model.actor.instance.Player;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjLongConsumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Aggro list of an Attackable.
+ *
+ * The infos are kept in an indexed max-heap ordered by hate, so the most hated is on the top and a hate change only sifts its own info.
+ * The damage is aggregated by acting player as it's added, so the rewards don't need to go through all attackers.
+ *
+ * The lookups are lock free, any change must be done through this list.
+ *
+ * @author JoeAlisson
+ */
+public final class AggroList {
+
+    private final Map<Creature, AggroInfo> infos = new ConcurrentHashMap<>();
+    private final MapToLong<Player> playersDamage = new HashMapToLong<>();
+    private AggroInfo[] heap = new AggroInfo[8];
+    private int size;
+    private long totalDamage;
+
+    public AggroInfo get(Creature attacker) {
+        return infos.get(attacker);
+    }
+
+    public boolean contains(Creature attacker) {
+        return infos.containsKey(attacker);
+    }
+
+    public boolean isEmpty() {
+        return infos.isEmpty();
+    }
+
+    public int size() {
+        return infos.size();
+    }
+
+    /**
+     * @return a weakly consistent view of the infos
+     */
+    public Collection<AggroInfo> values() {
+        return infos.values();
+    }
+
+    public synchronized AggroInfo getOrCreate(Creature attacker) {
+        var info = infos.get(attacker);
+        if(isNull(info)) {
+            info = new AggroInfo(attacker);
+            infos.put(attacker, info);
+            link(info);
+        }
+        return info;
+    }
+
+    public synchronized void addDamage(AggroInfo info, int damage) {
+        if(info.heapIndex < 0) {
+            return;
+        }
+        final int before = info.getDamage();
+        info.addDamage(damage);
+        final int added = info.getDamage() - before;
+        totalDamage += added;
+
+        final var player = info.getAttacker().getActingPlayer();
+        if(nonNull(player) && added != 0) {
+            playersDamage.merge(player, added, Long::sum);
+        }
+    }
+
+    public synchronized void addHate(AggroInfo info, int amount) {
+        if(info.heapIndex < 0) {
+            return;
+        }
+        info.addHate(amount);
+        fix(info.heapIndex);
+    }
+
+    /**
+     * Adds the same amount of hate to all infos, it doesn't change their order.
+     */
+    public synchronized void addHateToAll(int amount) {
+        for (int i = 0; i < size; i++) {
+            heap[i].addHate(amount);
+        }
+    }
+
+    public synchronized void stopHate(AggroInfo info) {
+        if(info.heapIndex < 0) {
+            return;
+        }
+        info.stopHate();
+        fix(info.heapIndex);
+    }
+
+    /**
+     * The attackers that can't be hated anymore have their hate cleared when they reach the top.
+     *
+     * @param owner the owner of this list
+     * @return the attacker with the highest positive hate or null
+     */
+    public synchronized Creature getMostHated(Creature owner) {
+        while (size > 0) {
+            final var top = heap[0];
+            final int hate = top.getHate();
+            if(top.checkHate(owner) == hate) {
+                return hate > 0 ? top.getAttacker() : null;
+            }
+            siftDown(0);
+        }
+        return null;
+    }
+
+    public synchronized void remove(Creature attacker) {
+        final var info = infos.remove(attacker);
+        if(isNull(info)) {
+            return;
+        }
+
+        unlink(info);
+        totalDamage -= info.getDamage();
+        final var player = attacker.getActingPlayer();
+        if(nonNull(player) && info.getDamage() > 0 && playersDamage.merge(player, -info.getDamage(), Long::sum) <= 0) {
+            playersDamage.remove(player);
+        }
+    }
+
+    /**
+     * Adds the damage and hate of all attackers in the other list.
+     */
+    public void addAll(AggroList other) {
+        for (var otherInfo : other.values()) {
+            final var info = getOrCreate(otherInfo.getAttacker());
+            addDamage(info, otherInfo.getDamage());
+            addHate(info, otherInfo.getHate());
+        }
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i].heapIndex = -1;
+            heap[i] = null;
+        }
+        size = 0;
+        infos.clear();
+        playersDamage.clear();
+        totalDamage = 0;
+    }
+
+    public synchronized long getTotalDamage() {
+        return totalDamage;
+    }
+
+    /**
+     * @param action the action to be performed with each player and the damage done by him and his summons
+     */
+    public synchronized void forEachPlayerDamage(ObjLongConsumer<Player> action) {
+        for (var entry : playersDamage.entrySet()) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void link(AggroInfo info) {
+        if(size == heap.length) {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        heap[size] = info;
+        info.heapIndex = size++;
+        siftUp(info.heapIndex);
+    }
+
+    private void unlink(AggroInfo info) {
+        final int index = info.heapIndex;
+        final var last = heap[--size];
+        heap[size] = null;
+        info.heapIndex = -1;
+        if(last != info) {
+            heap[index] = last;
+            last.heapIndex = index;
+            fix(index);
+        }
+    }
+
+    private void fix(int index) {
+        if(index > 0 && heap[index].getHate() > heap[(index - 1) >>> 1].getHate()) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        final var info = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if(heap[parent].getHate() >= info.getHate()) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(info, index);
+    }
+
+    private void siftDown(int index) {
+        final var info = heap[index];
+        final int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            final int right = child + 1;
+            if(right < size && heap[right].getHate() > heap[child].getHate()) {
+                child = right;
+            }
+            if(info.getHate() >= heap[child].getHate()) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(info, index);
+    }
+
+    private void place(AggroInfo info, int index) {
+        heap[index] = info;
+        info.heapIndex = index;
+    }
+}
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -51,11 +52,18 @@ public class ContactList implements Iterable<String> {
         this.player = player;
     }
 
-    public void restore() {
-        getDAO(PlayerDAO.class).findContacts(player.getObjectId(), this::restore);
+    /**
+     * Reads the contacts names from database without changing this list.
+     *
+     * @return the saved contacts names
+     */
+    public Set<String> find() {
+        final Set<String> names = new HashSet<>();
+        getDAO(PlayerDAO.class).findContacts(player.getObjectId(), resultSet -> read(resultSet, names));
+        return names;
     }
 
-    private void restore(ResultSet resultSet) {
+    private void read(ResultSet resultSet, Set<String> names) {
         try {
             while (resultSet.next()) {
                 var contactId = resultSet.getInt(1);
@@ -63,13 +71,17 @@ public class ContactList implements Iterable<String> {
                 if (isNull(contactName)) {
                     continue;
                 }
-                contacts.add(contactName);
+                names.add(contactName);
             }
         } catch (SQLException e) {
             LOGGER.error(e.getMessage(), e);
         }
     }
 
+    public void restore(Set<String> names) {
+        contacts.addAll(names);
+    }
+
     public boolean add(String name) {
         if (verifyContact(name)) {
             return false;
@@ -93,7 +93,11 @@ public class MacroList implements IRestorable {
 
     @Override
     public boolean restoreMe() {
-        macros = getDAO(MacroDAO.class).findAllByPlayer(owner.getObjectId());
+        restore(getDAO(MacroDAO.class).findAllByPlayer(owner.getObjectId()));
         return true;
     }
+
+    public void restore(IntMap<Macro> savedMacros) {
+        macros = savedMacros;
+    }
 }
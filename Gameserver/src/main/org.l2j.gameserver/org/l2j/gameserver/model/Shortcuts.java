@@ -31,6 +31,7 @@ import org.l2j.gameserver.network.serverpackets.shortcut.ShortCutRegister;
 import org.l2j.gameserver.network.serverpackets.shortcut.ExActivateAutoShortcut;
 
 import java.util.BitSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
@@ -206,10 +207,10 @@ public class Shortcuts {
         }
     }
 
-    public void restoreMe() {
+    public void restore(List<Shortcut> savedShortcuts) {
         shortcuts.clear();
         var autoPlayEngine = AutoPlayEngine.getInstance();
-        for (Shortcut shortcut : getDAO(ShortcutDAO.class).findByPlayer(owner.getObjectId())) {
+        for (Shortcut shortcut : savedShortcuts) {
             if (!addShortcut(shortcut)) {
                 continue;
             }
@@ -440,23 +440,31 @@ public abstract class WorldObject extends ListenersContainer implements IIdentif
      *
      * @param newInstance new instance world for object
      */
-    public synchronized void setInstance(Instance newInstance) {
-        // Check if new and old instances are identical
-        if (instance == newInstance) {
-            return;
-        }
+    public void setInstance(Instance newInstance) {
+        synchronized (this) {
+            // Check if new and old instances are identical
+            if (instance == newInstance) {
+                return;
+            }
 
-        // Leave old instance
-        if (instance != null) {
-            instance.onInstanceChange(this, false);
-        }
+            // Leave old instance
+            if (instance != null) {
+                instance.onInstanceChange(this, false);
+            }
 
-        // Set new instance
-        instance = newInstance;
+            // Set new instance
+            instance = newInstance;
 
-        // Enter into new instance
-        if (newInstance != null) {
-            newInstance.onInstanceChange(this, true);
+            // Enter into new instance
+            if (newInstance != null) {
+                newInstance.onInstanceChange(this, true);
+            }
+        }
+
+        // Each instance world has its own regions, a visible object must be moved to the regions of the new world.
+        // this can synchronize on others instances, so it's out of synchronized, to avoid deadlocks
+        if (spawned && nonNull(worldRegion)) {
+            World.getInstance().switchRegionIfNeed(this);
         }
     }
 
@@ -88,7 +88,7 @@ public class Attackable extends Npc {
     private boolean _isRaidMinion = false;
     //
     private boolean _champion = false;
-    private final Map<Creature, AggroInfo> _aggroList = new ConcurrentHashMap<>();
+    private final AggroList _aggroList = new AggroList();
 
     private boolean _canReturnToSpawnPoint = true;
     private boolean _seeThroughSilentMove = false;
@@ -137,7 +137,7 @@ public class Attackable extends Npc {
         return new AttackableAI(this);
     }
 
-    public final Map<Creature, AggroInfo> getAggroList() {
+    public final AggroList getAggroList() {
         return _aggroList;
     }
 
@@ -442,21 +442,18 @@ public class Attackable extends Npc {
 
     private MaxDamageDealer calculateMaxDamageDealer(MapToLong<Player> playersDamage) {
         MaxDamageDealer maxDamageDealer = new MaxDamageDealer();
+        maxDamageDealer.totalDamage = _aggroList.getTotalDamage();
 
-        for (AggroInfo info : _aggroList.values()) {
-            long damage = info.getDamage();
-            maxDamageDealer.totalDamage += damage;
-
-            final Player attacker = info.getAttacker().getActingPlayer();
-            if (attacker != null && damage > 1 && GameUtils.checkIfInRange(PartySettings.partyRange(), this, attacker, true)) {
-                damage = playersDamage.merge(attacker, damage, Long::sum);
+        _aggroList.forEachPlayerDamage((attacker, damage) -> {
+            if (damage > 1 && GameUtils.checkIfInRange(PartySettings.partyRange(), this, attacker, true)) {
+                playersDamage.merge(attacker, damage, Long::sum);
 
                 if (damage > maxDamageDealer.dealerMaxDamage) {
                     maxDamageDealer.player = attacker;
                     maxDamageDealer.dealerMaxDamage = damage;
                 }
             }
-        }
+        });
         return maxDamageDealer;
     }
 
@@ -574,8 +571,8 @@ public class Attackable extends Npc {
         }
 
         // Get the AggroInfo of the attacker Creature from the _aggroList of the Attackable
-        final AggroInfo ai = _aggroList.computeIfAbsent(attacker, AggroInfo::new);
-        ai.addDamage(damage);
+        final AggroInfo ai = _aggroList.getOrCreate(attacker);
+        _aggroList.addDamage(ai, damage);
 
         if(targetPlayer != null && ai.getHate() == 0 && !targetPlayer.isInvisible()) {
             // Notify to scripts
@@ -586,7 +583,7 @@ public class Attackable extends Npc {
         // making this hack because not possible to determine if damage made by trap
         // so just check for triggered trap here
         if ((targetPlayer == null) || (targetPlayer.getTrap() == null) || !targetPlayer.getTrap().isTriggered()) {
-            ai.addHate(aggro);
+            _aggroList.addHate(ai, aggro);
         }
 
         changeTOIntetionActive(attacker, aggro, targetPlayer, ai);
@@ -602,7 +599,7 @@ public class Attackable extends Npc {
             }
         } else if ((targetPlayer == null) && (aggro == 0)) {
             aggro = 1;
-            ai.addHate(1);
+            _aggroList.addHate(ai, 1);
         }
 
         // Set the intention to the Attackable to AI_INTENTION_ACTIVE
@@ -621,9 +618,7 @@ public class Attackable extends Npc {
                 return;
             }
 
-            for (AggroInfo ai : _aggroList.values()) {
-                ai.addHate(amount);
-            }
+            _aggroList.addHateToAll(amount);
 
             amount = getHating(mostHated);
             if (amount >= 0) {
@@ -641,7 +636,7 @@ public class Attackable extends Npc {
             return;
         }
 
-        ai.addHate(amount);
+        _aggroList.addHate(ai, amount);
         if ((ai.getHate() >= 0) && (getMostHated() == null)) {
             ((AttackableAI) getAI()).setGlobalAggro(-25);
             clearAggroList();
@@ -662,7 +657,7 @@ public class Attackable extends Npc {
 
         final AggroInfo ai = _aggroList.get(target);
         if (ai != null) {
-            ai.stopHate();
+            _aggroList.stopHate(ai);
         }
     }
 
@@ -673,24 +668,7 @@ public class Attackable extends Npc {
         if (_aggroList.isEmpty() || isAlikeDead()) {
             return null;
         }
-
-        Creature mostHated = null;
-        int maxHate = 0;
-
-        // While Interacting over This Map Removing Object is Not Allowed
-        // Go through the aggroList of the Attackable
-        for (AggroInfo ai : _aggroList.values()) {
-            if (ai == null) {
-                continue;
-            }
-
-            if (ai.checkHate(this) > maxHate) {
-                mostHated = ai.getAttacker();
-                maxHate = ai.getHate();
-            }
-        }
-
-        return mostHated;
+        return _aggroList.getMostHated(this);
     }
 
     /**
@@ -722,7 +700,7 @@ public class Attackable extends Npc {
         }
 
         if (ai.getAttacker().isAlikeDead()) {
-            ai.stopHate();
+            _aggroList.stopHate(ai);
             return 0;
         }
         return ai.getHate();
@@ -850,7 +828,7 @@ public class Attackable extends Npc {
      * @return True if the _aggroList of this Attackable contains the Creature.
      */
     public boolean containsTarget(Creature player) {
-        return _aggroList.containsKey(player);
+        return _aggroList.contains(player);
     }
 
     /**
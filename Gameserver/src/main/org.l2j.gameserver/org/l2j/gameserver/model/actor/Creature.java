@@ -20,7 +20,6 @@ package org.l2j.gameserver.model.actor;
 
 import io.github.joealisson.primitive.*;
 import org.l2j.commons.threading.ThreadPool;
-import org.l2j.commons.util.EmptyQueue;
 import org.l2j.commons.util.Rnd;
 import org.l2j.gameserver.Config;
 import org.l2j.gameserver.ai.AttackableAI;
@@ -53,6 +52,7 @@ import org.l2j.gameserver.model.actor.templates.CreatureTemplate;
 import org.l2j.gameserver.model.effects.EffectFlag;
 import org.l2j.gameserver.model.events.EventDispatcher;
 import org.l2j.gameserver.model.events.EventType;
+import org.l2j.gameserver.model.events.ListenersContainer;
 import org.l2j.gameserver.model.events.impl.character.*;
 import org.l2j.gameserver.model.events.listeners.AbstractEventListener;
 import org.l2j.gameserver.model.events.returns.DamageReturn;
@@ -85,7 +85,6 @@ import org.l2j.gameserver.world.zone.ZoneType;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -412,9 +411,7 @@ public abstract class Creature extends WorldObject implements ISkillsHolder, IDe
     }
 
     protected void checkBroadcast(ServerPacket packet) {
-        if(World.getInstance().getPlayersCountInSurroundRegions(this) > 100) { // need to profile to find out the best amount
-            packet.sendInBroadcast(true);
-        }
+        packet.prepareBroadcast(World.getInstance().getPlayersCountInSurroundRegions(this));
     }
 
     /**
@@ -3654,14 +3651,14 @@ public abstract class Creature extends WorldObject implements ISkillsHolder, IDe
     }
 
     @Override
-    public Queue<AbstractEventListener> getListeners(EventType type) {
-        final Queue<AbstractEventListener> objectListeners = super.getListeners(type);
-        final Queue<AbstractEventListener> templateListeners = template.getListeners(type);
-        final Queue<AbstractEventListener> globalListeners = globalListenerByType(type);
+    public List<AbstractEventListener> getListeners(EventType type) {
+        final List<AbstractEventListener> objectListeners = super.getListeners(type);
+        final List<AbstractEventListener> templateListeners = template.getListeners(type);
+        final List<AbstractEventListener> globalListeners = globalListenerByType(type);
 
         // Attempt to do not create collection
         if (objectListeners.isEmpty() && templateListeners.isEmpty() && globalListeners.isEmpty()) {
-            return EmptyQueue.emptyQueue();
+            return List.of();
         } else if (!objectListeners.isEmpty() && templateListeners.isEmpty() && globalListeners.isEmpty()) {
             return objectListeners;
         } else if (!templateListeners.isEmpty() && objectListeners.isEmpty() && globalListeners.isEmpty()) {
@@ -3669,16 +3666,16 @@ public abstract class Creature extends WorldObject implements ISkillsHolder, IDe
         } else if (!globalListeners.isEmpty() && objectListeners.isEmpty() && templateListeners.isEmpty()) {
             return globalListeners;
         }
+        return ListenersContainer.merge(objectListeners, templateListeners, globalListeners);
+    }
 
-        final Queue<AbstractEventListener> both = new LinkedBlockingDeque<>(objectListeners.size() + templateListeners.size() + globalListeners.size());
-        both.addAll(objectListeners);
-        both.addAll(templateListeners);
-        both.addAll(globalListeners);
-        return both;
+    @Override
+    public boolean hasListener(EventType type) {
+        return super.hasListener(type) || template.hasListener(type) || !globalListenerByType(type).isEmpty();
     }
 
-    protected Queue<AbstractEventListener> globalListenerByType(EventType type) {
-        return EmptyQueue.emptyQueue();
+    protected List<AbstractEventListener> globalListenerByType(EventType type) {
+        return List.of();
     }
 
     public Race getRace() {
@@ -3870,11 +3867,7 @@ public abstract class Creature extends WorldObject implements ISkillsHolder, IDe
     {
         if (buffFinishTask != null)
         {
-            final ScheduledFuture<?> task = buffFinishTask.getTask();
-            if ((task != null) && !task.isCancelled() && !task.isDone())
-            {
-                task.cancel(true);
-            }
+            buffFinishTask.getTask().cancel();
             buffFinishTask = null;
         }
     }
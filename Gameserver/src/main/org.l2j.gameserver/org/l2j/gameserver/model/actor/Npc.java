@@ -73,7 +73,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.Queue;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -1274,7 +1273,7 @@ public class Npc extends Creature {
     }
 
     @Override
-    protected Queue<AbstractEventListener> globalListenerByType(EventType type) {
+    protected List<AbstractEventListener> globalListenerByType(EventType type) {
         return Listeners.Npcs().getListeners(type);
     }
 }
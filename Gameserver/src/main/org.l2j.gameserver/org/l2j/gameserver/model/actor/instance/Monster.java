@@ -32,7 +32,7 @@ import org.l2j.gameserver.model.events.listeners.AbstractEventListener;
 import org.l2j.gameserver.util.GameUtils;
 import org.l2j.gameserver.util.MinionList;
 
-import java.util.Queue;
+import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 
 import static java.util.Objects.nonNull;
@@ -229,7 +229,7 @@ public class Monster extends Attackable {
     }
 
     @Override
-    protected Queue<AbstractEventListener> globalListenerByType(EventType type) {
+    protected List<AbstractEventListener> globalListenerByType(EventType type) {
         return Listeners.Monsters().getListeners(type);
     }
 }
@@ -116,6 +116,7 @@ import org.l2j.gameserver.settings.ChatSettings;
 import org.l2j.gameserver.settings.FeatureSettings;
 import org.l2j.gameserver.settings.GeneralSettings;
 import org.l2j.gameserver.taskmanager.AttackStanceTaskManager;
+import org.l2j.gameserver.taskmanager.InfoUpdateTaskManager;
 import org.l2j.gameserver.taskmanager.SaveTaskManager;
 import org.l2j.gameserver.util.*;
 import org.l2j.gameserver.world.World;
@@ -3121,21 +3122,25 @@ public final class Player extends Playable {
      * <li>Send a Server->Client packet UserInfo to this Player (Public and Private Data)</li>
      * <li>Send a Server->Client packet CharInfo to all Player in _KnownPlayers of the Player (Public data only)</li> <FONT COLOR=#FF0000><B> <U>Caution</U> : DON'T SEND UserInfo packet to other players instead of CharInfo packet. Indeed, UserInfo packet contains PRIVATE DATA as MaxHP,
      * STR, DEX...</B></FONT>
+     * <BR>
+     * The packets are coalesced by {@link InfoUpdateTaskManager} and sent on the next world tick.
      */
     public final void broadcastUserInfo() {
-        // Send user info to the current player
-        sendPacket(new UserInfo(this));
-
-        // Broadcast char info to known players
-        broadcastCharInfo();
+        InfoUpdateTaskManager.getInstance().requestUserInfo(this);
     }
 
     public final void broadcastUserInfo(UserInfoType... types) {
-        sendPacket(new UserInfo(this, types));
-        broadcastCharInfo();
+        InfoUpdateTaskManager.getInstance().requestUserInfo(this, types);
     }
 
     public final void broadcastCharInfo() {
+        InfoUpdateTaskManager.getInstance().requestCharInfo(this);
+    }
+
+    /**
+     * Send the ExCharInfo to the known players immediately, use {@link #broadcastCharInfo()} instead.
+     */
+    public final void sendCharInfoToKnownPlayers() {
         var charInfo = new ExCharInfo(this);
         checkBroadcast(charInfo);
         World.getInstance().forEachVisibleObject(this, Player.class, player -> sendPacketAndUpdateRelation(charInfo, player), this::isVisibleFor);
@@ -3156,6 +3161,7 @@ public final class Player extends Playable {
         if (packet instanceof ExCharInfo) {
             throw new IllegalArgumentException("ExCharInfo is being send via broadcastPacket. Do NOT do that! Use broadcastCharInfo() instead.");
         }
+        checkBroadcast(packet);
         sendPacket(packet);
         super.broadcastPacket(packet);
     }
@@ -3165,6 +3171,7 @@ public final class Player extends Playable {
         if (packet instanceof ExCharInfo) {
             LOGGER.warn("ExCharInfo is being send via broadcastPacket. Do NOT do that! Use broadcastCharInfo() instead.");
         }
+        checkBroadcast(packet);
         sendPacket(packet);
         super.broadcastPacket(packet, radius);
     }
@@ -4496,6 +4503,13 @@ public final class Player extends Playable {
         return System.currentTimeMillis() - uptime;
     }
 
+    /**
+     * @return the online time stored on database, in seconds
+     */
+    public long getOnlineTime() {
+        return data.getOnlineTime();
+    }
+
     void setUptime(long time) {
         uptime = time;
     }
@@ -4592,29 +4606,40 @@ public final class Player extends Playable {
      * <li>Recipe Shop List (If configuration enabled)</li>
      * <li>Premium Item List</li>
      * <li>Pet Inventory Items</li>
+     * <li>Contacts</li>
      * </ul>
+     *
+     * The queries of all these are issued concurrently. The item reuse, effects and shortcuts are restored by {@link #onEnter()}.
      */
     void restoreCharData() {
-        restoreSkills();
-        macros.restoreMe();
-        restoreHennas();
-        restoreTeleportBookmark();
-        restoreRecipeBook();
+        final var playerDAO = getDAO(PlayerDAO.class);
+        final var restore = new PlayerRestore(this);
+        restore.fetch(PlayerRestore.Phase.SKILLS, () -> playerDAO.findSkills(objectId));
+        restore.fetch(PlayerRestore.Phase.MACROS, () -> getDAO(MacroDAO.class).findAllByPlayer(objectId));
+        restore.fetch(PlayerRestore.Phase.HENNAS, this::findHennas);
+        restore.fetch(PlayerRestore.Phase.TELEPORT_BOOKMARKS, () -> playerDAO.findTeleportBookmark(objectId));
+        restore.fetch(PlayerRestore.Phase.RECIPE_BOOK, () -> playerDAO.findAllRecipes(objectId));
 
         if (CharacterSettings.storeRecipeShopList()) {
-            restoreRecipeShopList();
+            restore.fetch(PlayerRestore.Phase.RECIPE_SHOP, () -> getDAO(RecipeDAO.class).findByPlayer(objectId));
         }
 
-        restorePetInventoryItems();
-        contacts.restore();
-    }
+        restore.fetch(PlayerRestore.Phase.PET_ITEMS, this::findPetItems);
+        restore.fetch(PlayerRestore.Phase.CONTACTS, contacts::find);
 
-    private void restoreShortCuts() {
-        shortcuts.restoreMe();
+        restore.apply(PlayerRestore.Phase.SKILLS, this::restoreSkills);
+        restore.apply(PlayerRestore.Phase.MACROS, macros::restore);
+        restore.apply(PlayerRestore.Phase.HENNAS, this::restoreHennas);
+        restore.apply(PlayerRestore.Phase.TELEPORT_BOOKMARKS, (IntMap<TeleportBookmark> bookmarks) -> teleportBookmarks.putAll(bookmarks));
+        restore.apply(PlayerRestore.Phase.RECIPE_BOOK, (IntSet recipes) -> recipes.forEach(this::restoreRecipe));
+        restore.apply(PlayerRestore.Phase.RECIPE_SHOP, (IntMap<ManufactureItem> items) -> manufactureItems = items);
+        restore.apply(PlayerRestore.Phase.PET_ITEMS, (Boolean hasPetItems) -> setPetInvItems(hasPetItems));
+        restore.apply(PlayerRestore.Phase.CONTACTS, contacts::restore);
     }
 
-    private void restoreRecipeBook() {
-        getDAO(PlayerDAO.class).findAllRecipes(objectId).forEach(this::restoreRecipe);
+    private boolean findPetItems() {
+        ItemJournal.getInstance().flush();
+        return getDAO(ItemDAO.class).hasPetItems(objectId);
     }
 
     private void restoreRecipe(int recipeId) {
@@ -4837,10 +4862,10 @@ public final class Player extends Playable {
     }
 
     /**
-     * Retrieve from the database all skills of this Player and add them to _skills.
+     * Add the skills retrieved from the database to this Player.
      */
-    private void restoreSkills() {
-        for (Skill skill : getDAO(PlayerDAO.class).findSkills(objectId)) {
+    private void restoreSkills(List<Skill> skills) {
+        for (Skill skill : skills) {
             if (skill == null) {
                 LOGGER.warn("Skipped null skill while restoring player skills for player: {}", this);
                 continue;
@@ -4862,76 +4887,90 @@ public final class Player extends Playable {
      */
     @Override
     public void restoreEffects() {
-        var playerDAO = getDAO(PlayerDAO.class);
-        playerDAO.findSavedSkill(objectId, this::restoreEffect);
+        restoreSavedEffects(findSavedEffects());
+    }
+
+    private List<SavedEffect> findSavedEffects() {
+        final var playerDAO = getDAO(PlayerDAO.class);
+        final List<SavedEffect> effects = new ArrayList<>();
+        playerDAO.findSavedSkill(objectId, resultSet -> readSavedEffects(resultSet, effects));
         playerDAO.deleteSavedSkills(objectId);
+        return effects;
     }
 
-    private void restoreEffect(ResultSet resultSet) {
+    private void readSavedEffects(ResultSet resultSet, List<SavedEffect> effects) {
         try {
-            var currentTime = System.currentTimeMillis();
             while (resultSet.next()) {
-                final int remainingTime = resultSet.getInt("remaining_time");
-                final long reuseDelay = resultSet.getLong("reuse_delay");
-                final long sysTime = resultSet.getLong("systime");
-                final int restoreType = resultSet.getInt("restore_type");
-
-                final Skill skill = SkillEngine.getInstance().getSkill(resultSet.getInt("skill_id"), resultSet.getInt("skill_level"));
-                if (skill == null) {
-                    return;
-                }
+                effects.add(new SavedEffect(resultSet.getInt("skill_id"), resultSet.getInt("skill_level"), resultSet.getInt("remaining_time"),
+                        resultSet.getLong("reuse_delay"), resultSet.getLong("systime"), resultSet.getInt("restore_type")));
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Could not restore {} active effect data ", this, e);
+        }
+    }
 
-                final long time = sysTime - currentTime;
-                if (time > 10) {
-                    disableSkill(skill, time);
-                    addTimeStamp(skill, reuseDelay, sysTime);
-                }
+    private void restoreSavedEffects(List<SavedEffect> effects) {
+        var currentTime = System.currentTimeMillis();
+        for (var effect : effects) {
+            final Skill skill = SkillEngine.getInstance().getSkill(effect.skillId(), effect.skillLevel());
+            if (skill == null) {
+                return;
+            }
 
-                // Restore Type 1 The remaining skills lost effect upon logout but were still under a high reuse delay.
-                if (restoreType > 0) {
-                    return;
-                }
+            final long time = effect.sysTime() - currentTime;
+            if (time > 10) {
+                disableSkill(skill, time);
+                addTimeStamp(skill, effect.reuseDelay(), effect.sysTime());
+            }
 
-                skill.applyEffects(this, this, false, remainingTime);
+            // Restore Type 1 The remaining skills lost effect upon logout but were still under a high reuse delay.
+            if (effect.restoreType() > 0) {
+                return;
             }
-        } catch (SQLException e) {
-            LOGGER.warn("Could not restore {} active effect data ", this, e);
+
+            skill.applyEffects(this, this, false, effect.remainingTime());
         }
     }
 
-    private void restoreItemReuse() {
-        var playerDAO = getDAO(PlayerDAO.class);
-        playerDAO.findSavedItemReuse(objectId, this::restoreItemReuse);
+    private List<SavedItemReuse> findSavedItemReuse() {
+        final var playerDAO = getDAO(PlayerDAO.class);
+        final List<SavedItemReuse> reuses = new ArrayList<>();
+        playerDAO.findSavedItemReuse(objectId, resultSet -> readSavedItemReuse(resultSet, reuses));
         playerDAO.deleteSavedItemReuse(objectId);
+        return reuses;
     }
 
-    private void restoreItemReuse(ResultSet resultSet) {
+    private void readSavedItemReuse(ResultSet resultSet, List<SavedItemReuse> reuses) {
         try {
-            var currentTime = System.currentTimeMillis();
             while (resultSet.next()) {
-                int itemId = resultSet.getInt("itemId");
-                long reuseDelay = resultSet.getLong("reuseDelay");
-                long sysTime = resultSet.getLong("systime");
-                boolean isInInventory = true;
-
-                Item item = inventory.getItemByItemId(itemId);
-                if (item == null) {
-                    item = getWarehouse().getItemByItemId(itemId);
-                    isInInventory = false;
-                }
-
-                if ((item != null) && (item.getId() == itemId) && (item.getReuseDelay() > 0)) {
-                    long remainingTime = sysTime - currentTime;
-                    if (remainingTime > 10) {
-                        addTimeStamp((int) remainingTime, itemId, isInInventory, reuseDelay, sysTime, item);
-                    }
-                }
+                reuses.add(new SavedItemReuse(resultSet.getInt("itemId"), resultSet.getLong("reuseDelay"), resultSet.getLong("systime")));
             }
         } catch (SQLException e) {
             LOGGER.warn("Could not restore {} Item Reuse data: ", this, e);
         }
     }
 
+    private void restoreItemReuse(List<SavedItemReuse> reuses) {
+        var currentTime = System.currentTimeMillis();
+        for (var reuse : reuses) {
+            final int itemId = reuse.itemId();
+            boolean isInInventory = true;
+
+            Item item = inventory.getItemByItemId(itemId);
+            if (item == null) {
+                item = getWarehouse().getItemByItemId(itemId);
+                isInInventory = false;
+            }
+
+            if ((item != null) && (item.getId() == itemId) && (item.getReuseDelay() > 0)) {
+                long remainingTime = reuse.sysTime() - currentTime;
+                if (remainingTime > 10) {
+                    addTimeStamp((int) remainingTime, itemId, isInInventory, reuse.reuseDelay(), reuse.sysTime(), item);
+                }
+            }
+        }
+    }
+
     private void addTimeStamp(int remainingTime, int itemId, boolean isInInventory, long reuseDelay, long sysTime, Item item) {
         addTimeStampItem(item, reuseDelay, sysTime);
 
@@ -4943,7 +4982,23 @@ public final class Player extends Playable {
         }
     }
 
-    private void restoreHennas() {
+    private List<SavedHenna> findHennas() {
+        final List<SavedHenna> hennas = new ArrayList<>(3);
+        getDAO(PlayerDAO.class).findHennas(objectId, resultSet -> readHennas(resultSet, hennas));
+        return hennas;
+    }
+
+    private void readHennas(ResultSet resultSet, List<SavedHenna> hennas) {
+        try {
+            while (resultSet.next()) {
+                hennas.add(new SavedHenna(resultSet.getInt("slot"), resultSet.getInt("symbol_id")));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed restoring {}'s hennas.", this, e);
+        }
+    }
+
+    private void restoreHennas(List<SavedHenna> savedHennas) {
         for (int i = 1; i < 4; i++) {
             hennas[i - 1] = null;
         }
@@ -4958,36 +5013,30 @@ public final class Player extends Playable {
             hennaRemoveSchedules.remove(entry.getKey());
         }
 
-        getDAO(PlayerDAO.class).findHennas(objectId, this::restoreHenna);
+        restoreHenna(savedHennas);
         recalculateHennaStats();
     }
 
-    private void restoreHenna(ResultSet resultSet) {
+    private void restoreHenna(List<SavedHenna> savedHennas) {
         var currentTime = System.currentTimeMillis();
-        try {
-            while (resultSet.next()) {
-                int slot = resultSet.getInt("slot");
-                int symbolId = resultSet.getInt("symbol_id");
+        for (var saved : savedHennas) {
+            final int slot = saved.slot();
+            final Henna henna = HennaData.getInstance().getHenna(saved.symbolId());
 
-                final Henna henna = HennaData.getInstance().getHenna(symbolId);
-
-                if (henna.getDuration() > 0) {
-                    final long remainingTime = getHennaDuration(slot) - currentTime;
-                    if (remainingTime < 0) {
-                        removeHenna(slot);
-                        return;
-                    }
-                    hennaRemoveSchedules.put(slot, ThreadPool.schedule(new HennaDurationTask(this, slot), currentTime + remainingTime));
+            if (henna.getDuration() > 0) {
+                final long remainingTime = getHennaDuration(slot) - currentTime;
+                if (remainingTime < 0) {
+                    removeHenna(slot);
+                    return;
                 }
+                hennaRemoveSchedules.put(slot, ThreadPool.schedule(new HennaDurationTask(this, slot), currentTime + remainingTime));
+            }
 
-                hennas[slot - 1] = henna;
+            hennas[slot - 1] = henna;
 
-                for (Skill skill : henna.getSkills()) {
-                    addSkill(skill, false);
-                }
+            for (Skill skill : henna.getSkills()) {
+                addSkill(skill, false);
             }
-        } catch (SQLException e) {
-            LOGGER.error("Failed restoring {}'s hennas.", this, e);
         }
     }
 
@@ -6036,9 +6085,14 @@ public final class Player extends Playable {
     }
 
     public void onEnter() {
+        final var restore = new PlayerRestore(this);
+        restore.fetch(PlayerRestore.Phase.ITEM_REUSE, this::findSavedItemReuse);
+        restore.fetch(PlayerRestore.Phase.EFFECTS, this::findSavedEffects);
+        restore.fetch(PlayerRestore.Phase.SHORTCUTS, () -> getDAO(ShortcutDAO.class).findByPlayer(objectId));
+
         startWarnUserTakeBreak();
-        restoreItemReuse();
-        restoreEffects();
+        restore.apply(PlayerRestore.Phase.ITEM_REUSE, this::restoreItemReuse);
+        restore.apply(PlayerRestore.Phase.EFFECTS, this::restoreSavedEffects);
 
         // TODO : Need to fix that hack!
         if (!isDead()) {
@@ -6059,7 +6113,7 @@ public final class Player extends Playable {
         if (!canOverrideCond(PcCondOverride.SKILL_CONDITIONS)) {
             checkPlayerSkills();
         }
-        restoreShortCuts();
+        restore.apply(PlayerRestore.Phase.SHORTCUTS, shortcuts::restore);
         ZoneEngine.getInstance().forEachZone(this, z -> z.onPlayerLoginInside(this));
         EventDispatcher.getInstance().notifyEventAsync(new OnPlayerLogin(this), this);
     }
@@ -6293,9 +6347,7 @@ public final class Player extends Playable {
     public void broadcastSnoop(ChatType type, String name, String _text) {
         if (!snoopListener.isEmpty()) {
             final Snoop sn = new Snoop(getObjectId(), getName(), type, name, _text);
-            if(snoopListener.size() > 1) {
-                sn.sendInBroadcast(true);
-            }
+            sn.prepareBroadcast(snoopListener.size());
 
             for (Player pci : snoopListener) {
                 if (pci != null) {
@@ -6495,6 +6547,7 @@ public final class Player extends Playable {
         stopEffects();
 
         SaveTaskManager.getInstance().remove(this);
+        InfoUpdateTaskManager.getInstance().remove(this);
         return super.deleteMe();
     }
 
@@ -7235,10 +7288,6 @@ public final class Player extends Playable {
         sendPacket(new ExGetBookMarkInfoPacket(this));
     }
 
-    private void restoreTeleportBookmark() {
-        teleportBookmarks.putAll(getDAO(PlayerDAO.class).findTeleportBookmark(objectId));
-    }
-
     @Override
     public void sendInfo(Player player) {
         if(!isInvisible() || player.canOverrideCond(PcCondOverride.SEE_ALL_PLAYERS)) {
@@ -7348,10 +7397,6 @@ public final class Player extends Playable {
         }
     }
 
-    private void restoreRecipeShopList() {
-        manufactureItems = getDAO(RecipeDAO.class).findByPlayer(objectId);
-    }
-
     @Override
     public double getCollisionRadius() {
         if (isMounted() && (mountNpcId > 0)) {
@@ -7559,13 +7604,6 @@ public final class Player extends Playable {
         petItems = haveIt;
     }
 
-    /**
-     * Restore Pet's inventory items from database.
-     */
-    private void restorePetInventoryItems() {
-        setPetInvItems(getDAO(ItemDAO.class).hasPetItems(objectId));
-    }
-
     public String getAdminConfirmCmd() {
         return adminConfirmCmd;
     }
@@ -8081,7 +8119,16 @@ public final class Player extends Playable {
     }
 
     @Override
-    protected Queue<AbstractEventListener> globalListenerByType(EventType type) {
+    protected List<AbstractEventListener> globalListenerByType(EventType type) {
         return Listeners.players().getListeners(type);
     }
+
+    private record SavedHenna(int slot, int symbolId) {
+    }
+
+    private record SavedEffect(int skillId, int skillLevel, int remainingTime, long reuseDelay, long sysTime, int restoreType) {
+    }
+
+    private record SavedItemReuse(int itemId, long reuseDelay, long sysTime) {
+    }
 }
\ No newline at end of file
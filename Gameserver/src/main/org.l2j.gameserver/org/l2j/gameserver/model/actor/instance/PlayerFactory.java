@@ -33,6 +33,7 @@ import org.l2j.gameserver.data.xml.impl.LevelData;
 import org.l2j.gameserver.data.xml.impl.PlayerTemplateData;
 import org.l2j.gameserver.engine.clan.ClanEngine;
 import org.l2j.gameserver.engine.item.ItemEngine;
+import org.l2j.gameserver.engine.item.ItemJournal;
 import org.l2j.gameserver.engine.item.ItemTemplate;
 import org.l2j.gameserver.engine.olympiad.Olympiad;
 import org.l2j.gameserver.enums.ItemLocation;
@@ -87,6 +88,7 @@ public class PlayerFactory {
         var template = PlayerTemplateData.getInstance().getTemplate(playerData.getClassId());
         Player player = new Player(client, playerData, template);
         client.setPlayer(player);
+        ItemJournal.getInstance().flush();
 
         player.setVariables(getDAO(PlayerVariablesDAO.class).findById(playerId));
         player.setStatsData(playerDAO.findPlayerStatsData(playerId));
@@ -323,6 +325,7 @@ public class PlayerFactory {
 
         getDAO(PetDAO.class).deleteByOwner(objId);
 
+        ItemJournal.getInstance().flush();
         var itemDAO = getDAO(ItemDAO.class);
         itemDAO.deleteVariationsByOwner(objId);
         itemDAO.deleteByOwner(objId);
@@ -333,6 +336,7 @@ public class PlayerFactory {
     public static List<PlayerSelectInfo> loadPlayersInfo(GameClient client) {
         PlayerSelectInfo playerInfo;
         List<PlayerSelectInfo> playersInfo = new ArrayList<>(7);
+        ItemJournal.getInstance().flush();
         try {
             for (PlayerData playerData : getDAO(PlayerDAO.class).findPlayersByAccount(client.getAccountName())) {
                 playerInfo = restorePlayerInfo(playerData);
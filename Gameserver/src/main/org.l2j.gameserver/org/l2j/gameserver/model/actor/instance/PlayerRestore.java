@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.model.actor.instance;
+
+import org.l2j.commons.threading.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Issues the independent restore queries of a player concurrently and applies their results in the caller thread.
+ *
+ * The queries only read the database, all changes to the player are made by the apply step in the order it is called.
+ * A query not yet started by the thread pool is run by the thread joining it, so a busy pool never blocks a login.
+ *
+ * @author JoeAlisson
+ */
+public final class PlayerRestore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerRestore.class);
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final LongAdder[] fetches = adders();
+    private static final LongAdder[] fetchNanos = adders();
+    private static final LongAdder[] waitNanos = adders();
+    private static final LongAdder[] applyNanos = adders();
+
+    private final Player player;
+    private final Map<Phase, FutureTask<?>> tasks = new EnumMap<>(Phase.class);
+
+    PlayerRestore(Player player) {
+        this.player = player;
+    }
+
+    <T> void fetch(Phase phase, Callable<T> query) {
+        final var task = new FutureTask<>(() -> {
+            final long start = System.nanoTime();
+            try {
+                return query.call();
+            } finally {
+                fetches[phase.ordinal()].increment();
+                fetchNanos[phase.ordinal()].add(System.nanoTime() - start);
+            }
+        });
+        tasks.put(phase, task);
+        ThreadPool.execute(task);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> void apply(Phase phase, Consumer<T> action) {
+        final var task = (FutureTask<T>) tasks.remove(phase);
+        if(isNull(task)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        final T result;
+        try {
+            task.run();
+            result = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not restore {} of {}", phase, player, e.getCause());
+            return;
+        } finally {
+            waitNanos[phase.ordinal()].add(System.nanoTime() - start);
+        }
+
+        start = System.nanoTime();
+        action.accept(result);
+        applyNanos[phase.ordinal()].add(System.nanoTime() - start);
+    }
+
+    private static LongAdder[] adders() {
+        final var adders = new LongAdder[PHASES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    public static CharSequence getStats() {
+        final var stats = new StringBuilder("Player Restore (avg us: query / wait / apply)\n")
+            .append("=================================================\n");
+        for (var phase : PHASES) {
+            final var i = phase.ordinal();
+            final long count = fetches[i].sum();
+            stats.append('\t').append(phase).append(": ").append(count);
+            if(count > 0) {
+                stats.append(" - ").append(fetchNanos[i].sum() / count / 1000)
+                     .append(" / ").append(waitNanos[i].sum() / count / 1000)
+                     .append(" / ").append(applyNanos[i].sum() / count / 1000);
+            }
+            stats.append('\n');
+        }
+        return stats;
+    }
+
+    enum Phase {
+        SKILLS,
+        MACROS,
+        HENNAS,
+        TELEPORT_BOOKMARKS,
+        RECIPE_BOOK,
+        RECIPE_SHOP,
+        PET_ITEMS,
+        CONTACTS,
+        ITEM_REUSE,
+        EFFECTS,
+        SHORTCUTS
+    }
+}
@@ -44,8 +44,19 @@ import static org.l2j.gameserver.util.GameUtils.isSummon;
 
 public class CreatureStats {
     private final Creature creature;
-    private final Map<Stat, Double> statsAdd = new EnumMap<>(Stat.class);
-    private final Map<Stat, Double> statsMul = new EnumMap<>(Stat.class);
+    /**
+     * The add and mul modifiers indexed by {@link Stat#ordinal()}, a modifier is only valid when its bit is set.
+     * The previous values are kept to detect the modified stats after a recalculation.
+     */
+    private final double[] statsAdd = new double[Stat.count()];
+    private final double[] statsMul = new double[Stat.count()];
+    private final BitSet addSet = new BitSet(Stat.count());
+    private final BitSet mulSet = new BitSet(Stat.count());
+    private final double[] previousAdd = new double[Stat.count()];
+    private final double[] previousMul = new double[Stat.count()];
+    private final BitSet previousAddSet = new BitSet(Stat.count());
+    private final BitSet previousMulSet = new BitSet(Stat.count());
+    private final BitSet dirtyStats = new BitSet(Stat.count());
     private final Map<Stat, Map<MoveType, Double>> _moveTypeStats = new ConcurrentHashMap<>();
     private final Map<SkillType, Double> reuseStat = Collections.synchronizedMap(new EnumMap<>(SkillType.class));
     private final Map<SkillType, Double> mpConsumeStat = Collections.synchronizedMap(new EnumMap<>(SkillType.class));
@@ -659,7 +670,13 @@ public class CreatureStats {
      * @param val
      */
     public void mergeAdd(Stat stat, double val) {
-        statsAdd.merge(stat, val, stat::functionAdd);
+        final int index = stat.ordinal();
+        if(addSet.get(index)) {
+            statsAdd[index] = stat.functionAdd(statsAdd[index], val);
+        } else {
+            statsAdd[index] = val;
+            addSet.set(index);
+        }
     }
 
     /**
@@ -669,7 +686,13 @@ public class CreatureStats {
      * @param val
      */
     public void mergeMul(Stat stat, double val) {
-        statsMul.merge(stat, val, stat::functionMul);
+        final int index = stat.ordinal();
+        if(mulSet.get(index)) {
+            statsMul[index] = stat.functionMul(statsMul[index], val);
+        } else {
+            statsMul[index] = val;
+            mulSet.set(index);
+        }
     }
 
     /**
@@ -688,7 +711,8 @@ public class CreatureStats {
     public double getAdd(Stat stat, double defaultValue) {
         _lock.readLock().lock();
         try {
-            return statsAdd.getOrDefault(stat, defaultValue);
+            final int index = stat.ordinal();
+            return addSet.get(index) ? statsAdd[index] : defaultValue;
         } finally {
             _lock.readLock().unlock();
         }
@@ -710,8 +734,9 @@ public class CreatureStats {
     public double getMul(Stat stat, double defaultValue) {
         _lock.readLock().lock();
         try {
-            if(statsMul.containsKey(stat)) {
-                return statsMul.get(stat) / 100 + 1;
+            final int index = stat.ordinal();
+            if(mulSet.get(index)) {
+                return statsMul[index] / 100 + 1;
             }
             return defaultValue;
         } finally {
@@ -726,7 +751,7 @@ public class CreatureStats {
      */
     public double getValue(Stat stat, double baseValue) {
         final Double fixedValue = _fixedValue.get(stat);
-        return fixedValue != null ? fixedValue : stat.finalize(creature, Optional.of(baseValue));
+        return fixedValue != null ? fixedValue : stat.finalize(creature, baseValue);
     }
 
     /**
@@ -735,12 +760,12 @@ public class CreatureStats {
      */
     public double getValue(Stat stat) {
         final Double fixedValue = _fixedValue.get(stat);
-        return fixedValue != null ? fixedValue : stat.finalize(creature, Optional.empty());
+        return fixedValue != null ? fixedValue : stat.finalize(creature);
     }
 
     protected void resetStats() {
-        statsAdd.clear();
-        statsMul.clear();
+        addSet.clear();
+        mulSet.clear();
         _vampiricSum = 0;
     }
 
@@ -750,12 +775,12 @@ public class CreatureStats {
      * @param broadcast
      */
     public final void recalculateStats(boolean broadcast) {
-        // Copy old data before wiping it out
-        final Map<Stat, Double> oldAdds = !broadcast ? Collections.emptyMap() : new EnumMap<>(statsAdd);
-        final Map<Stat, Double> oldMuls = !broadcast ? Collections.emptyMap() : new EnumMap<>(statsMul);
-
         _lock.writeLock().lock();
         try {
+            if(broadcast) {
+                keepPreviousStats();
+            }
+
             // Wipe all the data
             resetStats();
 
@@ -778,6 +803,10 @@ public class CreatureStats {
 
             _attackSpeedMultiplier = Formulas.calcAtkSpdMultiplier(creature);
             _mAttackSpeedMultiplier = Formulas.calcMAtkSpdMultiplier(creature);
+
+            if(broadcast) {
+                updateDirtyStats();
+            }
         } finally {
             _lock.writeLock().unlock();
         }
@@ -785,16 +814,50 @@ public class CreatureStats {
         onRecalculateStats(broadcast);
 
         if (broadcast) {
-            Set<Stat> modified = EnumSet.noneOf(Stat.class);
-            for (Stat stat : Stat.all()) {
-                if(isStatChanged(oldAdds, oldMuls, stat)){
-                    modified.add(stat);
-                }
+            creature.broadcastModifiedStats(modifiedStats());
+        }
+    }
+
+    private void keepPreviousStats() {
+        System.arraycopy(statsAdd, 0, previousAdd, 0, statsAdd.length);
+        System.arraycopy(statsMul, 0, previousMul, 0, statsMul.length);
+        previousAddSet.clear();
+        previousAddSet.or(addSet);
+        previousMulSet.clear();
+        previousMulSet.or(mulSet);
+    }
+
+    /**
+     * Marks as dirty the stats whose modifiers differ from the previous values.
+     * Only the stats with a modifier before or after the recalculation need to be checked.
+     */
+    private void updateDirtyStats() {
+        dirtyStats.clear();
+        dirtyStats.or(addSet);
+        dirtyStats.or(mulSet);
+        dirtyStats.or(previousAddSet);
+        dirtyStats.or(previousMulSet);
+
+        for (int i = dirtyStats.nextSetBit(0); i >= 0; i = dirtyStats.nextSetBit(i + 1)) {
+            if(!isStatChanged(i)) {
+                dirtyStats.clear(i);
             }
-            creature.broadcastModifiedStats(modified);
         }
     }
 
+    private Set<Stat> modifiedStats() {
+        final Set<Stat> modified = EnumSet.noneOf(Stat.class);
+        _lock.readLock().lock();
+        try {
+            for (int i = dirtyStats.nextSetBit(0); i >= 0; i = dirtyStats.nextSetBit(i + 1)) {
+                modified.add(Stat.valueOf(i));
+            }
+        } finally {
+            _lock.readLock().unlock();
+        }
+        return modified;
+    }
+
     private void activeSummonAbilityChange() {
         if (isSummon(creature) &&  nonNull(creature.getActingPlayer()) && creature.getActingPlayer().hasAbnormalType(AbnormalType.ABILITY_CHANGE)) {
             for (BuffInfo info : creature.getActingPlayer().getEffectList().getEffects()) {
@@ -840,8 +903,16 @@ public class CreatureStats {
         }
     }
 
-    protected boolean isStatChanged(Map<Stat, Double> oldAdds, Map<Stat, Double> oldMuls, Stat stat) {
-        return !( Objects.equals( statsAdd.get(stat), oldAdds.get(stat) ) && Objects.equals( statsMul.get(stat), oldMuls.get(stat) ));
+    private boolean isStatChanged(int index) {
+        return isModifierChanged(addSet, statsAdd, previousAddSet, previousAdd, index) || isModifierChanged(mulSet, statsMul, previousMulSet, previousMul, index);
+    }
+
+    private static boolean isModifierChanged(BitSet set, double[] values, BitSet previousSet, double[] previousValues, int index) {
+        final boolean present = set.get(index);
+        if(present != previousSet.get(index)) {
+            return true;
+        }
+        return present && Double.compare(values[index], previousValues[index]) != 0;
     }
 
     private boolean canActivate(BuffInfo info, AbstractEffect effect) {
@@ -870,7 +941,12 @@ public class CreatureStats {
     }
 
     public double getMoveTypeValue(Stat stat, MoveType type) {
-        return _moveTypeStats.getOrDefault(stat, Collections.emptyMap()).getOrDefault(type, 0d);
+        final var moveTypeValues = _moveTypeStats.get(stat);
+        if(moveTypeValues == null) {
+            return 0;
+        }
+        final Double value = moveTypeValues.get(type);
+        return value != null ? value : 0;
     }
 
     public void mergeMoveTypeValue(Stat stat, MoveType type, double value) {
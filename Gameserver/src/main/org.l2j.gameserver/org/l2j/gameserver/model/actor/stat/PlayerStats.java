@@ -20,6 +20,7 @@ package org.l2j.gameserver.model.actor.stat;
 
 import org.l2j.gameserver.api.elemental.ElementalType;
 import org.l2j.gameserver.data.xml.impl.LevelData;
+import org.l2j.gameserver.engine.rank.RankEngine;
 import org.l2j.gameserver.enums.PartySmallWindowUpdateType;
 import org.l2j.gameserver.enums.UserInfoType;
 import org.l2j.gameserver.model.Party;
@@ -79,11 +80,22 @@ public class PlayerStats extends PlayableStats {
             }
         }
 
+        RankEngine.getInstance().updateRanker(activeChar);
+
         // EXP status update currently not used in retail
         activeChar.sendPacket(new UserInfo(activeChar, UserInfoType.CURRENT_HPMPCP_EXP_SP));
         return true;
     }
 
+    @Override
+    public boolean removeExp(long value) {
+        if (!super.removeExp(value)) {
+            return false;
+        }
+        RankEngine.getInstance().updateRanker(getCreature());
+        return true;
+    }
+
     public void addExpAndSp(double addToExp, double addToSp, boolean useBonuses) {
         final Player activeChar = getCreature();
 
@@ -18,7 +18,6 @@
  */
 package org.l2j.gameserver.model.actor.status;
 
-import org.l2j.commons.threading.ThreadPool;
 import org.l2j.gameserver.model.actor.Creature;
 import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.model.events.EventDispatcher;
@@ -27,10 +26,11 @@ import org.l2j.gameserver.model.events.impl.character.player.OnPlayerMpChange;
 import org.l2j.gameserver.model.skills.AbnormalType;
 import org.l2j.gameserver.model.stats.Formulas;
 import org.l2j.gameserver.model.stats.Stat;
+import org.l2j.gameserver.taskmanager.PeriodicTaskManager;
+import org.l2j.gameserver.taskmanager.PeriodicTaskManager.PeriodicTask;
 
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
 
 import static java.util.Objects.isNull;
 
@@ -49,7 +49,7 @@ public class CreatureStatus {
      * Array containing all clients that need to be notified about hp/mp updates of the Creature
      */
     private Set<Creature> _StatusListener;
-    private Future<?> _regTask;
+    private PeriodicTask _regTask;
 
     public CreatureStatus(Creature owner) {
         this.owner = owner;
@@ -173,8 +173,7 @@ public class CreatureStatus {
 
     public final synchronized void startHpMpRegeneration() {
         if (isNull(_regTask) && !owner.isDead()) {
-            final int period = Formulas.getRegeneratePeriod(owner);
-            _regTask = ThreadPool.scheduleAtFixedRate(this::doRegeneration, period, period);
+            _regTask = PeriodicTaskManager.getInstance().schedule(this::doRegeneration, Formulas.getRegeneratePeriod(owner));
         }
     }
 
@@ -189,7 +188,7 @@ public class CreatureStatus {
     public final synchronized void stopHpMpRegeneration() {
         if (_regTask != null) {
             // Stop the HP/MP/CP Regeneration task
-            _regTask.cancel(false);
+            _regTask.cancel();
             _regTask = null;
 
             // Set the RegenActive flag to false
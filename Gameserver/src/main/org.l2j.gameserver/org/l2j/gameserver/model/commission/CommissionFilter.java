@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.model.commission;
+
+import org.l2j.gameserver.model.item.type.CrystalType;
+
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * The filter of a commission list request. A null field matches any value.
+ *
+ * @author JoeAlisson
+ */
+public record CommissionFilter(Set<CommissionItemType> types, CrystalType grade, String name) {
+
+    public CommissionFilter {
+        name = isNull(name) ? "" : name.toLowerCase();
+    }
+
+    public boolean matches(CommissionItemType type, CrystalType grade) {
+        return (isNull(types) || types.contains(type)) && (isNull(this.grade) || this.grade == grade);
+    }
+
+    public boolean matches(CommissionItem item) {
+        return name.isEmpty() || item.getSearchName().contains(name);
+    }
+}
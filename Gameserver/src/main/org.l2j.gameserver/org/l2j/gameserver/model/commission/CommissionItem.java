@@ -26,7 +26,6 @@ import org.l2j.gameserver.model.ItemInfo;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.concurrent.ScheduledFuture;
 
 /**
  * @author NosBit
@@ -35,7 +34,8 @@ public class CommissionItem {
     private final Item itemInstance;
     private final ItemInfo _itemInfo;
     private final CommissionItemData data;
-    private ScheduledFuture<?> _saleEndTask;
+    private final Instant endTime;
+    private final String searchName;
 
     public CommissionItem(CommissionItemData data, ItemData itemData) {
         this(data, new Item(itemData));
@@ -46,6 +46,8 @@ public class CommissionItem {
         this.itemInstance = itemInstance;
         this.data = data;
         _itemInfo = new ItemInfo(itemInstance);
+        endTime = data.getStartTime().plus(data.getDuration(), ChronoUnit.DAYS);
+        searchName = itemInstance.getTemplate().getName().toLowerCase();
     }
 
     /**
@@ -99,24 +101,15 @@ public class CommissionItem {
      * @return the end time
      */
     public Instant getEndTime() {
-        return data.getStartTime().plus(data.getDuration(), ChronoUnit.DAYS);
+        return endTime;
     }
 
     /**
-     * Gets the sale end task.
+     * Gets the lower case name used by the commission search.
      *
-     * @return the sale end task
+     * @return the search name
      */
-    public ScheduledFuture<?> getSaleEndTask() {
-        return _saleEndTask;
-    }
-
-    /**
-     * Sets the sale end task.
-     *
-     * @param saleEndTask the sale end task
-     */
-    public void setSaleEndTask(ScheduledFuture<?> saleEndTask) {
-        _saleEndTask = saleEndTask;
+    public String getSearchName() {
+        return searchName;
     }
 }
@@ -19,7 +19,7 @@
  */
 package org.l2j.gameserver.model.effects;
 
-import java.util.concurrent.ScheduledFuture;
+import org.l2j.gameserver.taskmanager.PeriodicTaskManager.PeriodicTask;
 
 /**
  * Effect Task Info DTO.
@@ -27,13 +27,13 @@ import java.util.concurrent.ScheduledFuture;
  * @author Zoey76
  */
 public class EffectTaskInfo {
-    private final ScheduledFuture<?> _scheduledFuture;
+    private final PeriodicTask task;
 
-    public EffectTaskInfo(ScheduledFuture<?> scheduledFuture) {
-        _scheduledFuture = scheduledFuture;
+    public EffectTaskInfo(PeriodicTask task) {
+        this.task = task;
     }
 
-    public ScheduledFuture<?> getScheduledFuture() {
-        return _scheduledFuture;
+    public PeriodicTask getTask() {
+        return task;
     }
 }
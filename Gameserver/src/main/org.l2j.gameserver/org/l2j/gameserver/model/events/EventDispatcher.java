@@ -25,17 +25,35 @@ import org.l2j.gameserver.model.events.returns.AbstractEventReturn;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Queue;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.Objects.nonNull;
 
 /**
  * @author UnAfraid
+ * @author JoeAlisson
  */
 public final class EventDispatcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(EventDispatcher.class);
+    private static final long[] LATENCY_BOUNDS = { 10_000, 100_000, 1_000_000, 10_000_000 };
+    private static final String[] LATENCY_LABELS = { "<10us", "<100us", "<1ms", "<10ms", ">=10ms" };
+    private static final int LATENCY_BUCKETS = LATENCY_BOUNDS.length + 1;
+
+    private final LongAdder[] dispatches;
+    private final LongAdder[] dispatchNanos;
+    private final AtomicLongArray latencies;
 
     private EventDispatcher() {
+        final int types = EventType.values().length;
+        dispatches = new LongAdder[types];
+        dispatchNanos = new LongAdder[types];
+        for (int i = 0; i < types; i++) {
+            dispatches[i] = new LongAdder();
+            dispatchNanos[i] = new LongAdder();
+        }
+        latencies = new AtomicLongArray(types * LATENCY_BUCKETS);
     }
 
     public <T extends AbstractEventReturn> T notifyEvent(IBaseEvent event) {
@@ -93,6 +111,7 @@ public final class EventDispatcher {
                 throw new NullPointerException("Event cannot be null!");
             }
 
+            final long start = System.nanoTime();
             T callback = null;
             if (containers != null) {
                 // Local listeners container first.
@@ -108,6 +127,7 @@ public final class EventDispatcher {
                 callback = notifyToListeners(Listeners.Global().getListeners(event.getType()), event, callbackClass, callback);
             }
 
+            record(event.getType(), start);
             return callback;
         } catch (Exception e) {
             LOGGER.warn(getClass().getSimpleName() + ": Couldn't notify event " + event.getClass().getSimpleName(), e);
@@ -120,6 +140,7 @@ public final class EventDispatcher {
             throw new NullPointerException("Event cannot be null!");
         }
 
+        final long start = System.nanoTime();
         T callback = null;
         // Local listener container first.
         if (container != null) {
@@ -131,11 +152,13 @@ public final class EventDispatcher {
             callback = notifyToListeners(Listeners.Global().getListeners(event.getType()), event, callbackClass, callback);
         }
 
+        record(event.getType(), start);
         return callback;
     }
 
-    private <T extends AbstractEventReturn> T notifyToListeners(Queue<AbstractEventListener> listeners, IBaseEvent event, Class<T> returnBackClass, T callback) {
-        for (AbstractEventListener listener : listeners) {
+    private <T extends AbstractEventReturn> T notifyToListeners(List<AbstractEventListener> listeners, IBaseEvent event, Class<T> returnBackClass, T callback) {
+        for (int i = 0; i < listeners.size(); i++) {
+            final AbstractEventListener listener = listeners.get(i);
             try {
                 final T rb = listener.executeEvent(event, returnBackClass);
                 if (rb == null) {
@@ -153,6 +176,43 @@ public final class EventDispatcher {
         return callback;
     }
 
+    private void record(EventType type, long start) {
+        final long elapsed = System.nanoTime() - start;
+        final int index = type.ordinal();
+        dispatches[index].increment();
+        dispatchNanos[index].add(elapsed);
+
+        int bucket = 0;
+        while (bucket < LATENCY_BOUNDS.length && elapsed >= LATENCY_BOUNDS[bucket]) {
+            bucket++;
+        }
+        latencies.incrementAndGet(index * LATENCY_BUCKETS + bucket);
+    }
+
+    public CharSequence getStats() {
+        final StringBuilder sb = new StringBuilder("Event Dispatcher\n")
+            .append("=================================================\n");
+
+        for (EventType type : EventType.values()) {
+            final int index = type.ordinal();
+            final long count = dispatches[index].sum();
+            if (count == 0) {
+                continue;
+            }
+
+            sb.append("\t").append(type).append(": ").append(count)
+              .append(" avg ").append(dispatchNanos[index].sum() / count / 1000).append("us [");
+            for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+                if (bucket > 0) {
+                    sb.append(" ");
+                }
+                sb.append(LATENCY_LABELS[bucket]).append(":").append(latencies.get(index * LATENCY_BUCKETS + bucket));
+            }
+            sb.append("]\n");
+        }
+        return sb;
+    }
+
     public static EventDispatcher getInstance() {
         return Singleton.INSTANCE;
     }
@@ -18,20 +18,22 @@
  */
 package org.l2j.gameserver.model.events;
 
-import org.l2j.commons.util.EmptyQueue;
 import org.l2j.gameserver.model.events.listeners.AbstractEventListener;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.PriorityBlockingQueue;
 import java.util.function.Predicate;
 
 /**
+ * Keeps the listeners of each event type as an immutable snapshot sorted by priority.
+ * Registrations replace the snapshot (copy-on-write), so dispatching never locks nor copies.
  * @author UnAfraid
+ * @author JoeAlisson
  */
 public class ListenersContainer {
-    private volatile Map<EventType, Queue<AbstractEventListener>> _listeners = null;
+    private volatile Map<EventType, List<AbstractEventListener>> _listeners = null;
 
     /**
      * Registers listener for a callback when specified event is executed.
@@ -43,7 +45,7 @@ public class ListenersContainer {
         if ((listener == null)) {
             throw new NullPointerException("Listener cannot be null!");
         }
-        getListeners().computeIfAbsent(listener.getType(), k -> new PriorityBlockingQueue<>()).add(listener);
+        getListeners().compute(listener.getType(), (type, listeners) -> insertSorted(listeners, listener));
         return listener;
     }
 
@@ -62,16 +64,17 @@ public class ListenersContainer {
             throw new IllegalAccessError("Listeners container doesn't had " + listener.getType() + " event type added!");
         }
 
-        _listeners.get(listener.getType()).remove(listener);
+        _listeners.computeIfPresent(listener.getType(), (type, listeners) -> remove(listeners, listener));
         return listener;
     }
 
     /**
      * @param type
-     * @return {@code List} of {@link AbstractEventListener} by the specified type
+     * @return immutable {@code List} of {@link AbstractEventListener} by the specified type, sorted by priority
      */
-    public Queue<AbstractEventListener> getListeners(EventType type) {
-        return (_listeners != null) && _listeners.containsKey(type) ? _listeners.get(type) : EmptyQueue.emptyQueue();
+    public List<AbstractEventListener> getListeners(EventType type) {
+        final var listeners = _listeners;
+        return listeners != null ? listeners.getOrDefault(type, List.of()) : List.of();
     }
 
     public void removeListenerIf(EventType type, Predicate<? super AbstractEventListener> filter) {
@@ -80,7 +83,7 @@ public class ListenersContainer {
 
     public void removeListenerIf(Predicate<? super AbstractEventListener> filter) {
         if (_listeners != null) {
-            getListeners().values().forEach(queue -> queue.stream().filter(filter).forEach(AbstractEventListener::unregisterMe));
+            getListeners().values().forEach(listeners -> listeners.stream().filter(filter).forEach(AbstractEventListener::unregisterMe));
         }
     }
 
@@ -93,7 +96,7 @@ public class ListenersContainer {
      *
      * @return the listeners container map.
      */
-    private Map<EventType, Queue<AbstractEventListener>> getListeners() {
+    private Map<EventType, List<AbstractEventListener>> getListeners() {
         if (_listeners == null) {
             synchronized (this) {
                 if (_listeners == null) {
@@ -103,4 +106,67 @@ public class ListenersContainer {
         }
         return _listeners;
     }
+
+    /**
+     * Merges listeners snapshots keeping the priority order. Listeners with the same priority keep the order of the given snapshots.
+     *
+     * @param listeners the snapshots to merge
+     * @return immutable {@code List} with all listeners
+     */
+    @SafeVarargs
+    public static List<AbstractEventListener> merge(List<AbstractEventListener>... listeners) {
+        int size = 0;
+        for (var snapshot : listeners) {
+            size += snapshot.size();
+        }
+        final var merged = new AbstractEventListener[size];
+        int index = 0;
+        for (var snapshot : listeners) {
+            for (var listener : snapshot) {
+                merged[index++] = listener;
+            }
+        }
+        Arrays.sort(merged);
+        return List.of(merged);
+    }
+
+    private static List<AbstractEventListener> insertSorted(List<AbstractEventListener> listeners, AbstractEventListener listener) {
+        if (listeners == null || listeners.isEmpty()) {
+            return List.of(listener);
+        }
+
+        final int size = listeners.size();
+        int position = size;
+        for (int i = 0; i < size; i++) {
+            if (listeners.get(i).getPriority() < listener.getPriority()) {
+                position = i;
+                break;
+            }
+        }
+
+        final var updated = new AbstractEventListener[size + 1];
+        for (int i = 0; i < position; i++) {
+            updated[i] = listeners.get(i);
+        }
+        updated[position] = listener;
+        for (int i = position; i < size; i++) {
+            updated[i + 1] = listeners.get(i);
+        }
+        return List.of(updated);
+    }
+
+    private static List<AbstractEventListener> remove(List<AbstractEventListener> listeners, AbstractEventListener listener) {
+        final int index = listeners.indexOf(listener);
+        if (index < 0) {
+            return listeners;
+        }
+
+        final var updated = new AbstractEventListener[listeners.size() - 1];
+        for (int i = 0, j = 0; i < listeners.size(); i++) {
+            if (i != index) {
+                updated[j++] = listeners.get(i);
+            }
+        }
+        return List.of(updated);
+    }
 }
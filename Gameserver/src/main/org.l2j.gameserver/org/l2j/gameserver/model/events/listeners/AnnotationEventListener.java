@@ -26,32 +26,53 @@ import org.l2j.gameserver.model.events.returns.AbstractEventReturn;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 
 /**
  * Annotation event listener provides dynamically attached callback to any method operation with or without any return object.
+ * The callback is bound to its owner once, so each dispatch is a direct method handle call instead of a reflective invocation.
  *
  * @author UnAfraid
+ * @author JoeAlisson
  */
 public class AnnotationEventListener extends AbstractEventListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(AnnotationEventListener.class);
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(Object.class, IBaseEvent.class);
+
     private final Method _callback;
+    private final MethodHandle _handle;
+    private final Class<?> _returnType;
 
     public AnnotationEventListener(ListenersContainer container, EventType type, Method callback, Object owner, int priority) {
         super(container, type, owner);
         _callback = callback;
+        _returnType = callback.getReturnType();
+        _handle = bind(callback, owner);
         setPriority(priority);
     }
 
+    private static MethodHandle bind(Method callback, Object owner) {
+        try {
+            AnnotationEventListener.class.getModule().addReads(callback.getDeclaringClass().getModule());
+            return MethodHandles.lookup().unreflect(callback).bindTo(owner).asType(CALLBACK_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOGGER.debug("Could not bind {} on {}, using reflection instead", callback.getName(), owner, e);
+            return null;
+        }
+    }
+
     @Override
     public <R extends AbstractEventReturn> R executeEvent(IBaseEvent event, Class<R> returnBackClass) {
         try {
-            final Object result = _callback.invoke(getOwner(), event);
-            if (_callback.getReturnType() == returnBackClass) {
+            final Object result = _handle != null ? (Object) _handle.invokeExact(event) : _callback.invoke(getOwner(), event);
+            if (_returnType == returnBackClass) {
                 return returnBackClass.cast(result);
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             LOGGER.warn(getClass().getSimpleName() + ": Error while invoking " + _callback.getName() + " on " + getOwner(), e);
         }
         return null;
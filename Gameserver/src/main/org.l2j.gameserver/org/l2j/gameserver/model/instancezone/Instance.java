@@ -45,6 +45,7 @@ import org.l2j.gameserver.network.SystemMessageId;
 import org.l2j.gameserver.network.serverpackets.ServerPacket;
 import org.l2j.gameserver.network.serverpackets.SystemMessage;
 import org.l2j.gameserver.settings.GeneralSettings;
+import org.l2j.gameserver.world.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,6 +85,7 @@ public final class Instance implements IIdentifiable, INamable {
     private ScheduledFuture<?> emptyDestroyTask = null;
     private Map<Player, Location> originLocations;
     private long endTime;
+    private boolean active;
 
     public Instance(int id, InstanceTemplate template) {
         this.id = id;
@@ -93,28 +95,61 @@ public final class Instance implements IIdentifiable, INamable {
         for (SpawnTemplate spawn : template.getSpawns()) {
             spawns.add(spawn.clone());
         }
-        // Set duration, spawns, status, etc..
-        setDuration(template.getDuration());
-        setStatus(0);
         if(template.getExitLocationType() == InstanceTeleportType.ORIGIN) {
             originLocations = new HashMap<>();
         }
+        World.getInstance().addInstanceLayer(id);
     }
 
     public void init(Player player) {
         spawnDoors();
-        spawns.stream().filter(SpawnTemplate::isSpawningByDefault).forEach(spawnTemplate -> spawnTemplate.spawnAll(this));
+        spawnDefaults();
+        activate(player);
+    }
+
+    /**
+     * Start the instance world timers and status.
+     *
+     * @param player player who created the instance world, can be {@code null}
+     */
+    public synchronized void activate(Player player) {
+        active = true;
+        setDuration(template.getDuration());
+        setStatus(0);
 
         if (!isDynamic()) {
             EventDispatcher.getInstance().notifyEventAsync(new OnInstanceCreated(this, player), template);
         }
     }
 
+    /**
+     * Reset a destroyed instance world in place, keeping its id and region layer.<br>
+     * Doors and default spawns are restored as defined in template, timers are started by {@link #activate(Player)}.
+     */
+    public synchronized void reset() {
+        allowed.clear();
+        parameters.getSet().clear();
+        if (nonNull(originLocations)) {
+            originLocations.clear();
+        }
+        endTime = -1;
+        spawnDoors();
+        spawnDefaults();
+    }
+
+    private void spawnDefaults() {
+        spawns.stream().filter(SpawnTemplate::isSpawningByDefault).forEach(spawnTemplate -> spawnTemplate.spawnAll(this));
+    }
+
     @Override
     public int getId() {
         return id;
     }
 
+    public InstanceTemplate getTemplate() {
+        return template;
+    }
+
     @Override
     public String getName() {
         return template.getName();
@@ -429,6 +464,11 @@ public final class Instance implements IIdentifiable, INamable {
      * <b><font color=red>Use this method to destroy instance world properly.</font></b>
      */
     public synchronized void destroy() {
+        if (!active) {
+            return;
+        }
+        active = false;
+
         if (cleanUpTask != null) {
             cleanUpTask.cancel(false);
             cleanUpTask = null;
@@ -451,6 +491,19 @@ public final class Instance implements IIdentifiable, INamable {
         removeDoors();
         removeNpcs();
 
+        if (!InstanceManager.getInstance().recycle(this)) {
+            dispose();
+        }
+    }
+
+    /**
+     * Release the resources of an inactive instance world.<br>
+     * <b><font color=red>Use {@link #destroy()} to destroy an active instance world.</font></b>
+     */
+    public synchronized void dispose() {
+        removeDoors();
+        removeNpcs();
+        World.getInstance().removeInstanceLayer(id);
         InstanceManager.getInstance().unregister(getId());
     }
 
@@ -23,6 +23,7 @@ import org.l2j.gameserver.data.database.dao.ItemDAO;
 import org.l2j.gameserver.data.database.data.ItemData;
 import org.l2j.gameserver.data.xml.impl.ArmorSetsData;
 import org.l2j.gameserver.engine.item.Item;
+import org.l2j.gameserver.engine.item.ItemJournal;
 import org.l2j.gameserver.engine.item.ItemChangeType;
 import org.l2j.gameserver.engine.item.ItemEngine;
 import org.l2j.gameserver.enums.InventorySlot;
@@ -658,6 +659,7 @@ public abstract class Inventory extends ItemContainer {
      */
     @Override
     public void restore() {
+        ItemJournal.getInstance().flush();
         for (ItemData data : getDAO(ItemDAO.class).findInventoryItems(getOwnerId(), getBaseLocation(), getEquipLocation())) {
             if(data.getTime() > 0 && (data.getTime() - System.currentTimeMillis() <= 1000)) {
                 getOwner().sendPacket(SystemMessage.getSystemMessage(SystemMessageId.S1_HAS_EXPIRED).addItemName(data.getItemId()));
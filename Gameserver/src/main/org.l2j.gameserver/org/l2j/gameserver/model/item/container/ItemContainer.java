@@ -24,6 +24,7 @@ import org.l2j.gameserver.data.database.dao.ItemDAO;
 import org.l2j.gameserver.data.database.data.ItemData;
 import org.l2j.gameserver.engine.item.Item;
 import org.l2j.gameserver.engine.item.ItemChangeType;
+import org.l2j.gameserver.engine.item.ItemJournal;
 import org.l2j.gameserver.engine.item.ItemEngine;
 import org.l2j.gameserver.engine.item.ItemTemplate;
 import org.l2j.gameserver.enums.ItemLocation;
@@ -575,6 +576,7 @@ public abstract class ItemContainer {
     }
 
     public void restore() {
+        ItemJournal.getInstance().flush();
         for (ItemData itemData : getDAO(ItemDAO.class).findItemsByOwnerAndLoc(getOwnerId(), getBaseLocation())) {
             var item = new Item(itemData);
             World.getInstance().addObject(item);
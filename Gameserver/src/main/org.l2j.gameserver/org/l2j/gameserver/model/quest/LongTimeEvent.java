@@ -28,6 +28,7 @@ import org.l2j.gameserver.data.database.dao.ItemDAO;
 import org.l2j.gameserver.data.xml.impl.NpcData;
 import org.l2j.gameserver.datatables.drop.EventDropHolder;
 import org.l2j.gameserver.datatables.drop.EventDropList;
+import org.l2j.gameserver.engine.item.ItemJournal;
 import org.l2j.gameserver.model.Location;
 import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.model.events.AbstractScript;
@@ -109,6 +110,7 @@ public class LongTimeEvent extends Quest {
     private void destroyItemsOnEnd() {
         itemsToDestroy.forEach(itemId -> {
             World.getInstance().forEachPlayer(player -> player.destroyItemByItemId(name, itemId, -1, player, true));
+            ItemJournal.getInstance().flush();
             getDAO(ItemDAO.class).deleteAllItemsById(itemId);
         });
     }
@@ -18,12 +18,12 @@
  */
 package org.l2j.gameserver.model.skills;
 
-import org.l2j.commons.threading.ThreadPool;
+import org.l2j.gameserver.taskmanager.PeriodicTaskManager;
+import org.l2j.gameserver.taskmanager.PeriodicTaskManager.PeriodicTask;
 
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -32,7 +32,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class BuffFinishTask
 {
 	private final Map<BuffInfo, AtomicInteger> _buffInfos = new ConcurrentHashMap<>();
-	private final ScheduledFuture<?> _task = ThreadPool.scheduleAtFixedRate(() ->
+	private final PeriodicTask _task = PeriodicTaskManager.getInstance().schedule(() ->
 	{
 		for (Entry<BuffInfo, AtomicInteger> entry : _buffInfos.entrySet())
 		{
@@ -42,9 +42,9 @@ public class BuffFinishTask
 				info.getEffected().getEffectList().stopSkillEffects(false, info.getSkill().getId());
 			}
 		}
-	}, 0, 1000);
+	}, 1000);
 	
-	public ScheduledFuture<?> getTask()
+	public PeriodicTask getTask()
 	{
 		return _task;
 	}
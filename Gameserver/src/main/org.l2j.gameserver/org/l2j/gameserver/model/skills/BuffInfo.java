@@ -18,7 +18,6 @@
  */
 package org.l2j.gameserver.model.skills;
 
-import org.l2j.commons.threading.ThreadPool;
 import org.l2j.commons.util.Util;
 import org.l2j.gameserver.engine.item.Item;
 import org.l2j.gameserver.engine.skill.api.Skill;
@@ -34,13 +33,13 @@ import org.l2j.gameserver.model.stats.Formulas;
 import org.l2j.gameserver.network.SystemMessageId;
 import org.l2j.gameserver.network.serverpackets.SystemMessage;
 import org.l2j.gameserver.settings.CharacterSettings;
+import org.l2j.gameserver.taskmanager.PeriodicTaskManager;
 import org.l2j.gameserver.world.WorldTimeController;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 
 import static org.l2j.gameserver.util.GameUtils.isPlayer;
 import static org.l2j.gameserver.util.GameUtils.isSummon;
@@ -309,8 +308,7 @@ public final class BuffInfo {
                 // The task for the effect ticks.
                 final EffectTickTask effectTask = new EffectTickTask(this, effect);
                 var effectTickRatio = CharacterSettings.effectTickRatio() * effect.getTicks();
-                final ScheduledFuture<?> scheduledFuture = ThreadPool.scheduleAtFixedRate(effectTask, effectTickRatio, effectTickRatio);
-                addTask(effect, new EffectTaskInfo(scheduledFuture));
+                addTask(effect, new EffectTaskInfo(PeriodicTaskManager.getInstance().schedule(effectTask, effectTickRatio)));
             }
         }
     }
@@ -332,7 +330,7 @@ public final class BuffInfo {
         if (!continueForever && skill.isToggle()) {
             final EffectTaskInfo task = getEffectTask(effect);
             if (task != null) {
-                task.getScheduledFuture().cancel(true); // Don't allow to finish current run.
+                task.getTask().cancel();
                 _effected.getEffectList().stopSkillEffects(true, skill); // Remove the buff from the effect list.
             }
         }
@@ -342,7 +340,7 @@ public final class BuffInfo {
         // Cancels the ticking task.
         if (_tasks != null) {
             for (EffectTaskInfo effectTask : _tasks.values()) {
-                effectTask.getScheduledFuture().cancel(true); // Don't allow to finish current run.
+                effectTask.getTask().cancel();
             }
         }
 
@@ -269,7 +269,7 @@ public class SkillCaster implements Runnable {
 
     private static void checkRaidCurse(Creature caster, Skill skill, Creature creature) {
         if (!Config.RAID_DISABLE_CURSE && creature.isRaid() && creature.giveRaidCurse() && (caster.getLevel() >= (creature.getLevel() + 9))) {
-            if (skill.isBad() || ((creature.getTarget() == caster) && ((Attackable) creature).getAggroList().containsKey(caster))) {
+            if (skill.isBad() || ((creature.getTarget() == caster) && ((Attackable) creature).getAggroList().contains(caster))) {
                 // Skills such as Summon Battle Scar too can trigger magic silence.
                 final CommonSkill curse = skill.isBad() ? CommonSkill.RAID_CURSE2 : CommonSkill.RAID_CURSE;
                 final Skill curseSkill = curse.getSkill();
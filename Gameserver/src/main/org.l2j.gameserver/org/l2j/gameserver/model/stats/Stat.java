@@ -24,7 +24,7 @@ import org.l2j.gameserver.model.stats.finalizers.*;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
 
 /**
  * Enum of basic stats.
@@ -291,10 +291,11 @@ public enum Stat {
     ELEMENTAL_SPIRIT_CRITICAL_DAMAGE;
 
     private static final EnumSet<Stat> CACHE = EnumSet.allOf(Stat.class);
+    private static final Stat[] VALUES = values();
 
     private final IStatsFunction _valueFinalizer;
-    private final BiFunction<Double, Double, Double> _addFunction;
-    private final BiFunction<Double, Double, Double> _mulFunction;
+    private final DoubleBinaryOperator _addFunction;
+    private final DoubleBinaryOperator _mulFunction;
     private boolean hasDefaultFinalizer ;
 
     Stat() {
@@ -307,7 +308,7 @@ public enum Stat {
 
     }
 
-    Stat(IStatsFunction valueFinalizer, BiFunction<Double, Double, Double> addFunction, BiFunction<Double, Double, Double> mulFunction) {
+    Stat(IStatsFunction valueFinalizer, DoubleBinaryOperator addFunction, DoubleBinaryOperator mulFunction) {
         _valueFinalizer = valueFinalizer;
         _addFunction = addFunction;
         _mulFunction = mulFunction;
@@ -317,6 +318,14 @@ public enum Stat {
         return CACHE;
     }
 
+    public static int count() {
+        return VALUES.length;
+    }
+
+    public static Stat valueOf(int ordinal) {
+        return VALUES[ordinal];
+    }
+
     public static double weaponBaseValue(Creature creature, Stat stat) {
         return stat._valueFinalizer.calcWeaponBaseValue(creature, stat);
     }
@@ -327,26 +336,52 @@ public enum Stat {
         return base.map(aDouble -> defaultValue(creature, stat, aDouble)).orElseGet(() -> mul * (add + creature.getStats().getMoveTypeValue(stat, creature.getMoveType())));
     }
 
+    public static double defaultValue(Creature creature, Stat stat) {
+        final double mul = creature.getStats().getMul(stat);
+        final double add = creature.getStats().getAdd(stat);
+        return mul * (add + creature.getStats().getMoveTypeValue(stat, creature.getMoveType()));
+    }
+
     public static double defaultValue(Creature creature, Stat stat, double baseValue) {
         final double mul = creature.getStats().getMul(stat);
         final double add = creature.getStats().getAdd(stat);
         return (baseValue * mul) + add + creature.getStats().getMoveTypeValue(stat, creature.getMoveType());
     }
 
-    public Double finalize(Creature creature, Optional<Double> baseValue) {
+    /**
+     * @param creature the creature owner of the stat
+     * @return the final value of the stat calculated by its finalizer
+     */
+    public double finalize(Creature creature) {
+        if(hasDefaultFinalizer) {
+            return defaultValue(creature, this);
+        }
+
         try {
-            return _valueFinalizer.calc(creature, baseValue, this);
+            return _valueFinalizer.calc(creature, Optional.empty(), this);
         } catch (Exception e) {
-            return defaultValue(creature, baseValue, this);
+            return defaultValue(creature, this);
         }
     }
 
+    /**
+     * The finalizers calculate the stat from the creature's own base values and don't accept an external base,
+     * so a stat with a given base value is always calculated by the default formula.
+     *
+     * @param creature the creature owner of the stat
+     * @param baseValue the base value of the stat
+     * @return the final value of the stat
+     */
+    public double finalize(Creature creature, double baseValue) {
+        return defaultValue(creature, this, baseValue);
+    }
+
     public double functionAdd(double oldValue, double value) {
-        return _addFunction.apply(oldValue, value);
+        return _addFunction.applyAsDouble(oldValue, value);
     }
 
     public double functionMul(double oldValue, double value) {
-        return _mulFunction.apply(oldValue, value);
+        return _mulFunction.applyAsDouble(oldValue, value);
     }
 
     public boolean hasDefaultFinalizer() {
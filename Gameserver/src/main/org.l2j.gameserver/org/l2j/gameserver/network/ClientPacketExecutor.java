@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.network;
+
+import io.github.joealisson.mmocore.PacketExecutor;
+import io.github.joealisson.mmocore.ReadablePacket;
+import org.l2j.commons.threading.PriorityThreadFactory;
+import org.l2j.gameserver.network.clientpackets.ClientPacket;
+import org.l2j.gameserver.settings.ServerSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Executes the client packets keeping the order of each client, while different clients run in parallel.
+ *
+ * Each client has its own {@link PacketQueue} drained by one thread at a time. The drain runs on the lane of the packet at
+ * the head of the queue, so movement and attacks are never waiting behind bypasses or warehouse operations of other clients.
+ *
+ * @author JoeAlisson
+ */
+public final class ClientPacketExecutor implements PacketExecutor<GameClient> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientPacketExecutor.class);
+
+    private static final int DRAIN_BATCH = 16;
+    private static final long[] HISTOGRAM_BOUNDS = { 100_000, 1_000_000, 10_000_000, 100_000_000 };
+    private static final String[] HISTOGRAM_NAMES = { "<100us", "<1ms", "<10ms", "<100ms", ">=100ms" };
+
+    private final Map<PacketLane, ThreadPoolExecutor> lanes = new EnumMap<>(PacketLane.class);
+    private final Map<Class<?>, PacketStats> packetStats = new ConcurrentHashMap<>();
+
+    private ClientPacketExecutor() {
+        lanes.put(PacketLane.CRITICAL, newLane("CriticalPacketPool", ServerSettings.criticalPacketPoolSize()));
+        lanes.put(PacketLane.NORMAL, newLane("PacketPool", ServerSettings.packetPoolSize()));
+        lanes.put(PacketLane.HEAVY, newLane("HeavyPacketPool", ServerSettings.heavyPacketPoolSize()));
+    }
+
+    private static ThreadPoolExecutor newLane(String name, int size) {
+        var executor = new ThreadPoolExecutor(size, size, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), new PriorityThreadFactory(name, Thread.NORM_PRIORITY));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Associates the packet class with the factory that created it, so its executions are accounted and laned by opcode.
+     */
+    void register(ClientPacket packet, PacketFactory factory) {
+        final var packetClass = packet.getClass();
+        if(!packetStats.containsKey(packetClass)) {
+            final var name = factory instanceof Enum<?> opcode ? opcode.name() : packetClass.getSimpleName();
+            packetStats.putIfAbsent(packetClass, new PacketStats(name, factory.lane()));
+        }
+    }
+
+    @Override
+    public void execute(ReadablePacket<GameClient> readablePacket) {
+        final var packet = (ClientPacket) readablePacket;
+        final var queue = packet.getSender().packetQueue();
+        queue.add(packet);
+        if(queue.schedule()) {
+            submit(queue, laneOf(packet));
+        }
+    }
+
+    private void submit(PacketQueue queue, PacketLane lane) {
+        lanes.get(lane).execute(() -> drain(queue, lane));
+    }
+
+    private void drain(PacketQueue queue, PacketLane lane) {
+        int executed = 0;
+        ClientPacket packet;
+        while ((packet = queue.peek()) != null) {
+            final var stats = statsOf(packet);
+            final var packetLane = isNull(stats) ? PacketLane.NORMAL : stats.lane;
+            if(packetLane != lane) {
+                submit(queue, packetLane);
+                return;
+            }
+
+            queue.poll();
+            run(packet, stats);
+
+            if(++executed == DRAIN_BATCH) {
+                // give room to other clients of this lane
+                submit(queue, lane);
+                return;
+            }
+        }
+
+        queue.unschedule();
+        if(!queue.isEmpty() && queue.schedule()) {
+            submit(queue, laneOf(queue.peek()));
+        }
+    }
+
+    private void run(ClientPacket packet, PacketStats stats) {
+        final long start = System.nanoTime();
+        try {
+            packet.run();
+        } catch (Throwable e) {
+            // the queue must keep draining, otherwise the client would never have another packet executed
+            LOGGER.error("Error while executing packet {} from client {}", packet, packet.getSender(), e);
+        }
+        if(nonNull(stats)) {
+            stats.record(System.nanoTime() - start);
+        }
+    }
+
+    private PacketLane laneOf(ClientPacket packet) {
+        final var stats = isNull(packet) ? null : statsOf(packet);
+        return isNull(stats) ? PacketLane.NORMAL : stats.lane;
+    }
+
+    private PacketStats statsOf(ClientPacket packet) {
+        return packetStats.get(packet.getClass());
+    }
+
+    public void shutdown() {
+        lanes.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    public CharSequence getStats() {
+        final var stats = new StringBuilder("Client Packet Executor\n")
+            .append("=================================================\n");
+        for (var entry : lanes.entrySet()) {
+            final var executor = entry.getValue();
+            stats.append('\t').append(entry.getKey()).append(": threads ").append(executor.getPoolSize()).append('/').append(executor.getMaximumPoolSize())
+                 .append(", active ").append(executor.getActiveCount()).append(", queued ").append(executor.getQueue().size()).append('\n');
+        }
+
+        stats.append("\tTop packets by time (count, avg us, max us, ").append(String.join(" ", HISTOGRAM_NAMES)).append(")\n");
+        packetStats.values().stream()
+                .filter(packet -> packet.count.sum() > 0)
+                .sorted(Comparator.comparingLong((PacketStats packet) -> packet.nanos.sum()).reversed())
+                .limit(20)
+                .forEach(packet -> packet.append(stats));
+        return stats;
+    }
+
+    public static ClientPacketExecutor getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static final class Singleton {
+        private static final ClientPacketExecutor INSTANCE = new ClientPacketExecutor();
+    }
+
+    private static final class PacketStats {
+        private final String name;
+        private final PacketLane lane;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_NAMES.length);
+
+        private PacketStats(String name, PacketLane lane) {
+            this.name = name;
+            this.lane = lane;
+        }
+
+        private void record(long elapsed) {
+            count.increment();
+            nanos.add(elapsed);
+            max.accumulateAndGet(elapsed, Math::max);
+            int bucket = 0;
+            while (bucket < HISTOGRAM_BOUNDS.length && elapsed >= HISTOGRAM_BOUNDS[bucket]) {
+                bucket++;
+            }
+            histogram.incrementAndGet(bucket);
+        }
+
+        private void append(StringBuilder builder) {
+            final long executions = count.sum();
+            builder.append("\t\t").append(name).append(" [").append(lane).append("]: ").append(executions)
+                   .append(", ").append(nanos.sum() / executions / 1000)
+                   .append(", ").append(max.get() / 1000).append(',');
+            for (int i = 0; i < histogram.length(); i++) {
+                builder.append(' ').append(histogram.get(i));
+            }
+            builder.append('\n');
+        }
+    }
+}
@@ -74,6 +74,7 @@ public class ClientPacketHandler implements PacketHandler<GameClient> {
             return null;
         }
 
+        ClientPacketExecutor.getInstance().register(packet, packetFactory);
         return packet;
     }
 
@@ -611,6 +611,17 @@ public enum ExIncomingPackets implements PacketFactory {
         return connectionStates;
     }
 
+    @Override
+    public PacketLane lane() {
+        return switch (this) {
+            case EX_REQUEST_COMMISSION_ITEM_LIST, EX_REQUEST_COMMISSION_INFO, EX_REQUEST_COMMISSION_REGISTER, EX_REQUEST_COMMISSION_CANCEL,
+                    EX_REQUEST_COMMISSION_DELETE, EX_REQUEST_COMMISSION_SEARCH, EX_REQUEST_COMMISSION_BUY_INFO, EX_REQUEST_COMMISSION_BUY_ITEM,
+                    EX_REQUEST_COMMISSION_REGISTERED_ITEM, EX_TRY_TO_MAKE_VARIATION -> PacketLane.HEAVY;
+
+            default -> PacketLane.NORMAL;
+        };
+    }
+
     record DynamicPacketFactory(Supplier<ClientPacket> supplier) implements PacketFactory {
 
         @Override
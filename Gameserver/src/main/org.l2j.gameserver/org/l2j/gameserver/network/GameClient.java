@@ -70,6 +70,7 @@ public final class GameClient extends Client<Connection<GameClient>> {
 
     private final ReentrantLock activeCharLock = new ReentrantLock();
     private final FloodProtectors floodProtectors = new FloodProtectors(this);
+    private final PacketQueue packetQueue = new PacketQueue();
 
     private final Crypt crypt;
     private SessionKey sessionKey;
@@ -179,6 +180,9 @@ public final class GameClient extends Client<Connection<GameClient>> {
         }
 
         writePacket(packet);
+        if(packet.isShared()) {
+            SharedPacketStats.onDelivery();
+        }
         packet.runImpl(player);
     }
 
@@ -186,6 +190,9 @@ public final class GameClient extends Client<Connection<GameClient>> {
         if(nonNull(packets)) {
             writePackets(List.of(packets));
             for (ServerPacket packet : packets) {
+                if(packet.isShared()) {
+                    SharedPacketStats.onDelivery();
+                }
                 packet.runImpl(player);
             }
         }
@@ -317,6 +324,10 @@ public final class GameClient extends Client<Connection<GameClient>> {
         this.hardwareInfo = hardwareInfo;
     }
 
+    PacketQueue packetQueue() {
+        return packetQueue;
+    }
+
     public ConnectionState getConnectionState() {
         return state;
     }
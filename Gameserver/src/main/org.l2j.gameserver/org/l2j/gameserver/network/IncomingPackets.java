@@ -294,4 +294,19 @@ public enum IncomingPackets implements PacketFactory {
         }
         return packetFactory;
     }
+
+    @Override
+    public PacketLane lane() {
+        return switch (this) {
+            case ATTACK, MOVE_TO_LOCATION, ACTION, USE_ITEM, MAGIC_SKILL_USE, CAN_NOT_MOVE_ANYMORE, TARGET_UNSELECTED, ICON_ACTION,
+                    VALIDATE_POSITION, START_ROTATING, FINISH_ROTATING -> PacketLane.CRITICAL;
+
+            case LOGOUT, RESTART, CHARACTER_CREATE, CHARACTER_DELETE, CHARACTER_SELECT, ENTER_WORLD, LINK_HTML, PASS_CMD_TO_SERVER,
+                    WRITE_BBS, SHOW_BOARD, SELL_LIST, BUY_LIST, BUY_PREVIEW_LIST, MULTI_SELL_CHOOSE, WAREHOUSE_DEPOSIT_LIST,
+                    WAREHOUSE_WITHDRAW_LIST, REQUEST_PACKAGE_SEND, CRYSTALLIZE_ITEM, PRIVATE_STORE_BUY_LIST_SEND,
+                    PRIVATE_STORE_BUY_BUY_LIST_SEND -> PacketLane.HEAVY;
+
+            default -> PacketLane.NORMAL;
+        };
+    }
 }
@@ -49,5 +49,9 @@ interface PacketFactory {
         return NULLABLE_PACKET_FACTORY;
     }
 
+    default PacketLane lane() {
+        return PacketLane.NORMAL;
+    }
+
 
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.network;
+
+/**
+ * The execution lanes of the client packets.
+ *
+ * @author JoeAlisson
+ */
+enum PacketLane {
+    /**
+     * Movement, attack, target and skill requests, which the client expects to see answered right away.
+     */
+    CRITICAL,
+    NORMAL,
+    /**
+     * Packets that usually touch the database or walk large structures, like bypasses, stores, warehouses and logins.
+     */
+    HEAVY
+}
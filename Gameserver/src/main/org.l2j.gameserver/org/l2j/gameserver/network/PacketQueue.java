@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.network;
+
+import org.l2j.gameserver.network.clientpackets.ClientPacket;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The packets of a client waiting to be executed, at most one thread drains it at a time so the packets run in the order they were received.
+ *
+ * @author JoeAlisson
+ */
+final class PacketQueue {
+
+    private final Queue<ClientPacket> packets = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    void add(ClientPacket packet) {
+        packets.add(packet);
+    }
+
+    ClientPacket peek() {
+        return packets.peek();
+    }
+
+    ClientPacket poll() {
+        return packets.poll();
+    }
+
+    boolean isEmpty() {
+        return packets.isEmpty();
+    }
+
+    /**
+     * @return true if the caller became the one responsible for draining the queue
+     */
+    boolean schedule() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void unschedule() {
+        scheduled.set(false);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.network;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the packets written once and shared among all the receivers of a broadcast.
+ *
+ * @author JoeAlisson
+ */
+public final class SharedPacketStats {
+
+    private static final LongAdder writes = new LongAdder();
+    private static final LongAdder writtenBytes = new LongAdder();
+    private static final LongAdder deliveries = new LongAdder();
+
+    private SharedPacketStats() {
+        // utility class
+    }
+
+    public static void onWrite(int size) {
+        writes.increment();
+        writtenBytes.add(size);
+    }
+
+    public static void onDelivery() {
+        deliveries.increment();
+    }
+
+    public static long encodesSaved() {
+        return Math.max(0, deliveries.sum() - writes.sum());
+    }
+
+    /**
+     * The packet size is only known after its single write, so the bytes saved are estimated by the average size of the shared packets.
+     *
+     * @return the estimated amount of bytes that were not encoded again
+     */
+    public static long bytesSaved() {
+        final var writeCount = writes.sum();
+        if(writeCount == 0) {
+            return 0;
+        }
+        return encodesSaved() * (writtenBytes.sum() / writeCount);
+    }
+
+    public static CharSequence getStats() {
+        return new StringBuilder("Shared Broadcast Packets\n")
+            .append("=================================================\n")
+            .append("\tShared Writes: ....... ").append(writes.sum()).append("\n")
+            .append("\tShared Deliveries: ... ").append(deliveries.sum()).append("\n")
+            .append("\tEncodes Saved: ....... ").append(encodesSaved()).append("\n")
+            .append("\tBytes Saved: ......... ").append(bytesSaved()).append("\n");
+    }
+}
@@ -56,6 +56,13 @@ public abstract class ClientPacket extends ReadablePacket<GameClient> {
         }
     }
 
+    /**
+     * @return the client that sent this packet
+     */
+    public GameClient getSender() {
+        return client;
+    }
+
     protected abstract void runImpl() throws Exception;
 
     protected abstract void readImpl() throws Exception;
@@ -72,6 +72,11 @@ public class Attack extends ServerPacket {
         return hitsWithShots;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         final Iterator<Hit> it = hits.iterator();
@@ -35,6 +35,11 @@ public class ChangeMoveType extends ServerPacket {
         _running = character.isRunning();
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.CHANGE_MOVE_TYPE, buffer );
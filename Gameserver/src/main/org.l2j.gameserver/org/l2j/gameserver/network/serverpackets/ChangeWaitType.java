@@ -42,6 +42,11 @@ public class ChangeWaitType extends ServerPacket {
         z = creature.getZ();
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.CHANGE_WAIT_TYPE, buffer );
@@ -103,6 +103,11 @@ public final class CreatureSay extends ServerPacket {
         npcStringParameters.add(text);
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.SAY2, buffer );
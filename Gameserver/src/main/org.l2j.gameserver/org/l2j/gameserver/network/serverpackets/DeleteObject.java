@@ -34,6 +34,11 @@ public final class DeleteObject extends ServerPacket {
         _objectId = objectId;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.DELETE_OBJECT, buffer );
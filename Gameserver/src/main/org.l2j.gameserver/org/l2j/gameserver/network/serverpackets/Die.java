@@ -66,6 +66,11 @@ public class Die extends ServerPacket {
     }
 
     
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.DIE, buffer );
@@ -40,6 +40,11 @@ public class DropItem extends ServerPacket {
         this.dropperId = dropperId;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.DROP_ITEM, buffer );
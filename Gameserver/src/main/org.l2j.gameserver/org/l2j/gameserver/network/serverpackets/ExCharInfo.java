@@ -53,6 +53,11 @@ public class ExCharInfo extends ServerPacket {
         dynamicSize += player.getEffectList().getCurrentAbnormalVisualEffects().size() * 2;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     protected void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerExPacketId.EX_CHAR_INFO, buffer );
@@ -34,6 +34,11 @@ public class ExRotation extends ServerPacket {
         _heading = heading;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerExPacketId.EX_ROTATION, buffer );
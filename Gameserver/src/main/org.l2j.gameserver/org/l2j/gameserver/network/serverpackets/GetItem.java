@@ -32,6 +32,11 @@ public final class GetItem extends ServerPacket {
         _playerId = playerId;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.GET_ITEM, buffer );
@@ -62,6 +62,11 @@ public class MagicSkillLaunched extends ServerPacket {
         this(cha, skillId, skillId, SkillCastingType.NORMAL, Collections.singletonList(cha));
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.MAGIC_SKILL_LAUNCHED, buffer );
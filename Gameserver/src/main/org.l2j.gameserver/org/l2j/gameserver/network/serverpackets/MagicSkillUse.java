@@ -85,6 +85,11 @@ public final class MagicSkillUse extends ServerPacket {
         this(cha, cha, SkillEngine.getInstance().getSkill(skillId, skillLevel), hitTime, reuseDelay, -1, SkillCastingType.NORMAL);
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.MAGIC_SKILL_USE, buffer );
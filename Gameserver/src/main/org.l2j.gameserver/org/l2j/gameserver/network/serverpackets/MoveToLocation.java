@@ -42,6 +42,11 @@ public final class MoveToLocation extends ServerPacket {
         _zDst = cha.getZdestination();
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.MOVE_TO_LOCATION, buffer );
@@ -47,6 +47,11 @@ public class MoveToPawn extends ServerPacket {
         _tz = target.getZ();
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.MOVE_TO_PAWN, buffer );
@@ -223,6 +223,11 @@ public class NpcInfo extends AbstractMaskPacket<NpcInfoType> {
         }
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.NPC_INFO, buffer );
@@ -106,6 +106,11 @@ public final class NpcSay extends ServerPacket {
         return this;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.NPC_SAY, buffer );
@@ -30,6 +30,11 @@ public final class Revive extends ServerPacket {
         _objectId = obj.getObjectId();
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.REVIVE, buffer );
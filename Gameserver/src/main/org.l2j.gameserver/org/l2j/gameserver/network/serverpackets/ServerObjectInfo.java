@@ -52,6 +52,11 @@ public final class ServerObjectInfo extends ServerPacket {
         _name = _activeChar.getTemplate().isUsingServerSideName() ? _activeChar.getTemplate().getName() : "";
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.SERVER_OBJECT_INFO, buffer );
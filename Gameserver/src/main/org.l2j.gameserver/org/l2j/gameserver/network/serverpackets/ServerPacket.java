@@ -27,6 +27,8 @@ import org.l2j.gameserver.model.interfaces.ILocational;
 import org.l2j.gameserver.network.GameClient;
 import org.l2j.gameserver.network.ServerExPacketId;
 import org.l2j.gameserver.network.ServerPacketId;
+import org.l2j.gameserver.network.SharedPacketStats;
+import org.l2j.gameserver.settings.ServerSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +48,8 @@ public abstract class ServerPacket extends WritablePacket<GameClient> {
         TWO_HAND
     };
 
+    private volatile boolean shared;
+
     public InventorySlot[] getPaperdollOrder() {
         return InventorySlot.cachedValues();
     }
@@ -64,10 +68,46 @@ public abstract class ServerPacket extends WritablePacket<GameClient> {
         player.sendPacket(this);
     }
 
+    /**
+     * Prepares this packet to be sent to many players.
+     *
+     * When the packet is client independent and there are enough receivers, its data is written only once
+     * and shared among all receivers before the encryption of each client.
+     *
+     * @param receivers the amount of players that can receive the packet
+     */
+    public void prepareBroadcast(int receivers) {
+        if(!shared && receivers >= ServerSettings.sharedBroadcastThreshold() && isClientIndependent()) {
+            shared = true;
+            sendInBroadcast(true);
+        }
+    }
+
+    /**
+     * Packets must opt in to the shared broadcast mode overriding this method.
+     *
+     * Only packets whose data doesn't depend on the {@link GameClient} receiving it, and that are not changed after being sent, can opt in.
+     *
+     * @return true if the packet data is the same to all clients
+     */
+    protected boolean isClientIndependent() {
+        return false;
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
     @Override
     protected boolean write(GameClient client, WritableBuffer buffer) {
         try {
-            writeImpl(client, buffer);
+            if(shared) {
+                final int start = buffer.position();
+                writeImpl(client, buffer);
+                SharedPacketStats.onWrite(buffer.position() - start);
+            } else {
+                writeImpl(client, buffer);
+            }
             return true;
         } catch (Exception e) {
             LOGGER.error("[{}] Error writing packet {} to client {}]]", GameServer.fullVersion, this, client, e);
@@ -38,6 +38,11 @@ public class Snoop extends ServerPacket {
         _msg = msg;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.SNOOP, buffer );
@@ -35,6 +35,11 @@ public class SocialAction extends ServerPacket {
         _actionId = actionId;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.SOCIAL_ACTION, buffer );
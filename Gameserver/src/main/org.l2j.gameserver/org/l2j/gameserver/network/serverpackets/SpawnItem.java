@@ -32,6 +32,11 @@ public final class SpawnItem extends ServerPacket {
         this.item = item;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.SPAWN_ITEM, buffer );
@@ -64,6 +64,11 @@ public final class StatusUpdate extends ServerPacket {
         return !updates.isEmpty();
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.STATUS_UPDATE, buffer );
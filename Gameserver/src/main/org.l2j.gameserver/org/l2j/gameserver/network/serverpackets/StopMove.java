@@ -41,6 +41,11 @@ public final class StopMove extends ServerPacket {
         heading = creature.getHeading();
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.STOP_MOVE, buffer );
@@ -198,6 +198,11 @@ public class SummonInfo extends AbstractMaskPacket<NpcInfoType> {
         }
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.SUMMON_INFO, buffer );
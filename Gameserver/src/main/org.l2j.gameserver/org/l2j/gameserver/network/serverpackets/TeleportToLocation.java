@@ -38,6 +38,11 @@ public final class TeleportToLocation extends ServerPacket {
         _heading = heading;
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.TELEPORT_TO_LOCATION, buffer );
@@ -33,6 +33,11 @@ public class ValidateLocation extends ServerPacket {
         _loc = obj.getLocation();
     }
 
+    @Override
+    protected boolean isClientIndependent() {
+        return true;
+    }
+
     @Override
     public void writeImpl(GameClient client, WritableBuffer buffer) {
         writeId(ServerPacketId.VALIDATE_LOCATION, buffer );
@@ -45,6 +45,11 @@ public class GeneralSettings {
     private static IllegalActionPunishmentType defaultPunishment;
     private static boolean disableChatInJail;
     private static int autoSavePlayerTime;
+    private static int playerSaveWriters;
+    private static int playerSaveQueueCapacity;
+    private static int itemJournalInterval;
+    private static int itemJournalMaxPending;
+    private static int missionStoreInterval;
     private static Duration saveDroppedItemInterval;
     private static boolean clearDroppedItems;
     private static boolean destroyPlayerDroppedItem;
@@ -73,6 +78,7 @@ public class GeneralSettings {
     private static int instanceFinishTime;
     private static boolean restoreInstance;
     private static int instanceEjectDeadTime;
+    private static int instancePoolMaxIdle;
     private static boolean allowWater;
     private static boolean allowFishing;
     private static boolean enableCommunity;
@@ -110,6 +116,11 @@ public class GeneralSettings {
         defaultPunishment = settingsFile.getEnum("DefaultPunish", IllegalActionPunishmentType.class, IllegalActionPunishmentType.KICK);
         disableChatInJail = settingsFile.getBoolean("JailDisableChat", true);
         autoSavePlayerTime = settingsFile.getInt("PlayerDataStoreInterval", 20);
+        playerSaveWriters = Math.max(1, settingsFile.getInt("PlayerDataStoreWriters", 2));
+        playerSaveQueueCapacity = Math.max(1, settingsFile.getInt("PlayerDataStoreQueueCapacity", 500));
+        itemJournalInterval = Math.max(0, settingsFile.getInt("ItemJournalInterval", 1000));
+        itemJournalMaxPending = Math.max(1, settingsFile.getInt("ItemJournalMaxPending", 2000));
+        missionStoreInterval = Math.max(0, settingsFile.getInt("MissionStoreInterval", 5000));
 
         skillCheckEnabled = settingsFile.getBoolean("SkillCheckEnable", false);
         noSpawn = settingsFile.getBoolean("AltDevNoSpawns", false);
@@ -140,6 +151,7 @@ public class GeneralSettings {
         instanceFinishTime = settingsFile.getInt("InstanceFinishTime", 5);
         restoreInstance = settingsFile.getBoolean("RestoreInstance", false);
         instanceEjectDeadTime = settingsFile.getInt("EjectDeadPlayerTime", 1);
+        instancePoolMaxIdle = settingsFile.getInt("InstancePoolMaxIdle", 8);
 
         allowWater = settingsFile.getBoolean("AllowWater", true);
         allowFishing = settingsFile.getBoolean("AllowFishing", true);
@@ -228,6 +240,26 @@ public class GeneralSettings {
         return autoSavePlayerTime;
     }
 
+    public static int playerSaveWriters() {
+        return playerSaveWriters;
+    }
+
+    public static int playerSaveQueueCapacity() {
+        return playerSaveQueueCapacity;
+    }
+
+    public static int itemJournalInterval() {
+        return itemJournalInterval;
+    }
+
+    public static int itemJournalMaxPending() {
+        return itemJournalMaxPending;
+    }
+
+    public static int missionStoreInterval() {
+        return missionStoreInterval;
+    }
+
     public static boolean skillCheckEnabled() {
         return skillCheckEnabled;
     }
@@ -308,6 +340,10 @@ public class GeneralSettings {
         return instanceEjectDeadTime;
     }
 
+    public static int instancePoolMaxIdle() {
+        return instancePoolMaxIdle;
+    }
+
     public static boolean allowWater() {
         return allowWater;
     }
@@ -61,6 +61,13 @@ public class ServerSettings {
     private static int maxPlayerPerHWID;
     private static int maxThreadPoolSize;
     private static int parallelismThreshold;
+    private static int movementPoolSize;
+    private static int movementBatchSize;
+    private static int sharedBroadcastThreshold;
+    private static boolean coalesceInfoBroadcast;
+    private static int criticalPacketPoolSize;
+    private static int packetPoolSize;
+    private static int heavyPacketPoolSize;
 
     private ServerSettings() {
         // helper class
@@ -88,6 +95,13 @@ public class ServerSettings {
         threadPoolSize = determinePoolSize(settingsFile, "ThreadPoolSize", processors);
         maxThreadPoolSize = determinePoolSize(settingsFile, "MaxThreadPoolSize", threadPoolSize * 10);
         parallelismThreshold = settingsFile.getInt("ParallelismThreshold", 1000);
+        movementPoolSize = determinePoolSize(settingsFile, "MovementThreadPoolSize", processors);
+        movementBatchSize = Math.max(1, settingsFile.getInt("MovementBatchSize", 64));
+        sharedBroadcastThreshold = Math.max(2, settingsFile.getInt("SharedBroadcastThreshold", 10));
+        coalesceInfoBroadcast = settingsFile.getBoolean("CoalesceInfoBroadcast", true);
+        criticalPacketPoolSize = determinePoolSize(settingsFile, "CriticalPacketThreadPoolSize", processors);
+        packetPoolSize = determinePoolSize(settingsFile, "PacketThreadPoolSize", processors);
+        heavyPacketPoolSize = determinePoolSize(settingsFile, "HeavyPacketThreadPoolSize", processors * 2);
         acceptedProtocols =  settingsFile.getIntArray("AllowedProtocolRevisions", ";");
 
         scheduleRestart = settingsFile.getBoolean("ServerRestartScheduleEnabled", false);
@@ -191,6 +205,34 @@ public class ServerSettings {
         return parallelismThreshold;
     }
 
+    public static int movementPoolSize() {
+        return movementPoolSize;
+    }
+
+    public static int movementBatchSize() {
+        return movementBatchSize;
+    }
+
+    public static int sharedBroadcastThreshold() {
+        return sharedBroadcastThreshold;
+    }
+
+    public static boolean coalesceInfoBroadcast() {
+        return coalesceInfoBroadcast;
+    }
+
+    public static int criticalPacketPoolSize() {
+        return criticalPacketPoolSize;
+    }
+
+    public static int packetPoolSize() {
+        return packetPoolSize;
+    }
+
+    public static int heavyPacketPoolSize() {
+        return heavyPacketPoolSize;
+    }
+
     public static int[] acceptedProtocols() {
         return acceptedProtocols;
     }
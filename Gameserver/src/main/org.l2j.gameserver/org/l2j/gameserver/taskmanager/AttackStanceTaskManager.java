@@ -18,16 +18,14 @@
  */
 package org.l2j.gameserver.taskmanager;
 
-import org.l2j.commons.threading.ThreadPool;
+import org.l2j.commons.threading.TimingWheel;
 import org.l2j.gameserver.model.actor.Creature;
 import org.l2j.gameserver.model.actor.Summon;
 import org.l2j.gameserver.network.serverpackets.AutoAttackStop;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.l2j.gameserver.util.GameUtils.isPlayer;
@@ -48,7 +46,6 @@ public class AttackStanceTaskManager {
      * Instantiates a new attack stance task manager.
      */
     private AttackStanceTaskManager() {
-        ThreadPool.scheduleAtFixedRate(new FightModeScheduler(), 0, 1000);
     }
 
     /**
@@ -57,8 +54,51 @@ public class AttackStanceTaskManager {
      * @param actor the actor
      */
     public void addAttackStanceTask(Creature actor) {
-        if (actor != null) {
-            _attackStanceTasks.put(actor, System.currentTimeMillis());
+        if (actor != null && _attackStanceTasks.put(actor, System.currentTimeMillis()) == null) {
+            scheduleCheck(actor, COMBAT_TIME);
+        }
+    }
+
+    private void scheduleCheck(Creature actor, long delay) {
+        TimingWheel.getInstance().schedule(() -> checkAttackStance(actor), delay);
+    }
+
+    /**
+     * Ends the attack stance when the actor has not attacked for {@link #COMBAT_TIME}, otherwise checks it again when it would expire.
+     *
+     * @param actor the actor
+     */
+    private void checkAttackStance(Creature actor) {
+        final Long lastAttack = _attackStanceTasks.get(actor);
+        if (lastAttack == null) {
+            return;
+        }
+
+        final long remaining = lastAttack + COMBAT_TIME - System.currentTimeMillis();
+        if (remaining >= 0) {
+            scheduleCheck(actor, remaining + 1);
+        } else if (_attackStanceTasks.remove(actor, lastAttack)) {
+            stopAttackStance(actor);
+        } else {
+            // renewed meanwhile
+            checkAttackStance(actor);
+        }
+    }
+
+    private void stopAttackStance(Creature actor) {
+        try {
+            actor.broadcastPacket(new AutoAttackStop(actor.getObjectId()));
+            actor.getAI().setAutoAttacking(false);
+            if (isPlayer(actor) && actor.hasSummon()) {
+                final Summon pet = actor.getPet();
+                if (pet != null) {
+                    pet.broadcastPacket(new AutoAttackStop(pet.getObjectId()));
+                }
+                actor.getServitors().values().forEach(s -> s.broadcastPacket(new AutoAttackStop(s.getObjectId())));
+            }
+        } catch (Exception e) {
+            // Unless caught here, players remain in attack positions.
+            LOGGER.warn("Error stopping attack stance: " + e.getMessage(), e);
         }
     }
 
@@ -99,37 +139,4 @@ public class AttackStanceTaskManager {
     private static class Singleton {
         private static final AttackStanceTaskManager INSTANCE = new AttackStanceTaskManager();
     }
-
-    protected class FightModeScheduler implements Runnable {
-        @Override
-        public void run() {
-            final long current = System.currentTimeMillis();
-            try {
-                final Iterator<Entry<Creature, Long>> iter = _attackStanceTasks.entrySet().iterator();
-                Entry<Creature, Long> e;
-                Creature actor;
-                while (iter.hasNext()) {
-                    e = iter.next();
-                    if ((current - e.getValue()) > COMBAT_TIME) {
-                        actor = e.getKey();
-                        if (actor != null) {
-                            actor.broadcastPacket(new AutoAttackStop(actor.getObjectId()));
-                            actor.getAI().setAutoAttacking(false);
-                            if (isPlayer(actor) && actor.hasSummon()) {
-                                final Summon pet = actor.getPet();
-                                if (pet != null) {
-                                    pet.broadcastPacket(new AutoAttackStop(pet.getObjectId()));
-                                }
-                                actor.getServitors().values().forEach(s -> s.broadcastPacket(new AutoAttackStop(s.getObjectId())));
-                            }
-                        }
-                        iter.remove();
-                    }
-                }
-            } catch (Exception e) {
-                // Unless caught here, players remain in attack positions.
-                LOGGER.warn("Error in FightModeScheduler: " + e.getMessage(), e);
-            }
-        }
-    }
 }
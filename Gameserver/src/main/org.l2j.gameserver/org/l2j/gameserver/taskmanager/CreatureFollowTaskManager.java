@@ -19,7 +19,8 @@
 package org.l2j.gameserver.taskmanager;
 
 
-import org.l2j.commons.threading.ThreadPool;
+import org.l2j.commons.threading.TimingWheel;
+import org.l2j.commons.threading.TimingWheel.Timeout;
 import org.l2j.commons.util.Rnd;
 import org.l2j.gameserver.ai.CreatureAI;
 import org.l2j.gameserver.model.WorldObject;
@@ -39,44 +40,28 @@ import static org.l2j.gameserver.util.MathUtil.isInsideRadius3D;
  */
 public class CreatureFollowTaskManager
 {
-    private static final Map<Creature, Integer> NORMAL_FOLLOW_CREATURES = new ConcurrentHashMap<>();
-    private static final Map<Creature, Integer> ATTACK_FOLLOW_CREATURES = new ConcurrentHashMap<>();
-    private static boolean _workingNormal = false;
-    private static boolean _workingAttack = false;
+    private static final long NORMAL_FOLLOW_INTERVAL = 1000;
+    private static final long ATTACK_FOLLOW_INTERVAL = 500;
+
+    private static final Map<Creature, Timeout> NORMAL_FOLLOW_CREATURES = new ConcurrentHashMap<>();
+    private static final Map<Creature, Timeout> ATTACK_FOLLOW_CREATURES = new ConcurrentHashMap<>();
 
     public CreatureFollowTaskManager()
     {
-        ThreadPool.scheduleAtFixedRate(() ->
-        {
-            if (_workingNormal)
-            {
-                return;
-            }
-            _workingNormal = true;
-
-            for (Map.Entry<Creature, Integer> entry : NORMAL_FOLLOW_CREATURES.entrySet())
-            {
-                follow(entry.getKey(), entry.getValue());
-            }
-
-            _workingNormal = false;
-        }, 1000, 1000);
+    }
 
-        ThreadPool.scheduleAtFixedRate(() ->
+    private Timeout scheduleFollow(Map<Creature, Timeout> follows, Creature creature, int range, long interval)
+    {
+        return TimingWheel.getInstance().schedule(timeout ->
         {
-            if (_workingAttack)
+            // only the task owning the entry keeps the chain, so a replaced follow never runs twice
+            if (follows.get(creature) != timeout)
             {
                 return;
             }
-            _workingAttack = true;
-
-            for (Map.Entry<Creature, Integer> entry : ATTACK_FOLLOW_CREATURES.entrySet())
-            {
-                follow(entry.getKey(), entry.getValue());
-            }
-
-            _workingAttack = false;
-        }, 500, 500);
+            follow(creature, range);
+            follows.computeIfPresent(creature, (c, current) -> current == timeout ? scheduleFollow(follows, c, range, interval) : current);
+        }, interval);
     }
 
     private void follow(Creature creature, int range)
@@ -126,17 +111,25 @@ public class CreatureFollowTaskManager
 
     public void addNormalFollow(Creature creature, int range)
     {
-        NORMAL_FOLLOW_CREATURES.putIfAbsent(creature, range);
+        NORMAL_FOLLOW_CREATURES.computeIfAbsent(creature, c -> scheduleFollow(NORMAL_FOLLOW_CREATURES, c, range, NORMAL_FOLLOW_INTERVAL));
     }
 
     public void addAttackFollow(Creature creature, int range)
     {
-        ATTACK_FOLLOW_CREATURES.putIfAbsent(creature, range);
+        ATTACK_FOLLOW_CREATURES.computeIfAbsent(creature, c -> scheduleFollow(ATTACK_FOLLOW_CREATURES, c, range, ATTACK_FOLLOW_INTERVAL));
     }
 
     public void remove(Creature creature) {
-        NORMAL_FOLLOW_CREATURES.remove(creature);
-        ATTACK_FOLLOW_CREATURES.remove(creature);
+        cancel(NORMAL_FOLLOW_CREATURES.remove(creature));
+        cancel(ATTACK_FOLLOW_CREATURES.remove(creature));
+    }
+
+    private void cancel(Timeout timeout)
+    {
+        if (timeout != null)
+        {
+            timeout.cancel();
+        }
     }
 
     public static CreatureFollowTaskManager getInstance()
@@ -18,7 +18,8 @@
  */
 package org.l2j.gameserver.taskmanager;
 
-import org.l2j.commons.threading.ThreadPool;
+import org.l2j.commons.threading.TimingWheel;
+import org.l2j.commons.threading.TimingWheel.Timeout;
 import org.l2j.gameserver.Config;
 import org.l2j.gameserver.model.actor.Attackable;
 import org.l2j.gameserver.model.actor.Creature;
@@ -34,22 +35,15 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class DecayTaskManager {
 
-    private static final Map<Creature, Long> DECAY_SCHEDULES = new ConcurrentHashMap<>();
+    private static final Map<Creature, Timeout> DECAY_SCHEDULES = new ConcurrentHashMap<>();
 
     private DecayTaskManager() {
-        ThreadPool.scheduleAtFixedRate(() ->
-        {
-            final long time = System.currentTimeMillis();
-            for (Entry<Creature, Long> entry : DECAY_SCHEDULES.entrySet())
-            {
-                if (time > entry.getValue())
-                {
-                    final Creature creature = entry.getKey();
-                    DECAY_SCHEDULES.remove(creature);
-                    creature.onDecay();
-                }
-            }
-        }, 0, 1000);
+    }
+
+    private void decay(Creature creature, Timeout timeout) {
+        if (DECAY_SCHEDULES.remove(creature, timeout)) {
+            creature.onDecay();
+        }
     }
 
     /**
@@ -76,7 +70,11 @@ public final class DecayTaskManager {
         }
 
 		// Add to decay schedules.
-		DECAY_SCHEDULES.put(character, System.currentTimeMillis() + (delay * 1000));
+		final Timeout previous = DECAY_SCHEDULES.put(character, TimingWheel.getInstance().schedule(timeout -> decay(character, timeout), delay * 1000));
+		if (previous != null)
+		{
+			previous.cancel();
+		}
     }
 
     /**
@@ -86,7 +84,11 @@ public final class DecayTaskManager {
      */
 	public void cancel(Creature creature)
 	{
-		DECAY_SCHEDULES.remove(creature);
+		final Timeout timeout = DECAY_SCHEDULES.remove(creature);
+		if (timeout != null)
+		{
+			timeout.cancel();
+		}
     }
 
     /**
@@ -97,8 +99,8 @@ public final class DecayTaskManager {
      */
 	public long getRemainingTime(Creature creature)
 	{
-		final Long time = DECAY_SCHEDULES.get(creature);
-		return time != null ? time - System.currentTimeMillis() : Long.MAX_VALUE;
+		final Timeout timeout = DECAY_SCHEDULES.get(creature);
+		return timeout != null ? timeout.remaining() : Long.MAX_VALUE;
     }
 
     @Override
@@ -112,15 +114,14 @@ public final class DecayTaskManager {
         ret.append("Tasks dump:");
         ret.append(System.lineSeparator());
 
-		final long time = System.currentTimeMillis();
-		for (Entry<Creature, Long> entry : DECAY_SCHEDULES.entrySet())
+		for (Entry<Creature, Timeout> entry : DECAY_SCHEDULES.entrySet())
 		{
             ret.append("Class/Name: ");
             ret.append(entry.getKey().getClass().getSimpleName());
             ret.append('/');
             ret.append(entry.getKey().getName());
             ret.append(" decay timer: ");
-			ret.append(entry.getValue() - time);
+			ret.append(entry.getValue().remaining());
             ret.append(System.lineSeparator());
         }
 
@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.taskmanager;
+
+import io.github.joealisson.primitive.HashIntMap;
+import io.github.joealisson.primitive.IntMap;
+import org.l2j.commons.threading.ThreadPool;
+import org.l2j.gameserver.enums.UserInfoType;
+import org.l2j.gameserver.model.actor.instance.Player;
+import org.l2j.gameserver.network.serverpackets.UserInfo;
+import org.l2j.gameserver.settings.ServerSettings;
+import org.l2j.gameserver.world.World;
+import org.l2j.gameserver.world.WorldTimeController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Coalesces the UserInfo and ExCharInfo updates of the players.
+ *
+ * The updates requested for a player are merged and sent once per world tick,
+ * so a player gets a single UserInfo with all the changed components and its known players a single ExCharInfo.
+ * The pending updates are partitioned by player, each partition is flushed on the thread pool.
+ * The updates of a teleporting player are kept until it appears, and the ones of a player no longer spawned are dropped.
+ *
+ * @author JoeAlisson
+ */
+public final class InfoUpdateTaskManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InfoUpdateTaskManager.class);
+    private static final int PARTITIONS = 8;
+
+    private final boolean enabled;
+    private final Partition[] partitions = new Partition[PARTITIONS];
+
+    private final LongAdder userInfoRequests = new LongAdder();
+    private final LongAdder userInfoSent = new LongAdder();
+    private final LongAdder charInfoRequests = new LongAdder();
+    private final LongAdder charInfoSent = new LongAdder();
+    private final LongAdder ticks = new LongAdder();
+
+    private InfoUpdateTaskManager() {
+        enabled = ServerSettings.coalesceInfoBroadcast();
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions[i] = new Partition();
+        }
+        if(enabled) {
+            ThreadPool.scheduleAtFixedRate(this::flush, WorldTimeController.MILLIS_IN_TICK, WorldTimeController.MILLIS_IN_TICK);
+        }
+    }
+
+    /**
+     * Requests an UserInfo with all components to the player and an ExCharInfo to its known players.
+     *
+     * @param player the player
+     */
+    public void requestUserInfo(Player player) {
+        userInfoRequests.increment();
+        charInfoRequests.increment();
+        if(!enabled) {
+            player.sendPacket(new UserInfo(player));
+            sendCharInfo(player);
+            return;
+        }
+
+        final var partition = partitionOf(player);
+        synchronized (partition) {
+            final var info = partition.pendingOf(player);
+            info.userInfo = true;
+            info.allComponents = true;
+            info.charInfo = true;
+        }
+    }
+
+    /**
+     * Requests an UserInfo with the components to the player and an ExCharInfo to its known players.
+     *
+     * @param player the player
+     * @param types the changed components
+     */
+    public void requestUserInfo(Player player, UserInfoType... types) {
+        userInfoRequests.increment();
+        charInfoRequests.increment();
+        if(!enabled) {
+            player.sendPacket(new UserInfo(player, types));
+            sendCharInfo(player);
+            return;
+        }
+
+        final var partition = partitionOf(player);
+        synchronized (partition) {
+            final var info = partition.pendingOf(player);
+            info.userInfo = true;
+            info.charInfo = true;
+            if(!info.allComponents && nonNull(types)) {
+                Collections.addAll(info.components, types);
+            }
+        }
+    }
+
+    /**
+     * Requests an ExCharInfo to the known players of the player.
+     *
+     * @param player the player
+     */
+    public void requestCharInfo(Player player) {
+        charInfoRequests.increment();
+        if(!enabled) {
+            sendCharInfo(player);
+            return;
+        }
+
+        final var partition = partitionOf(player);
+        synchronized (partition) {
+            partition.pendingOf(player).charInfo = true;
+        }
+    }
+
+    /**
+     * Drops the pending updates of the player.
+     *
+     * @param player the player leaving the world
+     */
+    public void remove(Player player) {
+        if(!enabled) {
+            return;
+        }
+
+        final var partition = partitionOf(player);
+        synchronized (partition) {
+            partition.pending.remove(player.getObjectId());
+        }
+    }
+
+    private Partition partitionOf(Player player) {
+        return partitions[Math.floorMod(player.getObjectId(), PARTITIONS)];
+    }
+
+    private void flush() {
+        boolean flushed = false;
+        for (var partition : partitions) {
+            final IntMap<PendingInfo> batch;
+            synchronized (partition) {
+                if(partition.pending.isEmpty()) {
+                    continue;
+                }
+                batch = partition.pending;
+                partition.pending = new HashIntMap<>();
+            }
+            flushed = true;
+            ThreadPool.execute(() -> send(partition, batch));
+        }
+
+        if(flushed) {
+            ticks.increment();
+        }
+    }
+
+    private void send(Partition partition, IntMap<PendingInfo> batch) {
+        for (var info : batch.values()) {
+            final var player = info.player;
+            try {
+                // the player has left the world, a teleporting one would be kept forever
+                if(World.getInstance().findPlayer(player.getObjectId()) != player) {
+                    continue;
+                }
+
+                if(player.isTeleporting()) {
+                    // the known players of the destination must see the player appearing first
+                    partition.retry(info);
+                } else if(player.isSpawned()) {
+                    send(info);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Could not send info update of {}", player, e);
+            }
+        }
+    }
+
+    private void send(PendingInfo info) {
+        final var player = info.player;
+        // offline traders have no client, but are still seen by others
+        if(info.userInfo && nonNull(player.getClient())) {
+            player.sendPacket(info.allComponents ? new UserInfo(player) : new UserInfo(player, info.components.toArray(UserInfoType[]::new)));
+            userInfoSent.increment();
+        }
+
+        if(info.charInfo) {
+            sendCharInfo(player);
+        }
+    }
+
+    private void sendCharInfo(Player player) {
+        player.sendCharInfoToKnownPlayers();
+        charInfoSent.increment();
+    }
+
+    public CharSequence getStats() {
+        int pendingCount = 0;
+        for (var partition : partitions) {
+            synchronized (partition) {
+                pendingCount += partition.pending.size();
+            }
+        }
+        final long userInfoCount = userInfoSent.sum();
+        final long charInfoCount = charInfoSent.sum();
+        return new StringBuilder("Info Updates\n")
+            .append("=================================================\n")
+            .append("\tEnabled: ............. ").append(enabled).append("\n")
+            .append("\tPending Players: ..... ").append(pendingCount).append("\n")
+            .append("\tTicks: ............... ").append(ticks.sum()).append("\n")
+            .append("\tUserInfo Requests: ... ").append(userInfoRequests.sum()).append("\n")
+            .append("\tUserInfo Sent: ....... ").append(userInfoCount).append("\n")
+            .append("\tUserInfo Suppressed: . ").append(Math.max(0, userInfoRequests.sum() - userInfoCount)).append("\n")
+            .append("\tCharInfo Requests: ... ").append(charInfoRequests.sum()).append("\n")
+            .append("\tCharInfo Sent: ....... ").append(charInfoCount).append("\n")
+            .append("\tCharInfo Suppressed: . ").append(Math.max(0, charInfoRequests.sum() - charInfoCount)).append("\n");
+    }
+
+    public static InfoUpdateTaskManager getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final InfoUpdateTaskManager INSTANCE = new InfoUpdateTaskManager();
+    }
+
+    private static final class Partition {
+        private IntMap<PendingInfo> pending = new HashIntMap<>();
+
+        private PendingInfo pendingOf(Player player) {
+            var info = pending.get(player.getObjectId());
+            if(isNull(info)) {
+                info = new PendingInfo(player);
+                pending.put(player.getObjectId(), info);
+            }
+            return info;
+        }
+
+        /**
+         * Puts back the updates of the player, merged with the ones requested meanwhile.
+         */
+        private synchronized void retry(PendingInfo info) {
+            final var current = pending.get(info.player.getObjectId());
+            if(isNull(current)) {
+                pending.put(info.player.getObjectId(), info);
+                return;
+            }
+            current.userInfo |= info.userInfo;
+            current.charInfo |= info.charInfo;
+            current.allComponents |= info.allComponents;
+            current.components.addAll(info.components);
+        }
+    }
+
+    private static final class PendingInfo {
+        private final Player player;
+        private final EnumSet<UserInfoType> components = EnumSet.noneOf(UserInfoType.class);
+        private boolean userInfo;
+        private boolean allComponents;
+        private boolean charInfo;
+
+        private PendingInfo(Player player) {
+            this.player = player;
+        }
+    }
+}
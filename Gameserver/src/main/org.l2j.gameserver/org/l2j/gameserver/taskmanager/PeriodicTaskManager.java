@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.taskmanager;
+
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.IntMap;
+import org.l2j.commons.threading.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the periodic tasks grouped in buckets by period, instead of a scheduled future for each task.
+ *
+ * Each bucket splits its period into slots and a single future processes one slot by tick, so every task runs once by period
+ * and a bucket with thousands of tasks is only one entry on the scheduler heap. The tick thread only collects the due tasks of the slot,
+ * they are executed in batches by the {@link ThreadPool}. A task still running when its slot is due again skips that execution.
+ *
+ * @author JoeAlisson
+ */
+public final class PeriodicTaskManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PeriodicTaskManager.class);
+    private static final int SLOT_MILLIS = 100;
+    private static final int BATCH_SIZE = 64;
+
+    private final IntMap<Bucket> buckets = new CHashIntMap<>();
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder tickNanos = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder overlapped = new LongAdder();
+    private final AtomicLong maxTickNanos = new AtomicLong();
+
+    private PeriodicTaskManager() {
+    }
+
+    /**
+     * Schedules the task to run periodically. The first execution happens after about one period.
+     *
+     * @param action the action to be executed
+     * @param period the period in milliseconds
+     * @return the task that can be used to cancel the execution
+     */
+    public PeriodicTask schedule(Runnable action, int period) {
+        final var bucket = buckets.computeIfAbsent(Math.max(SLOT_MILLIS, period), Bucket::new);
+        final var task = new PeriodicTask(bucket, action);
+        bucket.add(task);
+        scheduled.increment();
+        return task;
+    }
+
+    private void onTick(long nanos) {
+        ticks.increment();
+        tickNanos.add(nanos);
+        maxTickNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public CharSequence getStats() {
+        final long tickCount = ticks.sum();
+        int tasks = 0;
+        for (var bucket : buckets.values()) {
+            tasks += bucket.size.get();
+        }
+
+        final var sb = new StringBuilder("Periodic Tasks\n")
+            .append("=================================================\n")
+            .append("\tBuckets: ............. ").append(buckets.size()).append("\n")
+            .append("\tActive Tasks: ........ ").append(tasks).append("\n")
+            .append("\tFutures Removed: ..... ").append(Math.max(0, tasks - buckets.size())).append("\n")
+            .append("\tScheduled: ........... ").append(scheduled.sum()).append("\n")
+            .append("\tExecuted: ............ ").append(executed.sum()).append("\n")
+            .append("\tSkipped Overlaps: .... ").append(overlapped.sum()).append("\n")
+            .append("\tTicks: ............... ").append(tickCount).append("\n")
+            .append("\tAverage Tick (us): ... ").append(tickCount == 0 ? 0 : tickNanos.sum() / tickCount / 1000).append("\n")
+            .append("\tMax Tick (us): ....... ").append(maxTickNanos.get() / 1000).append("\n");
+
+        for (var bucket : buckets.values()) {
+            sb.append("\tPeriod ").append(bucket.period).append(" ms: ").append(bucket.size.get()).append(" tasks\n");
+        }
+        return sb;
+    }
+
+    public static PeriodicTaskManager getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final PeriodicTaskManager INSTANCE = new PeriodicTaskManager();
+    }
+
+    private static final class Bucket {
+        private final int period;
+        private final List<PeriodicTask>[] slots;
+        private final AtomicInteger size = new AtomicInteger();
+        private volatile int cursor;
+
+        @SuppressWarnings("unchecked")
+        private Bucket(int period) {
+            this.period = period;
+            slots = new List[period / SLOT_MILLIS];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = new ArrayList<>();
+            }
+            final long interval = period / slots.length;
+            ThreadPool.scheduleAtFixedRate(this::tick, interval, interval);
+        }
+
+        /**
+         * Links the task to the slot processed by the last tick, so it runs when the cursor gets back to it, after a whole period.
+         */
+        private void add(PeriodicTask task) {
+            final var slot = slots[cursor];
+            synchronized (slot) {
+                slot.add(task);
+            }
+            size.incrementAndGet();
+        }
+
+        private void tick() {
+            final long start = System.nanoTime();
+            final int index = cursor + 1 == slots.length ? 0 : cursor + 1;
+            cursor = index;
+
+            final PeriodicTask[] due;
+            final var slot = slots[index];
+            synchronized (slot) {
+                slot.removeIf(PeriodicTask::isCancelled);
+                due = slot.toArray(PeriodicTask[]::new);
+            }
+
+            for (int from = 0; from < due.length; from += BATCH_SIZE) {
+                final int batchStart = from;
+                final int batchEnd = Math.min(due.length, from + BATCH_SIZE);
+                ThreadPool.execute(() -> run(due, batchStart, batchEnd));
+            }
+            getInstance().onTick(System.nanoTime() - start);
+        }
+
+        private static void run(PeriodicTask[] tasks, int from, int to) {
+            for (int i = from; i < to; i++) {
+                tasks[i].run();
+            }
+        }
+    }
+
+    /**
+     * Handle to a task scheduled on the {@link PeriodicTaskManager}.
+     */
+    public static final class PeriodicTask {
+        private final Bucket bucket;
+        private final Runnable action;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private PeriodicTask(Bucket bucket, Runnable action) {
+            this.bucket = bucket;
+            this.action = action;
+        }
+
+        private void run() {
+            if (cancelled.get()) {
+                return;
+            }
+            if (!running.compareAndSet(false, true)) {
+                getInstance().overlapped.increment();
+                return;
+            }
+            try {
+                action.run();
+                getInstance().executed.increment();
+            } catch (Exception e) {
+                LOGGER.error("Error running periodic task of {} ms", bucket.period, e);
+            } finally {
+                running.set(false);
+            }
+        }
+
+        /**
+         * The task is unlinked from its bucket lazily, on the next time its slot is processed.
+         * A running execution is not interrupted.
+         *
+         * @return true if the task was active and will not be executed anymore
+         */
+        public boolean cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                bucket.size.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+}
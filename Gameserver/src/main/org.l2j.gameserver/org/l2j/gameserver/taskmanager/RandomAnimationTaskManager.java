@@ -18,13 +18,13 @@
  */
 package org.l2j.gameserver.taskmanager;
 
-import org.l2j.commons.threading.ThreadPool;
+import org.l2j.commons.threading.TimingWheel;
+import org.l2j.commons.threading.TimingWheel.Timeout;
 import org.l2j.commons.util.Rnd;
 import org.l2j.gameserver.model.actor.Npc;
 import org.l2j.gameserver.settings.GeneralSettings;
 
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -32,37 +32,44 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class RandomAnimationTaskManager
 {
-    private static final Map<Npc, Long> PENDING_ANIMATIONS = new ConcurrentHashMap<>();
+    private static final Map<Npc, Timeout> PENDING_ANIMATIONS = new ConcurrentHashMap<>();
 
     public RandomAnimationTaskManager()
     {
-        ThreadPool.scheduleAtFixedRate(() ->
+    }
+
+    private void animate(Npc npc, Timeout timeout)
+    {
+        if (PENDING_ANIMATIONS.get(npc) != timeout)
+        {
+            return;
+        }
+
+        if (npc.isInActiveRegion() && !npc.isDead() && !npc.isInCombat() && !npc.isMoving() && !npc.hasBlockActions())
         {
-            long time = System.currentTimeMillis();
-            for (Entry<Npc, Long> entry : PENDING_ANIMATIONS.entrySet())
-            {
-                if (time > entry.getValue())
-                {
-                    final Npc npc = entry.getKey();
-					if (npc.isInActiveRegion() && !npc.isDead() && !npc.isInCombat() && !npc.isMoving() && !npc.hasBlockActions())
-                    {
-                        npc.onRandomAnimation(Rnd.get(2, 3));
-                    }
-                    PENDING_ANIMATIONS.put(npc, time + GeneralSettings.randomNpcAnimation() * 1000L);
-                }
-            }
-        }, 0, 1000);
+            npc.onRandomAnimation(Rnd.get(2, 3));
+        }
+        PENDING_ANIMATIONS.computeIfPresent(npc, (n, current) -> current == timeout ? scheduleAnimation(n) : current);
+    }
+
+    private Timeout scheduleAnimation(Npc npc)
+    {
+        return TimingWheel.getInstance().schedule(timeout -> animate(npc, timeout), GeneralSettings.randomNpcAnimation() * 1000L);
     }
 
     public void add(Npc npc) {
         if (npc.hasRandomAnimation()) {
-            PENDING_ANIMATIONS.putIfAbsent(npc, System.currentTimeMillis() + GeneralSettings.randomNpcAnimation() * 1000L);
+            PENDING_ANIMATIONS.computeIfAbsent(npc, this::scheduleAnimation);
         }
     }
 
     public void remove(Npc npc)
     {
-        PENDING_ANIMATIONS.remove(npc);
+        final Timeout timeout = PENDING_ANIMATIONS.remove(npc);
+        if (timeout != null)
+        {
+            timeout.cancel();
+        }
     }
 
     public static RandomAnimationTaskManager getInstance()
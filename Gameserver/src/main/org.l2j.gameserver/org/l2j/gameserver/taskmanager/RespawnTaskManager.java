@@ -18,12 +18,12 @@
  */
 package org.l2j.gameserver.taskmanager;
 
-import org.l2j.commons.threading.ThreadPool;
+import org.l2j.commons.threading.TimingWheel;
+import org.l2j.commons.threading.TimingWheel.Timeout;
 import org.l2j.gameserver.model.Spawn;
 import org.l2j.gameserver.model.actor.Npc;
 
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -31,28 +31,29 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class RespawnTaskManager {
 
-	private static final Map<Npc, Long> PENDING_RESPAWNS = new ConcurrentHashMap<>();
+	private static final Map<Npc, Timeout> PENDING_RESPAWNS = new ConcurrentHashMap<>();
 
 	public RespawnTaskManager() {
-		ThreadPool.scheduleAtFixedRate(() -> {
-			final long time = System.currentTimeMillis();
+	}
 
-			for (Entry<Npc, Long> entry : PENDING_RESPAWNS.entrySet()) {
-				if (time > entry.getValue()) {
-				final Npc npc = entry.getKey();
-				PENDING_RESPAWNS.remove(npc);
-				final Spawn spawn = npc.getSpawn();
-				if (spawn != null) {
-					spawn.respawnNpc(npc);
-					spawn._scheduledCount--;
-				}
-			}
-		} }, 0, 1000);
+	private void respawn(Npc npc, Timeout timeout) {
+		if (!PENDING_RESPAWNS.remove(npc, timeout)) {
+			return;
+		}
+		final Spawn spawn = npc.getSpawn();
+		if (spawn != null) {
+			spawn.respawnNpc(npc);
+			spawn._scheduledCount--;
+		}
 	}
 
 	public void add(Npc npc, long time)
 	{
-		PENDING_RESPAWNS.put(npc, time);
+		final Timeout previous = PENDING_RESPAWNS.put(npc, TimingWheel.getInstance().schedule(timeout -> respawn(npc, timeout), time - System.currentTimeMillis()));
+		if (previous != null)
+		{
+			previous.cancel();
+		}
 	}
 	
 	public static RespawnTaskManager getInstance()
@@ -18,66 +18,205 @@
  */
 package org.l2j.gameserver.taskmanager;
 
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.IntMap;
+import org.l2j.commons.threading.PriorityThreadFactory;
 import org.l2j.commons.threading.ThreadPool;
 import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.settings.GeneralSettings;
+import org.l2j.gameserver.world.World;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static org.l2j.commons.util.Util.falseIfNullOrElse;
 
 /**
+ * Write-behind persistence of the online players.
+ *
+ * The due players are queued coalesced by object id and stored by a dedicated writer pool, so the scheduler thread never blocks on the database.
+ * When the queue is full the save is postponed to the next check.
+ *
  * @author JoeAlisson
  */
 public class SaveTaskManager {
 
-    private final Map<Player, Long> playerSaveStamp = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaveTaskManager.class);
+
+    private final IntMap<Long> playerSaveStamp = new CHashIntMap<>();
+    private final IntMap<Boolean> pending = new CHashIntMap<>();
+    private final Queue<Integer> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeWriters = new AtomicInteger();
+    private final ThreadPoolExecutor writers;
+
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder postponed = new LongAdder();
+    private final LongAdder saveNanos = new LongAdder();
+    private volatile long maxSaveNanos;
+
     private ScheduledFuture<?> scheduledTask;
+    private volatile boolean shutdown;
 
     private SaveTaskManager() {
+        final int writersCount = GeneralSettings.playerSaveWriters();
+        writers = new ThreadPoolExecutor(writersCount, writersCount, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new PriorityThreadFactory("PlayerSaveWriter", Thread.NORM_PRIORITY));
     }
 
-    public void registerPlayer(Player player) {
+    public synchronized void registerPlayer(Player player) {
         var scheduleTime = GeneralSettings.autoSavePlayerTime();
-        if(playerSaveStamp.isEmpty() && (isNull(scheduledTask) || scheduledTask.isDone())) {
-            scheduledTask = ThreadPool.scheduleAtFixedDelay(this::saveTask, scheduleTime, scheduleTime, TimeUnit.MINUTES);
+        if(scheduleTime <= 0 || shutdown) {
+            return;
         }
-        playerSaveStamp.put(player, nextSave(scheduleTime));
+
+        if(isNull(scheduledTask) || scheduledTask.isDone()) {
+            scheduledTask = ThreadPool.scheduleAtFixedDelay(this::enqueueDuePlayers, 1, 1, TimeUnit.MINUTES);
+        }
+        playerSaveStamp.put(player.getObjectId(), nextSave(scheduleTime));
     }
 
     protected long nextSave(int scheduleTime) {
         return System.currentTimeMillis() + Duration.ofMinutes(scheduleTime).toMillis();
     }
 
-    private void saveTask() {
+    private void enqueueDuePlayers() {
         final var now = System.currentTimeMillis();
         final var nextSave = nextSave(GeneralSettings.autoSavePlayerTime());
 
-        synchronized (playerSaveStamp) {
-            playerSaveStamp.entrySet().stream()
-                    .filter(entry -> falseIfNullOrElse(entry, e -> e.getValue() < now))
-                    .forEach(entry -> save(nextSave, entry));
+        for (var entry : playerSaveStamp.entrySet()) {
+            if(entry.getValue() < now && requestSave(entry.getKey())) {
+                entry.setValue(nextSave);
+            }
+        }
+    }
+
+    /**
+     * Queue the player to be stored by the writers.
+     * Requests to a player already queued are coalesced into a single save.
+     *
+     * @param objectId the object id of the player to be stored
+     * @return true if the player is queued to be saved
+     */
+    private boolean requestSave(int objectId) {
+        if(shutdown) {
+            return false;
+        }
+
+        if(pending.size() >= GeneralSettings.playerSaveQueueCapacity()) {
+            postponed.increment();
+            return false;
+        }
+
+        if(isNull(pending.putIfAbsent(objectId, Boolean.TRUE))) {
+            queue.offer(objectId);
+            startWriter();
         }
+        return true;
     }
 
-    private void save(long nextSave, Map.Entry<Player, Long> entry) {
-        entry.getKey().storeMe();
-        entry.setValue(nextSave);
+    private void startWriter() {
+        int active;
+        do {
+            active = activeWriters.get();
+            if(active >= writers.getMaximumPoolSize()) {
+                return;
+            }
+        } while (!activeWriters.compareAndSet(active, active + 1));
+
+        try {
+            writers.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            activeWriters.decrementAndGet();
+        }
+    }
+
+    private void flush() {
+        try {
+            Integer objectId;
+            while (nonNull(objectId = queue.poll())) {
+                pending.remove(objectId);
+                save(World.getInstance().findPlayer(objectId));
+            }
+        } finally {
+            activeWriters.decrementAndGet();
+        }
+
+        if(!queue.isEmpty()) {
+            startWriter();
+        }
+    }
+
+    private void save(Player player) {
+        if(isNull(player)) {
+            return;
+        }
+
+        final var start = System.nanoTime();
+        try {
+            player.storeMe();
+        } catch (Exception e) {
+            LOGGER.error("Could not store player {}", player, e);
+        }
+
+        final var elapsed = System.nanoTime() - start;
+        saves.increment();
+        saveNanos.add(elapsed);
+        if(elapsed > maxSaveNanos) {
+            maxSaveNanos = elapsed;
+        }
     }
 
     public void remove(Player player) {
-        playerSaveStamp.remove(player);
-        if(playerSaveStamp.isEmpty() && nonNull(scheduledTask) && !scheduledTask.isDone()) {
-            scheduledTask.cancel(false);
-            scheduledTask = null;
+        playerSaveStamp.remove(player.getObjectId());
+        pending.remove(player.getObjectId());
+        synchronized (this) {
+            if(playerSaveStamp.isEmpty() && nonNull(scheduledTask) && !scheduledTask.isDone()) {
+                scheduledTask.cancel(false);
+                scheduledTask = null;
+            }
+        }
+    }
+
+    /**
+     * Stop accepting new saves and wait the running ones.
+     * The queued saves are discarded, since every player is stored when disconnected on shutdown.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            if(nonNull(scheduledTask)) {
+                scheduledTask.cancel(false);
+                scheduledTask = null;
+            }
         }
+
+        queue.clear();
+        pending.clear();
+        writers.shutdown();
+        try {
+            if(!writers.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOGGER.warn("Player save writers didn't finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public CharSequence getStats() {
+        final long count = saves.sum();
+        return new StringBuilder("Player Save Queue\n")
+            .append("=================================================\n")
+            .append("\tQueue Depth: ......... ").append(pending.size()).append("\n")
+            .append("\tActive Writers: ...... ").append(activeWriters.get()).append("/").append(writers.getMaximumPoolSize()).append("\n")
+            .append("\tSaves: ............... ").append(count).append("\n")
+            .append("\tPostponed: ........... ").append(postponed.sum()).append("\n")
+            .append("\tAverage Save (ms): ... ").append(count == 0 ? 0 : saveNanos.sum() / count / 1_000_000).append("\n")
+            .append("\tMax Save (ms): ....... ").append(maxSaveNanos / 1_000_000).append("\n");
     }
 
     public static SaveTaskManager getInstance() {
@@ -25,6 +25,7 @@ import org.l2j.gameserver.network.serverpackets.CreatureSay;
 import org.l2j.gameserver.network.serverpackets.ExCharInfo;
 import org.l2j.gameserver.network.serverpackets.ExShowScreenMessage;
 import org.l2j.gameserver.network.serverpackets.ServerPacket;
+import org.l2j.gameserver.world.MapRegionManager;
 import org.l2j.gameserver.world.World;
 
 import java.util.function.Predicate;
@@ -44,6 +45,7 @@ public final class Broadcast {
      * @param packet
      */
     public static void toKnownPlayers(Creature creature, ServerPacket packet) {
+        packet.prepareBroadcast(World.getInstance().getPlayersCountInSurroundRegions(creature));
         World.getInstance().forEachVisibleObject(creature, Player.class, player -> {
             player.sendPacket(packet);
             if (packet instanceof ExCharInfo && creature instanceof Player broadcaster) {
@@ -68,6 +70,7 @@ public final class Broadcast {
             radius = 1500;
         }
 
+        mov.prepareBroadcast(World.getInstance().getPlayersCountInSurroundRegions(character));
         World.getInstance().forEachVisibleObjectInRange(character, Player.class, radius, mov::sendTo);
     }
 
@@ -81,6 +84,7 @@ public final class Broadcast {
      * @param mov
      */
     public static void toSelfAndKnownPlayers(Creature character, ServerPacket mov) {
+        mov.prepareBroadcast(World.getInstance().getPlayersCountInSurroundRegions(character));
         if (isPlayer(character)) {
             character.sendPacket(mov);
         }
@@ -97,6 +101,7 @@ public final class Broadcast {
             radius = 600;
         }
 
+        mov.prepareBroadcast(World.getInstance().getPlayersCountInSurroundRegions(character));
         if (isPlayer(character)) {
             character.sendPacket(mov);
         }
@@ -113,9 +118,31 @@ public final class Broadcast {
      * @param packets
      */
     public static void toAllOnlinePlayers(ServerPacket... packets) {
+        final var receivers = World.getInstance().getPlayers().size();
+        for (ServerPacket packet : packets) {
+            packet.prepareBroadcast(receivers);
+        }
         World.getInstance().forEachPlayer(p -> p.sendPackets(packets));
     }
 
+    /**
+     * Send a packet to the players located on the map region that pass the filter.<BR>
+     * The packet is written only once to all the receivers when possible.
+     *
+     * @param locId the map region loc id
+     * @param packet the packet to send
+     * @param filter the receivers filter
+     */
+    public static void toPlayersInMapRegion(int locId, ServerPacket packet, Predicate<Player> filter) {
+        final var players = MapRegionManager.getInstance().getPlayersInRegion(locId);
+        packet.prepareBroadcast(players.size());
+        for (var player : players) {
+            if (filter.test(player)) {
+                player.sendPacket(packet);
+            }
+        }
+    }
+
     public static void toAllOnlinePlayers(String text) {
         toAllOnlinePlayers(text, false);
     }
@@ -300,8 +300,8 @@ public class MinionList {
                 }
 
                 if (!_master.getAggroList().isEmpty()) {
-                    _minion.getAggroList().putAll(_master.getAggroList());
-                    _minion.getAI().setIntention(CtrlIntention.AI_INTENTION_ATTACK, _minion.getAggroList().keySet().stream().findFirst().get());
+                    _minion.getAggroList().addAll(_master.getAggroList());
+                    _minion.getAI().setIntention(CtrlIntention.AI_INTENTION_ATTACK, _minion.getAggroList().values().iterator().next().getAttacker());
                 }
             }
         }
@@ -18,6 +18,10 @@
  */
 package org.l2j.gameserver.world;
 
+import io.github.joealisson.primitive.CHashIntIntMap;
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.IntIntMap;
+import io.github.joealisson.primitive.IntMap;
 import org.l2j.gameserver.engine.clan.clanhall.ClanHallEngine;
 import org.l2j.gameserver.instancemanager.CastleManager;
 import org.l2j.gameserver.model.Location;
@@ -42,10 +46,12 @@ import org.w3c.dom.Node;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -62,7 +68,11 @@ public final class MapRegionManager extends GameXmlReader {
     private static final Logger LOGGER = LoggerFactory.getLogger(MapRegionManager.class);
 
     private final Map<String, MapRegion> regions = new HashMap<>();
+    private final IntMap<Set<Player>> regionPlayers = new CHashIntMap<>();
+    private final IntIntMap playerRegions = new CHashIntIntMap();
+    private final Object membershipLock = new Object();
     private final String defaultRespawn = "giran_castle_town";
+    private volatile MapRegion[][] tileRegions = new MapRegion[0][0];
 
     private MapRegionManager() {
     }
@@ -76,8 +86,22 @@ public final class MapRegionManager extends GameXmlReader {
     public void load() {
         regions.clear();
         parseDatapackDirectory("data/mapregion", false);
+        indexTiles();
         LOGGER.info("Loaded {} map regions.", regions.size());
         releaseResources();
+        World.getInstance().forEachPlayer(this::updatePlayerRegion);
+    }
+
+    private void indexTiles() {
+        final var tiles = new MapRegion[World.TILE_X_MAX - World.TILE_X_MIN + 1][World.TILE_Y_MAX - World.TILE_Y_MIN + 1];
+        for (int x = 0; x < tiles.length; x++) {
+            for (int y = 0; y < tiles[x].length; y++) {
+                final int tileX = x + World.TILE_X_MIN;
+                final int tileY = y + World.TILE_Y_MIN;
+                tiles[x][y] = regions.values().stream().filter(r -> r.isZoneInRegion(tileX, tileY)).findAny().orElse(null);
+            }
+        }
+        tileRegions = tiles;
     }
 
     @Override
@@ -130,9 +154,61 @@ public final class MapRegionManager extends GameXmlReader {
     }
 
     private MapRegion getMapRegion(int locX, int locY) {
-        var regionX = getMapRegionX(locX);
-        var regionY = getMapRegionY(locY);
-        return regions.values().stream().filter(r -> r.isZoneInRegion(regionX, regionY)).findAny().orElse(null);
+        final var tiles = tileRegions;
+        var tileX = getMapRegionX(locX) - World.TILE_X_MIN;
+        var tileY = getMapRegionY(locY) - World.TILE_Y_MIN;
+        if (tileX < 0 || tileX >= tiles.length || tileY < 0 || tileY >= tiles[tileX].length) {
+            return null;
+        }
+        return tiles[tileX][tileY];
+    }
+
+    /**
+     * Move the player to the members of the map region of its current location.<br>
+     * Called when the player enters the world or changes its world region.
+     *
+     * @param player the player
+     */
+    public void updatePlayerRegion(Player player) {
+        final int locId = getMapRegionLocId(player);
+        if (playerRegions.getOrDefault(player.getObjectId(), -1) == locId) {
+            return;
+        }
+
+        synchronized (membershipLock) {
+            final int previous = playerRegions.getOrDefault(player.getObjectId(), -1);
+            if (previous != -1) {
+                removeMember(previous, player);
+            }
+            playerRegions.put(player.getObjectId(), locId);
+            regionPlayers.computeIfAbsent(locId, id -> ConcurrentHashMap.newKeySet()).add(player);
+        }
+    }
+
+    public void removePlayer(Player player) {
+        synchronized (membershipLock) {
+            final int previous = playerRegions.getOrDefault(player.getObjectId(), -1);
+            if (previous != -1) {
+                playerRegions.remove(player.getObjectId());
+                removeMember(previous, player);
+            }
+        }
+    }
+
+    private void removeMember(int locId, Player player) {
+        final var players = regionPlayers.get(locId);
+        if (nonNull(players)) {
+            players.remove(player);
+        }
+    }
+
+    /**
+     * @param locId the map region loc id
+     * @return the online players located on the map region
+     */
+    public Set<Player> getPlayersInRegion(int locId) {
+        final var players = regionPlayers.get(locId);
+        return isNull(players) ? Collections.emptySet() : players;
     }
 
     public final int getMapRegionX(int posX) {
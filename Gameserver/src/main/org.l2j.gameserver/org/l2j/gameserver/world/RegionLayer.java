@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2019-2021 L2JOrg
+ *
+ * This file is part of the L2JOrg project.
+ *
+ * L2JOrg is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * L2JOrg is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.l2j.gameserver.world;
+
+import io.github.joealisson.primitive.CHashIntMap;
+import io.github.joealisson.primitive.IntMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Layer of regions of an instance world.
+ *
+ * An instance only uses the regions around its own area, so the regions are created when the first object needs it.
+ * The surrounding regions of a region are only the ones already created, since the others have no objects.
+ *
+ * @author JoeAlisson
+ */
+final class RegionLayer {
+
+    private final IntMap<WorldRegion> regions = new CHashIntMap<>();
+    private final int regionsY;
+
+    RegionLayer(int regionsY) {
+        this.regionsY = regionsY;
+    }
+
+    WorldRegion regionAt(int x, int y) {
+        final var region = regions.get(key(x, y));
+        return nonNull(region) ? region : createRegion(x, y);
+    }
+
+    private synchronized WorldRegion createRegion(int x, int y) {
+        var region = regions.get(key(x, y));
+        if(nonNull(region)) {
+            return region;
+        }
+
+        region = World.createRegion(x, y, this);
+        regions.put(key(x, y), region);
+
+        for (int i = x - 1; i <= x + 1; i++) {
+            for (int j = y - 1; j <= y + 1; j++) {
+                final var surrounding = regions.get(key(i, j));
+                if(nonNull(surrounding)) {
+                    linkSurroundingRegions(surrounding, i, j);
+                }
+            }
+        }
+        return region;
+    }
+
+    private void linkSurroundingRegions(WorldRegion region, int x, int y) {
+        final List<WorldRegion> surroundingRegions = new ArrayList<>(9);
+        for (int i = x - 1; i <= x + 1; i++) {
+            for (int j = y - 1; j <= y + 1; j++) {
+                final var surrounding = regions.get(key(i, j));
+                if(nonNull(surrounding)) {
+                    surroundingRegions.add(surrounding);
+                }
+            }
+        }
+        region.setSurroundingRegions(surroundingRegions.toArray(WorldRegion[]::new));
+    }
+
+    private int key(int x, int y) {
+        return x * (regionsY + 1) + y;
+    }
+}
@@ -108,6 +108,10 @@ public final class World {
     private final AtomicInteger memberInPartyNumber = new AtomicInteger();
 
     private final WorldRegion[][] regions = new WorldRegion[REGIONS_X + 1][REGIONS_Y + 1];
+    /**
+     * Map with the region layers of the instance worlds and their instance ID.
+     */
+    private final IntMap<RegionLayer> instanceLayers = new CHashIntMap<>();
 
     private World() {
     }
@@ -118,7 +122,7 @@ public final class World {
             for (int y = 0; y <= REGIONS_Y; y++) {
 
                 if(isNull(regions[x][y])) {
-                    regions[x][y] = new WorldRegion(x, y);
+                    regions[x][y] = createRegion(x, y, null);
                 }
 
                 List<WorldRegion> surroundingRegions = initSurroundingRegions(x, y);
@@ -129,6 +133,28 @@ public final class World {
         LOGGER.info("World Region Grid set up: {} by {}", REGIONS_X, REGIONS_Y);
     }
 
+    static WorldRegion createRegion(int x, int y, RegionLayer layer) {
+        return new WorldRegion(x, y, (x - OFFSET_X) << SHIFT_BY, (y - OFFSET_Y) << SHIFT_BY, 1 << SHIFT_BY, layer);
+    }
+
+    /**
+     * Creates the region layer of the instance world, so its objects don't share the regions with the other worlds.
+     *
+     * @param instanceId the instance world id
+     */
+    public void addInstanceLayer(int instanceId) {
+        instanceLayers.putIfAbsent(instanceId, new RegionLayer(REGIONS_Y));
+    }
+
+    /**
+     * Removes the region layer of the instance world, it must be called only after all objects leave the instance.
+     *
+     * @param instanceId the instance world id
+     */
+    public void removeInstanceLayer(int instanceId) {
+        instanceLayers.remove(instanceId);
+    }
+
     private List<WorldRegion> initSurroundingRegions(int rootX, int rootY) {
         List<WorldRegion> surroundingRegions = new ArrayList<>(9);
 
@@ -137,7 +163,7 @@ public final class World {
 
                 if ( x >= 0 && x <= REGIONS_X && y >= 0 && y <= REGIONS_Y) {
                     if(isNull(regions[x][y])) {
-                        regions[x][y] = new WorldRegion(x, y);
+                        regions[x][y] = createRegion(x, y, null);
                     }
                     surroundingRegions.add(regions[x][y]);
                 }
@@ -163,6 +189,8 @@ public final class World {
             Disconnection.of(existingPlayer).logout(false);
             Disconnection.of(player).logout(false);
             LOGGER.warn("Duplicate character!? Disconnected both characters {})", player);
+        } else {
+            MapRegionManager.getInstance().updatePlayerRegion(player);
         }
     }
 
@@ -182,6 +210,7 @@ public final class World {
 
         if (isPlayer(object)) {
             players.remove(object.getObjectId());
+            MapRegionManager.getInstance().removePlayer((Player) object);
         }
     }
 
@@ -349,6 +378,10 @@ public final class World {
             }
             newRegion.addVisibleObject(object);
             switchRegion(object, oldRegion, newRegion);
+
+            if (isPlayer(object)) {
+                MapRegionManager.getInstance().updatePlayerRegion((Player) object);
+            }
         }
     }
 
@@ -365,7 +398,7 @@ public final class World {
 
         if(nonNull(oldRegion)) {
             for (WorldRegion region : oldRegion.surroundingRegions()) {
-                if(!region.isSurroundingRegion(oldRegion)) {
+                if(!region.isSurroundingRegion(newRegion)) {
                     for (WorldObject other : region.objects()) {
                         if(!other.equals(object)) {
                             forgetEachOther(object, other);
@@ -413,7 +446,7 @@ public final class World {
             return includeReference && clazz.isInstance(reference) ? clazz.cast(reference) : null;
         }
 
-        return region.findAnyObjectInSurrounding(clazz, and(isVisibleInRange(reference, range, includeReference), filter));
+        return region.findAnyObjectInSurrounding(clazz, reference, range, and(isVisibleInRange(reference, range, includeReference), filter));
     }
 
     public <T extends WorldObject> T findFirstVisibleObject(WorldObject reference, Class<T> clazz, int range, boolean includeReference, Predicate<T> filter, Comparator<T> comparator) {
@@ -423,7 +456,7 @@ public final class World {
             return includeReference && clazz.isInstance(reference)? clazz.cast(reference) : null;
         }
 
-        return region.findFirstObjectInSurrounding(clazz, and(isVisibleInRange(reference, range, includeReference), filter), comparator);
+        return region.findFirstObjectInSurrounding(clazz, reference, range, and(isVisibleInRange(reference, range, includeReference), filter), comparator);
     }
 
     public boolean hasVisiblePlayer(WorldObject object) {
@@ -433,7 +466,7 @@ public final class World {
             return false;
         }
 
-        return region.hasObjectInSurrounding(Player.class, isVisibleInRange(object, PartySettings.partyRange(), false));
+        return region.hasObjectInSurrounding(Player.class, object, PartySettings.partyRange(), isVisibleInRange(object, PartySettings.partyRange(), false));
     }
 
     public <T extends WorldObject> boolean hasAnyVisibleObjectInRange(WorldObject reference, Class<T> clazz, int range, Predicate<T> filter) {
@@ -441,7 +474,7 @@ public final class World {
         if(isNull(region)) {
             return false;
         }
-        return region.hasObjectInSurrounding(clazz, and(isVisibleInRange(reference, range, false), filter));
+        return region.hasObjectInSurrounding(clazz, reference, range, and(isVisibleInRange(reference, range, false), filter));
     }
 
     public <T extends WorldObject> void forEachVisibleObject(WorldObject reference, Class<T> clazz, Consumer<T> action) {
@@ -465,7 +498,7 @@ public final class World {
             return Collections.emptyList();
         }
 
-        return region.findAllObjectsInSurrounding(clazz, and(isVisibleInRange(reference, range, false), filter));
+        return region.findAllObjectsInSurrounding(clazz, reference, range, and(isVisibleInRange(reference, range, false), filter));
     }
 
     public void forEachPlayerInRange(WorldObject reference, int range, Consumer<Player> action, Predicate<Player> filter) {
@@ -482,7 +515,7 @@ public final class World {
             return;
         }
 
-        region.forEachObjectInSurrounding(clazz, action, and(isVisibleInRange(reference, range, false), filter));
+        region.forEachObjectInSurrounding(clazz, reference, range, action, and(isVisibleInRange(reference, range, false), filter));
     }
 
     public <T extends WorldObject> void forVisibleObjectsInRange(WorldObject reference, Class<T> clazz, int range, int maxObjects, Predicate<T> filter, Consumer<? super T> action) {
@@ -495,7 +528,7 @@ public final class World {
             return;
         }
 
-        region.forEachObjectInSurroundingLimiting(clazz, maxObjects, and(isVisibleInRange(reference, range, includeReference), filter), action);
+        region.forEachObjectInSurroundingLimiting(clazz, reference, range, maxObjects, and(isVisibleInRange(reference, range, includeReference), filter), action);
     }
 
     public <T extends WorldObject> void forVisibleOrderedObjectsInRange(WorldObject reference, Class<T> clazz, int range, int maxObjects, Predicate<T> filter, Comparator<T> comparator, Consumer<? super T> action) {
@@ -505,7 +538,7 @@ public final class World {
             return;
         }
 
-        region.forEachOrderedObjectInSurrounding(clazz, maxObjects, comparator, and(isVisibleInRange(reference, range, false), filter), action);
+        region.forEachOrderedObjectInSurrounding(clazz, reference, range, maxObjects, comparator, and(isVisibleInRange(reference, range, false), filter), action);
     }
 
     public <T extends WorldObject> void forAnyVisibleObject(WorldObject reference, Class<T> clazz, Consumer<T> action, Predicate<T> filter) {
@@ -518,7 +551,7 @@ public final class World {
         if(isNull(region)) {
             return;
         }
-        region.forAnyObjectInSurrounding(clazz, action, and(isVisibleInRange(reference, range, false), filter));
+        region.forAnyObjectInSurrounding(clazz, reference, range, action, and(isVisibleInRange(reference, range, false), filter));
     }
 
     public <T extends WorldObject> boolean checkAnyVisibleObjectInRange(WorldObject reference, Class<T> clazz, int range, Predicate<T> filter) {
@@ -528,7 +561,7 @@ public final class World {
             return false;
         }
 
-        return region.hasObjectInSurrounding(clazz, and(isVisibleInRange(reference, range, false), filter));
+        return region.hasObjectInSurrounding(clazz, reference, range, and(isVisibleInRange(reference, range, false), filter));
     }
 
     /**
@@ -543,12 +576,20 @@ public final class World {
         if(isNull(object)) {
             return null;
         }
-        try {
-            return regions[(object.getX() >> SHIFT_BY) + OFFSET_X][(object.getY() >> SHIFT_BY) + OFFSET_Y];
-        } catch (ArrayIndexOutOfBoundsException e) { // Precaution. Moved at invalid region?
+
+        final int regionX = (object.getX() >> SHIFT_BY) + OFFSET_X;
+        final int regionY = (object.getY() >> SHIFT_BY) + OFFSET_Y;
+        if(regionX < 0 || regionX > REGIONS_X || regionY < 0 || regionY > REGIONS_Y) { // Precaution. Moved at invalid region?
             disposeOutOfBoundsObject(object);
             return null;
         }
+
+        final var instance = object.getInstanceWorld();
+        if(nonNull(instance)) {
+            final var layer = instanceLayers.get(instance.getId());
+            return nonNull(layer) ? layer.regionAt(regionX, regionY) : null;
+        }
+        return regions[regionX][regionY];
     }
 
     public WorldRegion getRegion(int x, int y) {
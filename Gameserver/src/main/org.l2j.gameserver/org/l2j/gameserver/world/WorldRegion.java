@@ -23,9 +23,12 @@ import io.github.joealisson.primitive.IntMap;
 import org.l2j.commons.threading.ThreadPool;
 import org.l2j.gameserver.Config;
 import org.l2j.gameserver.ai.CtrlIntention;
+import org.l2j.gameserver.engine.item.Item;
 import org.l2j.gameserver.model.WorldObject;
 import org.l2j.gameserver.model.actor.Attackable;
 import org.l2j.gameserver.model.actor.Npc;
+import org.l2j.gameserver.model.actor.instance.Player;
+import org.l2j.gameserver.model.interfaces.ILocational;
 import org.l2j.gameserver.settings.GeneralSettings;
 import org.l2j.gameserver.taskmanager.RandomAnimationTaskManager;
 import org.l2j.gameserver.util.MathUtil;
@@ -44,6 +47,7 @@ import java.util.stream.Stream;
 import static java.lang.Math.abs;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.l2j.gameserver.util.GameUtils.isItem;
 import static org.l2j.gameserver.util.GameUtils.isNpc;
 import static org.l2j.gameserver.util.GameUtils.isPlayer;
 
@@ -52,19 +56,34 @@ import static org.l2j.gameserver.util.GameUtils.isPlayer;
  */
 public final class WorldRegion {
 
+    static final int ANY_RANGE = -1;
+
     private final IntMap<WorldObject> objects = new CHashIntMap<>();
+    private final IntMap<WorldObject> players = new CHashIntMap<>();
+    private final IntMap<WorldObject> npcs = new CHashIntMap<>();
+    private final IntMap<WorldObject> items = new CHashIntMap<>();
     private final Object taskLocker = new Object();
     private final int regionX;
     private final int regionY;
+    private final int minX;
+    private final int minY;
+    private final int maxX;
+    private final int maxY;
+    private final RegionLayer layer;
 
-    private WorldRegion[] surroundingRegions;
+    private volatile WorldRegion[] surroundingRegions;
     private ScheduledFuture<?> neighborsTask = null;
     private boolean active;
     private final AtomicInteger playersInside = new AtomicInteger(0);
 
-    WorldRegion(int regionX, int regionY) {
+    WorldRegion(int regionX, int regionY, int minX, int minY, int size, RegionLayer layer) {
+        this.layer = layer;
         this.regionX = regionX;
         this.regionY = regionY;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = minX + size - 1;
+        this.maxY = minY + size - 1;
     }
 
     public void addVisibleObject(WorldObject object) {
@@ -72,6 +91,11 @@ public final class WorldRegion {
             return;
         }
 
+        final var bucket = bucketOf(object);
+        if(nonNull(bucket)) {
+            bucket.put(object.getObjectId(), object);
+        }
+
         if (isNull(objects.put(object.getObjectId(), object)) && isPlayer(object)) {
             // If this is the first player to enter the region, activate self and neighbors.
             playersInside.getAndIncrement();
@@ -162,6 +186,11 @@ public final class WorldRegion {
             return;
         }
 
+        final var bucket = bucketOf(object);
+        if(nonNull(bucket)) {
+            bucket.remove(object.getObjectId());
+        }
+
         if (nonNull(objects.remove(object.getObjectId())) && isPlayer(object)) {
             playersInside.getAndDecrement();
             if (areNeighborsEmpty()) {
@@ -180,9 +209,16 @@ public final class WorldRegion {
     }
 
     <T extends WorldObject> void forEachObjectInSurrounding(Class<T> clazz, Consumer<T> action, Predicate<T> filter) {
+        forEachObjectInSurrounding(clazz, null, ANY_RANGE, action, filter);
+    }
+
+    <T extends WorldObject> void forEachObjectInSurrounding(Class<T> clazz, ILocational center, int range, Consumer<T> action, Predicate<T> filter) {
         T casted;
         for (WorldRegion region : surroundingRegions) {
-            for (WorldObject object : region.objects.values()) {
+            if(region.isOutOfRange(center, range)) {
+                continue;
+            }
+            for (WorldObject object : region.objectsOf(clazz)) {
                 if(clazz.isInstance(object) && filter.test(casted = clazz.cast(object) )){
                     action.accept(casted);
                 }
@@ -190,11 +226,14 @@ public final class WorldRegion {
         }
     }
 
-    <T extends WorldObject> void forEachObjectInSurroundingLimiting(Class<T> clazz, int limit, Predicate<T> filter, Consumer<? super T> action) {
+    <T extends WorldObject> void forEachObjectInSurroundingLimiting(Class<T> clazz, ILocational center, int range, int limit, Predicate<T> filter, Consumer<? super T> action) {
         T casted;
         int accepted = 0;
         for (var region : surroundingRegions) {
-            for (var object : region.objects.values()) {
+            if(region.isOutOfRange(center, range)) {
+                continue;
+            }
+            for (var object : region.objectsOf(clazz)) {
                 if(clazz.isInstance(object) && filter.test(casted = clazz.cast(object) )){
                     action.accept(casted);
                     if(++accepted > limit) {
@@ -205,22 +244,18 @@ public final class WorldRegion {
         }
     }
 
-    <T extends WorldObject> void forEachOrderedObjectInSurrounding(Class<T> clazz, int maxObjects, Comparator<T> comparator, Predicate<T> filter, Consumer<? super T> action) {
-        filteredSurroundingObjects(clazz, filter).sorted(comparator).limit(maxObjects).forEach(action);
+    <T extends WorldObject> void forEachOrderedObjectInSurrounding(Class<T> clazz, ILocational center, int range, int maxObjects, Comparator<T> comparator, Predicate<T> filter, Consumer<? super T> action) {
+        filteredSurroundingObjects(clazz, center, range, filter).sorted(comparator).limit(maxObjects).forEach(action);
     }
 
-    private <T extends WorldObject> Stream<T> filteredSurroundingObjects(Class<T> clazz, Predicate<T> filter) {
-        return Arrays.stream(surroundingRegions).flatMap(r -> r.objects.values().stream()).filter(o -> applyInstanceFilter(o, clazz, filter)).map(clazz::cast);
+    private <T extends WorldObject> Stream<T> filteredSurroundingObjects(Class<T> clazz, ILocational center, int range, Predicate<T> filter) {
+        return Arrays.stream(surroundingRegions).filter(r -> !r.isOutOfRange(center, range)).flatMap(r -> r.objectsOf(clazz).stream()).filter(o -> applyInstanceFilter(o, clazz, filter)).map(clazz::cast);
     }
 
-    <T extends WorldObject> void forAnyObjectInSurrounding(Class<T> clazz, Consumer<T> action, Predicate<T> filter) {
-        for (WorldRegion region : surroundingRegions) {
-            for (WorldObject object : region.objects.values()) {
-                if(applyInstanceFilter(object, clazz, filter)) {
-                    action.accept(clazz.cast(object));
-                    return;
-                }
-            }
+    <T extends WorldObject> void forAnyObjectInSurrounding(Class<T> clazz, ILocational center, int range, Consumer<T> action, Predicate<T> filter) {
+        final var object = findAnyObjectInSurrounding(clazz, center, range, filter);
+        if(nonNull(object)) {
+            action.accept(object);
         }
     }
 
@@ -237,13 +272,16 @@ public final class WorldRegion {
         return null;
     }
 
-    <T extends WorldObject> List<T> findAllObjectsInSurrounding(Class<T> clazz, Predicate<T> filter) {
-        return filteredSurroundingObjects(clazz, filter).collect(Collectors.toList());
+    <T extends WorldObject> List<T> findAllObjectsInSurrounding(Class<T> clazz, ILocational center, int range, Predicate<T> filter) {
+        return filteredSurroundingObjects(clazz, center, range, filter).collect(Collectors.toList());
     }
 
-    <T extends WorldObject> T findAnyObjectInSurrounding(Class<T> clazz, Predicate<T> filter) {
+    <T extends WorldObject> T findAnyObjectInSurrounding(Class<T> clazz, ILocational center, int range, Predicate<T> filter) {
         for (WorldRegion region : surroundingRegions) {
-            for (WorldObject object : region.objects.values()) {
+            if(region.isOutOfRange(center, range)) {
+                continue;
+            }
+            for (WorldObject object : region.objectsOf(clazz)) {
                 if(applyInstanceFilter(object, clazz, filter)) {
                     return clazz.cast(object);
                 }
@@ -252,19 +290,54 @@ public final class WorldRegion {
         return null;
     }
 
-    <T extends WorldObject> T findFirstObjectInSurrounding(Class<T> clazz, Predicate<T> filter, Comparator<T> comparator) {
-        return filteredSurroundingObjects(clazz, filter).min(comparator).orElse(null);
+    <T extends WorldObject> T findFirstObjectInSurrounding(Class<T> clazz, ILocational center, int range, Predicate<T> filter, Comparator<T> comparator) {
+        return filteredSurroundingObjects(clazz, center, range, filter).min(comparator).orElse(null);
     }
 
-    <T extends WorldObject> boolean hasObjectInSurrounding(Class<T> clazz, Predicate<T> filter) {
-        for (WorldRegion region : surroundingRegions) {
-            for (WorldObject object : region.objects.values()) {
-                if(applyInstanceFilter(object, clazz, filter)) {
-                    return true;
-                }
-            }
+    <T extends WorldObject> boolean hasObjectInSurrounding(Class<T> clazz, ILocational center, int range, Predicate<T> filter) {
+        return nonNull(findAnyObjectInSurrounding(clazz, center, range, filter));
+    }
+
+    /**
+     * Checks if the circle with the given center and range doesn't overlap this region.
+     * Only the x and y axis are considered, so a region is never discarded when it could contain an object in range.
+     *
+     * @param center the center of the circle, when null the region is never out of range
+     * @param range the radius of the circle, when negative the region is never out of range
+     * @return true if no object of this region can be inside the circle
+     */
+    private boolean isOutOfRange(ILocational center, int range) {
+        if(isNull(center) || range < 0) {
+            return false;
+        }
+        final long dx = Math.max(0, Math.max(minX - center.getX(), center.getX() - maxX));
+        final long dy = Math.max(0, Math.max(minY - center.getY(), center.getY() - maxY));
+        return dx * dx + dy * dy > (long) range * range;
+    }
+
+    /**
+     * Selects the smallest bucket that can contain instances of the given class.
+     */
+    private Collection<WorldObject> objectsOf(Class<?> clazz) {
+        if(Player.class.isAssignableFrom(clazz)) {
+            return players.values();
+        } else if(Npc.class.isAssignableFrom(clazz)) {
+            return npcs.values();
+        } else if(Item.class.isAssignableFrom(clazz)) {
+            return items.values();
+        }
+        return objects.values();
+    }
+
+    private IntMap<WorldObject> bucketOf(WorldObject object) {
+        if(isPlayer(object)) {
+            return players;
+        } else if(isNpc(object)) {
+            return npcs;
+        } else if(isItem(object)) {
+            return items;
         }
-        return false;
+        return null;
     }
 
     WorldObject getObject(int objectId) {
@@ -293,7 +366,7 @@ public final class WorldRegion {
     }
 
     boolean isSurroundingRegion(WorldRegion region) {
-        return nonNull(region) && abs(regionX - region.regionX) <= 1 && abs(regionY - region.regionY) <= 1;
+        return nonNull(region) && region.layer == layer && abs(regionX - region.regionX) <= 1 && abs(regionY - region.regionY) <= 1;
     }
 
     public boolean isActive() {
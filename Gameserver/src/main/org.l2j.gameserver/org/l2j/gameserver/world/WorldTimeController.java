@@ -24,13 +24,18 @@ import org.l2j.gameserver.model.events.impl.server.OnDayNightChange;
 import org.l2j.gameserver.model.skills.CommonSkill;
 import org.l2j.gameserver.network.SystemMessageId;
 import org.l2j.gameserver.network.serverpackets.SystemMessage;
+import org.l2j.gameserver.settings.ServerSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.System.currentTimeMillis;
 
@@ -53,6 +58,16 @@ public final class WorldTimeController extends Thread {
     private final Set<Creature> movingObjects = ConcurrentHashMap.newKeySet();
     private final Set<Creature> shadowSenseCharacters = ConcurrentHashMap.newKeySet();
 
+    private final ForkJoinPool movementPool;
+    private final int movementBatchSize;
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong overrunTicks = new AtomicLong();
+    private final AtomicLong totalTickNanos = new AtomicLong();
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile int lastMovingCount;
+    private volatile int lastMovementTasks;
+
     private final long referenceTime;
     private volatile boolean shutdown = false;
 
@@ -61,6 +76,8 @@ public final class WorldTimeController extends Thread {
         setDaemon(true);
         setPriority(MAX_PRIORITY);
 
+        movementPool = new ForkJoinPool(ServerSettings.movementPoolSize(), ForkJoinPool.defaultForkJoinWorkerThreadFactory, (t, e) -> LOGGER.error(e.getLocalizedMessage(), e), false);
+        movementBatchSize = ServerSettings.movementBatchSize();
         referenceTime = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
@@ -110,6 +127,9 @@ public final class WorldTimeController extends Thread {
      * Move all L2Characters contained in movingObjects of GameTimeController.<BR>
      * <B><U> Concept</U> :</B><BR>
      * All Creature in movement are identified in <B>movingObjects</B> of GameTimeController.<BR>
+     * The moving creatures are partitioned by their {@link WorldRegion} and each partition is updated in parallel.
+     * A creature belongs to only one partition per tick and the tick only finishes when all partitions are done,
+     * so each creature is still updated once per tick, in tick order, by a single thread.<BR>
      * <B><U> Actions</U> :</B><BR>
      * <ul>
      * <li>Update the position of each Creature</li>
@@ -118,11 +138,77 @@ public final class WorldTimeController extends Thread {
      * </ul>
      */
     private void moveObjects() {
-        movingObjects.removeIf(Creature::updatePosition);
+        if(movingObjects.isEmpty()) {
+            lastMovingCount = 0;
+            lastMovementTasks = 0;
+            return;
+        }
+
+        final var tasks = partitionMovingObjects();
+        lastMovementTasks = tasks.size();
+
+        if(tasks.size() == 1) {
+            tasks.get(0).invoke();
+        } else {
+            movementPool.invoke(new MovementBatch(tasks));
+        }
+    }
+
+    private List<MovementTask> partitionMovingObjects() {
+        final Map<WorldRegion, List<Creature>> regions = new HashMap<>();
+        int count = 0;
+        for (Creature creature : movingObjects) {
+            regions.computeIfAbsent(creature.getWorldRegion(), r -> new ArrayList<>()).add(creature);
+            count++;
+        }
+        lastMovingCount = count;
+
+        final List<MovementTask> tasks = new ArrayList<>();
+        List<Creature> batch = new ArrayList<>(movementBatchSize);
+        for (List<Creature> creatures : regions.values()) {
+            batch.addAll(creatures);
+            if(batch.size() >= movementBatchSize) {
+                tasks.add(new MovementTask(batch));
+                batch = new ArrayList<>(movementBatchSize);
+            }
+        }
+
+        if(!batch.isEmpty()) {
+            tasks.add(new MovementTask(batch));
+        }
+        return tasks;
+    }
+
+    private void updateTickStats(long elapsed) {
+        ticks.incrementAndGet();
+        totalTickNanos.addAndGet(elapsed);
+        lastTickNanos = elapsed;
+        if(elapsed > maxTickNanos) {
+            maxTickNanos = elapsed;
+        }
+
+        if(elapsed > TimeUnit.MILLISECONDS.toNanos(MILLIS_IN_TICK)) {
+            overrunTicks.incrementAndGet();
+        }
+    }
+
+    public CharSequence getStats() {
+        final var tickCount = Math.max(1, ticks.get());
+        return new StringBuilder("Movement Ticks\n")
+            .append("=================================================\n")
+            .append("\tMoving Creatures: .... ").append(lastMovingCount).append("\n")
+            .append("\tMovement Tasks: ...... ").append(lastMovementTasks).append("\n")
+            .append("\tParallelism: ......... ").append(movementPool.getParallelism()).append("\n")
+            .append("\tTicks: ............... ").append(ticks.get()).append("\n")
+            .append("\tOverrun Ticks: ....... ").append(overrunTicks.get()).append("\n")
+            .append("\tLast Tick (us): ...... ").append(TimeUnit.NANOSECONDS.toMicros(lastTickNanos)).append("\n")
+            .append("\tAverage Tick (us): ... ").append(TimeUnit.NANOSECONDS.toMicros(totalTickNanos.get() / tickCount)).append("\n")
+            .append("\tMax Tick (us): ....... ").append(TimeUnit.NANOSECONDS.toMicros(maxTickNanos)).append("\n");
     }
 
     public final void stopTimer() {
         shutdown = true;
+        movementPool.shutdown();
     }
 
     @Override
@@ -136,11 +222,13 @@ public final class WorldTimeController extends Thread {
         while (!shutdown) {
             nextTickTime = ((currentTimeMillis() / MILLIS_IN_TICK) * MILLIS_IN_TICK) + 100;
 
+            final long start = System.nanoTime();
             try {
                 moveObjects();
             } catch (Throwable e) {
                 LOGGER.warn(e.getLocalizedMessage(), e);
             }
+            updateTickStats(System.nanoTime() - start);
 
             sleepTime = nextTickTime - currentTimeMillis();
             if (sleepTime > 0) {
@@ -183,6 +271,44 @@ public final class WorldTimeController extends Thread {
         }
     }
 
+    /**
+     * Updates the position of a batch of moving creatures.
+     * All creatures of a region are always in the same batch.
+     */
+    private final class MovementTask extends RecursiveAction {
+        private final List<Creature> creatures;
+
+        private MovementTask(List<Creature> creatures) {
+            this.creatures = creatures;
+        }
+
+        @Override
+        protected void compute() {
+            for (Creature creature : creatures) {
+                try {
+                    if (creature.updatePosition()) {
+                        movingObjects.remove(creature);
+                    }
+                } catch (Exception e) {
+                    LOGGER.warn("Could not update position of {}", creature, e);
+                }
+            }
+        }
+    }
+
+    private static final class MovementBatch extends RecursiveAction {
+        private final List<MovementTask> tasks;
+
+        private MovementBatch(List<MovementTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(tasks);
+        }
+    }
+
     public static WorldTimeController getInstance() {
         return Singleton.INSTANCE;
     }
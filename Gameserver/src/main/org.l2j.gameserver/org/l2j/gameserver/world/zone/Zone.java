@@ -109,8 +109,19 @@ public abstract class Zone extends ListenersContainer {
         return area.distanceFrom(object.getX(), object.getY());
     }
 
+    /**
+     * @return if the given height is within the zone, used when the plane position is known to be inside the zone
+     */
+    boolean isInsideHeight(int z) {
+        return z >= area.getLowZ() && z <= area.getHighZ();
+    }
+
     protected void revalidateInZone(Creature creature) {
-        if (isInsideZone(creature)) {
+        revalidateInZone(creature, isInsideZone(creature));
+    }
+
+    void revalidateInZone(Creature creature, boolean inside) {
+        if (inside) {
             if (!isAffected(creature)) {
                 return;
             }
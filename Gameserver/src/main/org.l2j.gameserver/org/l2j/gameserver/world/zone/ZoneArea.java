@@ -33,6 +33,11 @@ public interface ZoneArea {
 
     boolean intersectsRectangle(int x1, int x2, int y1, int y2);
 
+    /**
+     * @return true if every point of the rectangle, from (x1, y1) inclusive to (x2, y2) exclusive, is inside the zone plane
+     */
+    boolean containsRectangle(int x1, int x2, int y1, int y2);
+
     double distanceFrom(int x, int y);
 
     int getLowZ(); // Support for the ability to extract the z coordinates of zones.
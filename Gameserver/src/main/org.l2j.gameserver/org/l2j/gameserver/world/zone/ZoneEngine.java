@@ -64,7 +64,7 @@ public final class ZoneEngine extends GameXmlReader {
     private static final Logger LOGGER = LoggerFactory.getLogger(ZoneEngine.class);
     private static final Map<String, AbstractZoneSettings> SETTINGS = new HashMap<>();
 
-    private static final int SHIFT_BY = 15;
+    static final int SHIFT_BY = 15;
     private static final int OFFSET_X = Math.abs(World.MAP_MIN_X >> SHIFT_BY);
     private static final int OFFSET_Y = Math.abs(World.MAP_MIN_Y >> SHIFT_BY);
     public static final String MIN_Z = "min-z";
@@ -75,6 +75,7 @@ public final class ZoneEngine extends GameXmlReader {
     private final Map<String, ZoneFactory> factories = new HashMap<>();
     private final ZoneRegion[][] zoneRegions;
     private int lastDynamicId = 300000;
+    private boolean baked;
 
     private ZoneEngine() {
         var regionsX = (World.MAP_MAX_X >> SHIFT_BY) + OFFSET_X + 1;
@@ -82,7 +83,7 @@ public final class ZoneEngine extends GameXmlReader {
         zoneRegions = new ZoneRegion[regionsX][regionsY];
         for (var x = 0; x < regionsX; x++) {
             for (var y = 0; y < regionsY; y++) {
-                zoneRegions[x][y] = new ZoneRegion();
+                zoneRegions[x][y] = new ZoneRegion((x - OFFSET_X) << SHIFT_BY, (y - OFFSET_Y) << SHIFT_BY);
             }
         }
         LOGGER.info("Zone Region Grid set up: {} by {}", regionsX, regionsY);
@@ -106,6 +107,24 @@ public final class ZoneEngine extends GameXmlReader {
         LOGGER.info("Loaded {} zone classes and {} zones.", classZones.size(), getSize());
         LOGGER.info("Loaded {} NPC spawn territories.", spawnTerritories.size());
         releaseResources();
+        bakeRegions();
+    }
+
+    private void bakeRegions() {
+        final long start = System.currentTimeMillis();
+        long memory = 0;
+        int regions = 0;
+        for (ZoneRegion[] zoneRegion : zoneRegions) {
+            for (ZoneRegion region : zoneRegion) {
+                final long size = region.bake();
+                if (size > 0) {
+                    memory += size;
+                    regions++;
+                }
+            }
+        }
+        baked = true;
+        LOGGER.info("Baked zone grid of {} regions in {} ms using {} KB.", regions, System.currentTimeMillis() - start, memory / 1024);
     }
 
     @Override
@@ -205,6 +224,9 @@ public final class ZoneEngine extends GameXmlReader {
 
                 if (zone.getArea().intersectsRectangle(ax, bx, ay, by)) {
                     zoneRegions[x][y].registerZone(zone);
+                    if (baked) {
+                        zoneRegions[x][y].bake();
+                    }
                 }
             }
         }
@@ -350,6 +372,7 @@ public final class ZoneEngine extends GameXmlReader {
                 region.clear();
             }
         }
+        baked = false;
         LOGGER.info("Removed zones in regions.");
     }
 
@@ -432,14 +455,7 @@ public final class ZoneEngine extends GameXmlReader {
 
     public <T extends Zone> T findFirstZone(int x, int y, Class<T> zoneClass) {
         var region = getRegion(x, y);
-        if(region != null) {
-            for (Zone zone : region.getZones()) {
-                if(zoneClass.isInstance(zone) && zone.isInsideZone(x, y)) {
-                    return zoneClass.cast(zone);
-                }
-            }
-        }
-        return null;
+        return region != null ? region.findFirstZone(x, y, zoneClass) : null;
     }
 
     public <T extends Zone> T findFirstZone(ILocational loc, Class<T> zoneClass) {
@@ -448,14 +464,7 @@ public final class ZoneEngine extends GameXmlReader {
 
     public <T extends Zone> T findFirstZone(int x, int y, int z, Class<T> zoneClass) {
         var region = getRegion(x, y);
-        if(region != null) {
-            for (Zone zone : region.getZones()) {
-                if(zoneClass.isInstance(zone) && zone.isInsideZone(x, y, z)) {
-                    return zoneClass.cast(zone);
-                }
-            }
-        }
-        return null;
+        return region != null ? region.findFirstZone(x, y, z, zoneClass) : null;
     }
 
     public void forEachZone(ILocational loc, Consumer<Zone> action) {
@@ -469,24 +478,13 @@ public final class ZoneEngine extends GameXmlReader {
     public <T extends Zone> void forEachZone(int x, int y, int z, Class<T> zoneClass, Consumer<T> action) {
         var region = getRegion(x, y);
         if(region != null) {
-            for (Zone zone : region.getZones()) {
-                if(zoneClass.isInstance(zone) && zone.isInsideZone(x, y, z)) {
-                    action.accept(zoneClass.cast(zone));
-                }
-            }
+            region.forEachZone(x, y, z, zoneClass, action);
         }
     }
 
     public boolean anyZoneMatches(ILocational loc, Predicate<Zone> predicate) {
         var region = getRegion(loc.getX(), loc.getY());
-        if(region != null) {
-            for (Zone zone : region.getZones()) {
-                if(zone.isInsideZone(loc) && predicate.test(zone)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return region != null && region.anyZoneMatches(loc.getX(), loc.getY(), loc.getZ(), predicate);
     }
 
     /**
@@ -22,19 +22,42 @@ import org.l2j.gameserver.engine.skill.api.Skill;
 import org.l2j.gameserver.model.actor.Creature;
 import org.l2j.gameserver.world.zone.type.PeaceZone;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
+ * A region of the zone grid.
+ *
+ * The region is baked into cells where each zone is flagged as outside, inside or partially inside the cell,
+ * so only the zones crossing the cell border need the full area test.
+ *
  * @author Nos
  * @author JoeAlisson
  */
 public class ZoneRegion {
 
+    private static final int CELL_SHIFT = 8;
+    private static final int CELLS = 1 << (ZoneEngine.SHIFT_BY - CELL_SHIFT);
+
+    private static final byte OUTSIDE = 0;
+    private static final byte PARTIAL = 1;
+    private static final byte INSIDE = 2;
+
     private final List<Zone> zones = new ArrayList<>();
+    private final int minX;
+    private final int minY;
+    private volatile Grid grid;
 
-    List<Zone> getZones() {
-        return zones;
+    ZoneRegion(int minX, int minY) {
+        this.minX = minX;
+        this.minY = minY;
     }
 
     public void revalidateZones(Creature creature) {
@@ -42,8 +65,21 @@ public class ZoneRegion {
             return;
         }
 
-        for (Zone zone : zones) {
-            zone.revalidateInZone(creature);
+        final var grid = this.grid;
+        if (isNull(grid)) {
+            for (Zone zone : zones) {
+                zone.revalidateInZone(creature);
+            }
+            return;
+        }
+
+        final int x = creature.getX();
+        final int y = creature.getY();
+        final int z = creature.getZ();
+        final byte[] states = statesAt(grid, x, y);
+        for (int i = 0; i < grid.zones.length; i++) {
+            final Zone zone = grid.zones[i];
+            zone.revalidateInZone(creature, isInside(zone, states, i, x, y, z));
         }
     }
 
@@ -60,53 +96,229 @@ public class ZoneRegion {
         final int left = x + range;
         final int right = x - range;
 
-        for (Zone e : zones) {
-            if (e instanceof PeaceZone) {
-                if (e.isInsideZone(x, up, z)) {
-                    return false;
-                }
+        return !isInsidePeaceZone(x, up, z) && !isInsidePeaceZone(x, down, z) && !isInsidePeaceZone(left, y, z)
+            && !isInsidePeaceZone(right, y, z) && !isInsidePeaceZone(x, y, z);
+    }
 
-                if (e.isInsideZone(x, down, z)) {
-                    return false;
-                }
+    private boolean isInsidePeaceZone(int x, int y, int z) {
+        return findFirstZone(x, y, z, PeaceZone.class) != null;
+    }
 
-                if (e.isInsideZone(left, y, z)) {
-                    return false;
-                }
+    public void onDeath(Creature creature) {
+        forEachZone(creature.getX(), creature.getY(), creature.getZ(), Zone.class, zone -> zone.onDieInside(creature));
+    }
 
-                if (e.isInsideZone(right, y, z)) {
-                    return false;
+    public void onRevive(Creature creature) {
+        forEachZone(creature.getX(), creature.getY(), creature.getZ(), Zone.class, zone -> zone.onReviveInside(creature));
+    }
+
+    <T extends Zone> T findFirstZone(int x, int y, Class<T> zoneClass) {
+        final var grid = this.grid;
+        if (isNull(grid)) {
+            for (Zone zone : zones) {
+                if (zoneClass.isInstance(zone) && zone.isInsideZone(x, y)) {
+                    return zoneClass.cast(zone);
                 }
+            }
+            return null;
+        }
 
-                if (e.isInsideZone(x, y, z)) {
-                    return false;
+        final byte[] states = statesAt(grid, x, y);
+        for (int i = 0; i < grid.zones.length; i++) {
+            final Zone zone = grid.zones[i];
+            if (zoneClass.isInstance(zone) && isInsidePlane(zone, states, i, x, y)) {
+                return zoneClass.cast(zone);
+            }
+        }
+        return null;
+    }
+
+    <T extends Zone> T findFirstZone(int x, int y, int z, Class<T> zoneClass) {
+        final var grid = this.grid;
+        if (isNull(grid)) {
+            for (Zone zone : zones) {
+                if (zoneClass.isInstance(zone) && zone.isInsideZone(x, y, z)) {
+                    return zoneClass.cast(zone);
                 }
             }
+            return null;
+        }
+
+        final byte[] states = statesAt(grid, x, y);
+        for (int i = 0; i < grid.zones.length; i++) {
+            final Zone zone = grid.zones[i];
+            if (zoneClass.isInstance(zone) && isInside(zone, states, i, x, y, z)) {
+                return zoneClass.cast(zone);
+            }
         }
-        return true;
+        return null;
     }
 
-    public void onDeath(Creature creature) {
-        for (Zone zone : zones) {
-            if(zone.isInsideZone(creature)) {
-                zone.onDieInside(creature);
+    <T extends Zone> void forEachZone(int x, int y, int z, Class<T> zoneClass, Consumer<T> action) {
+        final var grid = this.grid;
+        if (isNull(grid)) {
+            for (Zone zone : zones) {
+                if (zoneClass.isInstance(zone) && zone.isInsideZone(x, y, z)) {
+                    action.accept(zoneClass.cast(zone));
+                }
+            }
+            return;
+        }
+
+        final byte[] states = statesAt(grid, x, y);
+        for (int i = 0; i < grid.zones.length; i++) {
+            final Zone zone = grid.zones[i];
+            if (zoneClass.isInstance(zone) && isInside(zone, states, i, x, y, z)) {
+                action.accept(zoneClass.cast(zone));
             }
         }
     }
 
-    public void onRevive(Creature creature) {
-        for (Zone zone : zones) {
-            if(zone.isInsideZone(creature)) {
-                zone.onReviveInside(creature);
+    boolean anyZoneMatches(int x, int y, int z, Predicate<Zone> predicate) {
+        final var grid = this.grid;
+        if (isNull(grid)) {
+            for (Zone zone : zones) {
+                if (zone.isInsideZone(x, y, z) && predicate.test(zone)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        final byte[] states = statesAt(grid, x, y);
+        for (int i = 0; i < grid.zones.length; i++) {
+            final Zone zone = grid.zones[i];
+            if (isInside(zone, states, i, x, y, z) && predicate.test(zone)) {
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * @return the zone states of the cell containing the coordinates or null when the coordinates are outside the region
+     */
+    private byte[] statesAt(Grid grid, int x, int y) {
+        final int cellX = (x - minX) >> CELL_SHIFT;
+        final int cellY = (y - minY) >> CELL_SHIFT;
+        if (cellX < 0 || cellX >= CELLS || cellY < 0 || cellY >= CELLS) {
+            return null;
+        }
+        return isNull(grid.index) ? grid.states[0] : grid.states[grid.index[cellX * CELLS + cellY]];
+    }
+
+    private static boolean isInside(Zone zone, byte[] states, int index, int x, int y, int z) {
+        if (isNull(states)) {
+            return zone.isInsideZone(x, y, z);
+        }
+        return switch (states[index]) {
+            case OUTSIDE -> false;
+            case INSIDE -> zone.isInsideHeight(z);
+            default -> zone.isInsideZone(x, y, z);
+        };
+    }
+
+    private static boolean isInsidePlane(Zone zone, byte[] states, int index, int x, int y) {
+        if (isNull(states)) {
+            return zone.isInsideZone(x, y);
+        }
+        return switch (states[index]) {
+            case OUTSIDE -> false;
+            case INSIDE -> true;
+            default -> zone.isInsideZone(x, y);
+        };
     }
 
     void registerZone(Zone zone) {
         zones.add(zone);
+        grid = null;
     }
 
     void clear() {
         zones.clear();
+        grid = null;
+    }
+
+    /**
+     * Bakes the zones of this region into the cell grid.
+     *
+     * @return the memory used by the grid in bytes
+     */
+    long bake() {
+        if (zones.isEmpty()) {
+            grid = null;
+            return 0;
+        }
+
+        final var bakedZones = zones.toArray(Zone[]::new);
+        final var zoneStates = new byte[bakedZones.length][CELLS * CELLS];
+        for (int i = 0; i < bakedZones.length; i++) {
+            classify(bakedZones[i].getArea(), zoneStates[i], 0, 0, CELLS);
+        }
+
+        final var uniqueStates = new HashMap<ByteBuffer, Short>();
+        final var cellStates = new ArrayList<byte[]>();
+        final var index = new short[CELLS * CELLS];
+        for (int cell = 0; cell < index.length; cell++) {
+            final var states = new byte[bakedZones.length];
+            for (int i = 0; i < bakedZones.length; i++) {
+                states[i] = zoneStates[i][cell];
+            }
+            final short stateIndex = uniqueStates.computeIfAbsent(ByteBuffer.wrap(states), k -> {
+                cellStates.add(states);
+                return (short) (cellStates.size() - 1);
+            });
+            index[cell] = stateIndex;
+        }
+
+        final var baked = new Grid(bakedZones, cellStates.toArray(byte[][]::new), cellStates.size() > 1 ? index : null);
+        grid = baked;
+        return baked.memorySize();
+    }
+
+    /**
+     * Classifies the area against a square block of cells, splitting the block only while it crosses the area border.
+     */
+    private void classify(ZoneArea area, byte[] states, int cellX, int cellY, int size) {
+        final int x1 = minX + (cellX << CELL_SHIFT);
+        final int y1 = minY + (cellY << CELL_SHIFT);
+        final int x2 = x1 + (size << CELL_SHIFT);
+        final int y2 = y1 + (size << CELL_SHIFT);
+
+        final byte state;
+        if (!area.intersectsRectangle(x1 - 1, x2 + 1, y1 - 1, y2 + 1)) {
+            state = OUTSIDE;
+        } else if (area.containsRectangle(x1, x2, y1, y2)) {
+            state = INSIDE;
+        } else if (size > 1) {
+            final int half = size >> 1;
+            classify(area, states, cellX, cellY, half);
+            classify(area, states, cellX + half, cellY, half);
+            classify(area, states, cellX, cellY + half, half);
+            classify(area, states, cellX + half, cellY + half, half);
+            return;
+        } else {
+            state = PARTIAL;
+        }
+
+        for (int x = cellX; x < cellX + size; x++) {
+            for (int y = cellY; y < cellY + size; y++) {
+                states[x * CELLS + y] = state;
+            }
+        }
+    }
+
+    private record Grid(Zone[] zones, byte[][] states, short[] index) {
+
+        long memorySize() {
+            long size = (long) zones.length * Integer.BYTES;
+            for (byte[] state : states) {
+                size += state.length;
+            }
+            if (nonNull(index)) {
+                size += (long) index.length * Short.BYTES;
+            }
+            return size;
+        }
     }
 }
@@ -60,6 +60,11 @@ public class ZoneCubeArea implements ZoneArea {
         return rectangle.intersects(Math.min(x1, x2), Math.min(y1, y2), Math.abs(x2 - x1), Math.abs(y2 - y1));
     }
 
+    @Override
+    public boolean containsRectangle(int x1, int x2, int y1, int y2) {
+        return rectangle.contains(x1, y1, x2 - x1, y2 - y1);
+    }
+
     @Override
     public double distanceFrom(int x, int y) {
         final int _x1 = rectangle.x;
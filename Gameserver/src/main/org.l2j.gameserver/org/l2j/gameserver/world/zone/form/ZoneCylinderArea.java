@@ -92,6 +92,11 @@ public class ZoneCylinderArea implements ZoneArea {
         return false;
     }
 
+    @Override
+    public boolean containsRectangle(int x1, int x2, int y1, int y2) {
+        return isInsideRadius(x1, y1) && isInsideRadius(x1, y2) && isInsideRadius(x2, y1) && isInsideRadius(x2, y2);
+    }
+
     @Override
     public double distanceFrom(int x, int y) {
         return Math.hypot(centerX - x, centerY - y) - radius;
@@ -54,6 +54,11 @@ public class ZonePolygonArea implements ZoneArea {
         return polygon.intersects(x1, y1, Math.abs(x2 - x1), Math.abs(y2 - y1));
     }
 
+    @Override
+    public boolean containsRectangle(int x1, int x2, int y1, int y2) {
+        return polygon.contains(x1, y1, x2 - x1, y2 - y1);
+    }
+
     @Override
     public double distanceFrom(int x, int y) {
         final int[] _x = polygon.xpoints;
@@ -81,63 +81,9 @@ CREATE TABLE IF NOT EXISTS `rankers_snapshot`
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8MB4;
 
-CREATE OR REPLACE VIEW rankers_race AS
-    WITH ranked_race  AS (
-        SELECT c.charId as id,
-               c.char_name as name,
-               c.exp,
-               c.level,
-               c.base_class as class,
-               c.race,
-
-               IFNULL((SELECT clan_name
-                       FROM clan_data clan
-                       WHERE clan.clan_id = c.clanid), ''
-                   ) as clan_name,
-
-               rank() over (
-                   PARTITION BY c.race
-                   ORDER BY c.exp desc, c.onlinetime desc
-                   ) as `rank`,
-
-               IFNULL(rs.`rank`, 0) as `rank_snapshot`,
-               IFNULL(rs.rank_race, 0) as `rank_race_snapshot`
-
-        from characters c LEFT JOIN rankers_snapshot rs on c.charId = rs.id
-        where c.level >= 76
-          AND c.accesslevel = 0
-          AND (c.base_class BETWEEN 88 AND 118 OR c.base_class IN (131, 134, 195))
-    )
-    SELECT * FROM ranked_race WHERE `rank` <= 100;
-
-CREATE OR REPLACE VIEW rankers AS
-SELECT c.charId as id,
-       c.char_name as name,
-       c.exp,
-       c.level,
-       c.base_class  as class,
-       c.race,
-       c.clanid  as clan_id,
-       IFNULL((SELECT clan_name
-                FROM clan_data clan
-                WHERE clan.clan_id = c.clanid), ''
-           ) as clan_name,
-
-       rank() over (w)  as `rank`,
-
-       (SELECT `rank`
-        FROM rankers_race r
-        WHERE r.id = c.charId
-             )  as `rank_race`,
-
-        IFNULL(rs.`rank`, 0) as `rank_snapshot`,
-        IFNULL(rs.rank_race, 0) as `rank_race_snapshot`
-
-FROM characters c LEFT JOIN rankers_snapshot rs on c.charId = rs.id
-WHERE c.level >= 76
-  AND c.accesslevel = 0
-  AND (c.base_class BETWEEN 88 AND 118 OR c.base_class IN (131, 134, 195))
-    WINDOW w as (ORDER BY c.exp desc, onlinetime desc );
+-- the ranking is computed by the server, see RankEngine
+DROP VIEW IF EXISTS rankers_race;
+DROP VIEW IF EXISTS rankers;
 
 CREATE TABLE  IF NOT EXISTS `rankers_history`
 (
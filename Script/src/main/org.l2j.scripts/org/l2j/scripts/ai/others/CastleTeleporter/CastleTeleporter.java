@@ -30,8 +30,8 @@ import org.l2j.gameserver.model.actor.instance.Player;
 import org.l2j.gameserver.model.entity.Siege;
 import org.l2j.gameserver.network.NpcStringId;
 import org.l2j.gameserver.network.serverpackets.NpcSay;
+import org.l2j.gameserver.util.Broadcast;
 import org.l2j.gameserver.world.MapRegionManager;
-import org.l2j.gameserver.world.World;
 import org.l2j.scripts.ai.AbstractNpcAI;
 
 import java.util.StringTokenizer;
@@ -161,13 +161,7 @@ public final class CastleTeleporter extends AbstractNpcAI
 				msg.addStringParameter(npc.getCastle().getName());
 				npc.getCastle().oustAllPlayers();
 				npc.setScriptValue(0);
-				for (Player pl : World.getInstance().getPlayers()) // TODO: Is it possible to get all the players for that region, instead of all players?
-				{
-					if (region == MapRegionManager.getInstance().getMapRegionLocId(pl))
-					{
-						pl.sendPacket(msg);
-					}
-				}
+				Broadcast.toPlayersInMapRegion(region, msg, pl -> true);
 				break;
 			}
 		}
@@ -22,6 +22,7 @@ import org.l2j.gameserver.data.database.dao.ItemDAO;
 import org.l2j.gameserver.data.database.dao.PlayerDAO;
 import org.l2j.gameserver.data.database.dao.ShortcutDAO;
 import org.l2j.gameserver.data.sql.impl.PlayerNameTable;
+import org.l2j.gameserver.engine.item.ItemJournal;
 import org.l2j.gameserver.handler.IAdminCommandHandler;
 import org.l2j.gameserver.model.actor.instance.Player;
 
@@ -54,6 +55,7 @@ public class AdminRepairChar implements IAdminCommandHandler {
 		var objectId = PlayerNameTable.getInstance().getIdByName(name);
 		getDAO(PlayerDAO.class).updateToValidLocation(objectId);
 		getDAO(ShortcutDAO.class).deleteFromPlayer(objectId);
+		ItemJournal.getInstance().flush();
 		getDAO(ItemDAO.class).updateToInventory(objectId);
 	}
 
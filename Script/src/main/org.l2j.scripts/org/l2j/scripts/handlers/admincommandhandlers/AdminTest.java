@@ -19,14 +19,28 @@
 package org.l2j.scripts.handlers.admincommandhandlers;
 
 import org.l2j.commons.threading.ThreadPool;
+import org.l2j.commons.threading.TimingWheel;
+import org.l2j.gameserver.engine.geo.GeoEngine;
+import org.l2j.gameserver.engine.item.ItemJournal;
+import org.l2j.gameserver.engine.mission.MissionEngine;
 import org.l2j.gameserver.engine.skill.api.Skill;
 import org.l2j.gameserver.engine.skill.api.SkillEngine;
 import org.l2j.gameserver.handler.IAdminCommandHandler;
+import org.l2j.gameserver.instancemanager.CommissionManager;
+import org.l2j.gameserver.instancemanager.InstanceManager;
 import org.l2j.gameserver.model.WorldObject;
 import org.l2j.gameserver.model.actor.Creature;
 import org.l2j.gameserver.model.actor.instance.Player;
+import org.l2j.gameserver.model.actor.instance.PlayerRestore;
+import org.l2j.gameserver.model.events.EventDispatcher;
+import org.l2j.gameserver.network.ClientPacketExecutor;
+import org.l2j.gameserver.network.SharedPacketStats;
 import org.l2j.gameserver.network.serverpackets.MagicSkillUse;
+import org.l2j.gameserver.taskmanager.InfoUpdateTaskManager;
+import org.l2j.gameserver.taskmanager.PeriodicTaskManager;
+import org.l2j.gameserver.taskmanager.SaveTaskManager;
 import org.l2j.gameserver.util.BuilderUtil;
+import org.l2j.gameserver.world.WorldTimeController;
 
 import java.util.NoSuchElementException;
 import java.util.StringTokenizer;
@@ -50,6 +64,20 @@ public class AdminTest implements IAdminCommandHandler
 		if (command.equals("admin_stats"))
 		{
 			activeChar.sendMessage(ThreadPool.getInstance().getStats().toString());
+			activeChar.sendMessage(TimingWheel.getInstance().getStats().toString());
+			activeChar.sendMessage(WorldTimeController.getInstance().getStats().toString());
+			activeChar.sendMessage(SharedPacketStats.getStats().toString());
+			activeChar.sendMessage(GeoEngine.getInstance().getStats().toString());
+			activeChar.sendMessage(SaveTaskManager.getInstance().getStats().toString());
+			activeChar.sendMessage(InstanceManager.getInstance().getPoolStats().toString());
+			activeChar.sendMessage(PeriodicTaskManager.getInstance().getStats().toString());
+			activeChar.sendMessage(ItemJournal.getInstance().getStats().toString());
+			activeChar.sendMessage(MissionEngine.getInstance().getStats().toString());
+			activeChar.sendMessage(EventDispatcher.getInstance().getStats().toString());
+			activeChar.sendMessage(CommissionManager.getInstance().getStats().toString());
+			activeChar.sendMessage(PlayerRestore.getStats().toString());
+			activeChar.sendMessage(ClientPacketExecutor.getInstance().getStats().toString());
+			activeChar.sendMessage(InfoUpdateTaskManager.getInstance().getStats().toString());
 		}
 		else if (command.startsWith("admin_skill_test"))
 		{
@@ -27,6 +27,7 @@ import org.l2j.gameserver.network.SystemMessageId;
 import org.l2j.gameserver.network.serverpackets.CreatureSay;
 import org.l2j.gameserver.network.serverpackets.SystemMessage;
 import org.l2j.gameserver.settings.ChatSettings;
+import org.l2j.gameserver.util.Broadcast;
 import org.l2j.gameserver.world.MapRegionManager;
 import org.l2j.gameserver.world.World;
 
@@ -54,12 +55,7 @@ public final class ChatShout implements IChatHandler {
 
 		if (ChatSettings.defaultGlobalChat().equalsIgnoreCase("ON") || (ChatSettings.defaultGlobalChat().equalsIgnoreCase("GM") && player.canOverrideCond(PcCondOverride.CHAT_CONDITIONS))) {
 			var region = MapRegionManager.getInstance().getMapRegionLocId(player);
-
-			World.getInstance().forEachPlayer(receiver -> {
-				if (region == MapRegionManager.getInstance().getMapRegionLocId(receiver) && !BlockList.isBlocked(receiver, player) && receiver.getInstanceId() == player.getInstanceId()) {
-					receiver.sendPacket(cs);
-				}
-			});
+			Broadcast.toPlayersInMapRegion(region, cs, receiver -> receiver.getInstanceId() == player.getInstanceId() && !BlockList.isBlocked(receiver, player));
 		}
 		else if (ChatSettings.defaultGlobalChat().equalsIgnoreCase("global")) {
 			if (!player.canOverrideCond(PcCondOverride.CHAT_CONDITIONS) && !player.getFloodProtectors().getGlobalChat().tryPerformAction("global chat")) {
@@ -67,6 +63,7 @@ public final class ChatShout implements IChatHandler {
 				return;
 			}
 
+			cs.prepareBroadcast(World.getInstance().getPlayers().size());
 			World.getInstance().forEachPlayer(receiver -> {
 				if (!BlockList.isBlocked(receiver, player)) {
 					receiver.sendPacket(cs);
@@ -21,21 +21,20 @@ package org.l2j.scripts.handlers.mission;
 import org.l2j.gameserver.data.database.data.MissionPlayerData;
 import org.l2j.gameserver.engine.mission.AbstractMissionHandler;
 import org.l2j.gameserver.engine.mission.MissionDataHolder;
+import org.l2j.gameserver.engine.mission.MissionEngine;
 import org.l2j.gameserver.engine.mission.MissionHandlerFactory;
 import org.l2j.gameserver.engine.mission.MissionStatus;
 import org.l2j.gameserver.model.CommandChannel;
 import org.l2j.gameserver.model.Party;
 import org.l2j.gameserver.model.actor.Attackable;
 import org.l2j.gameserver.model.actor.instance.Player;
-import org.l2j.gameserver.model.events.EventType;
-import org.l2j.gameserver.model.events.Listeners;
 import org.l2j.gameserver.model.events.impl.character.npc.OnAttackableKill;
-import org.l2j.gameserver.model.events.listeners.ConsumerEventListener;
 import org.l2j.gameserver.settings.PartySettings;
 import org.l2j.gameserver.util.MathUtil;
 
 import java.util.List;
-import java.util.function.Consumer;
+
+import static org.l2j.commons.util.Util.INT_ARRAY_EMPTY;
 
 /**
  * @author UnAfraid
@@ -54,7 +53,7 @@ public class BossMissionHandler extends AbstractMissionHandler
 	@Override
 	public void init()
 	{
-		Listeners.Monsters().addListener(new ConsumerEventListener(this, EventType.ON_ATTACKABLE_KILL, (Consumer<OnAttackableKill>) this::onAttackableKill, this));
+		MissionEngine.getInstance().registerKillMission(INT_ARRAY_EMPTY, this::onAttackableKill);
 	}
 
 	
@@ -21,20 +21,16 @@ package org.l2j.scripts.handlers.mission;
 import org.l2j.commons.util.Util;
 import org.l2j.gameserver.engine.mission.AbstractMissionHandler;
 import org.l2j.gameserver.engine.mission.MissionDataHolder;
+import org.l2j.gameserver.engine.mission.MissionEngine;
 import org.l2j.gameserver.engine.mission.MissionHandlerFactory;
 import org.l2j.gameserver.engine.mission.MissionStatus;
 import org.l2j.gameserver.model.actor.instance.Player;
-import org.l2j.gameserver.model.events.EventType;
-import org.l2j.gameserver.model.events.Listeners;
 import org.l2j.gameserver.model.events.impl.character.npc.OnAttackableKill;
-import org.l2j.gameserver.model.events.listeners.ConsumerEventListener;
 import org.l2j.gameserver.settings.PartySettings;
 import org.l2j.gameserver.util.MathUtil;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
 
@@ -45,7 +41,6 @@ public class HuntMissionHandler extends AbstractMissionHandler {
 
     private final int requiredLevel;
     private final int maxLevel;
-    private final List<Integer> monsters;
     private final int classLevel;
 
     private HuntMissionHandler(MissionDataHolder holder) {
@@ -53,21 +48,17 @@ public class HuntMissionHandler extends AbstractMissionHandler {
         requiredLevel = holder.getParams().getInt("minLevel", 0);
         maxLevel = holder.getParams().getInt("maxLevel", Byte.MAX_VALUE);
         classLevel = holder.getParams().getInt("classLevel", 0);
-        final String monsters = holder.getParams().getString("monsters", "");
-        this.monsters = Arrays.stream(monsters.split(" ")).filter(Util::isInteger).map(Integer::parseInt).collect(Collectors.toList());
     }
 
     @Override
     public void init() {
-        Listeners.Monsters().addListener(new ConsumerEventListener(this, EventType.ON_ATTACKABLE_KILL, (Consumer<OnAttackableKill>) this::onKill, this));
+        // called by the super constructor, so the monsters are parsed here
+        final String monsters = getHolder().getParams().getString("monsters", "");
+        MissionEngine.getInstance().registerKillMission(Arrays.stream(monsters.split(" ")).filter(Util::isInteger).mapToInt(Integer::parseInt).toArray(), this::onKill);
     }
 
     private void onKill(OnAttackableKill event) {
         var monster = event.getTarget();
-        if (!monsters.isEmpty() && !monsters.contains(monster.getId())) {
-            return;
-        }
-
         final var player = event.getAttacker();
 
         if(player.getLevel() < requiredLevel || player.getLevel() > maxLevel || (player.getLevel() - monster.getLevel() > 5) || player.getClassId().level() < classLevel) {